@@ -0,0 +1,71 @@
+package com.projectmanagement.benchmark;
+
+import com.projectmanagement.assignment.AssignmentIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory assignment lookups and intersections, with two of {@code managers} managers on each
+ * project.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AssignmentIndexBenchmark {
+
+    @Param({"10000", "500000"})
+    public int projects;
+
+    @Param({"10000"})
+    public int managers;
+
+    private AssignmentIndex index;
+    private long pmId;
+    private long otherPmId;
+    private long projectId;
+
+    @Setup
+    public void setUp() {
+        AssignmentIndex.Builder builder = AssignmentIndex.builder();
+        Random random = new Random(7);
+        for (long id = 1; id <= projects; id++) {
+            long first = 1 + random.nextInt(managers);
+            long second = 1 + (first + random.nextInt(managers - 1)) % managers;
+            builder.add(id, first).add(id, second);
+        }
+        index = builder.build();
+        pmId = 1;
+        otherPmId = 2;
+        projectId = projects / 2;
+    }
+
+    @Benchmark
+    public int projectCount() {
+        return index.projectCount(pmId);
+    }
+
+    @Benchmark
+    public long[] projectManagerIds() {
+        return index.projectManagerIds(projectId);
+    }
+
+    @Benchmark
+    public long[] sharedProjectIds() {
+        return index.sharedProjectIds(pmId, otherPmId);
+    }
+}
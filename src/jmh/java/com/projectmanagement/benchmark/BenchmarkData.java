@@ -0,0 +1,89 @@
+package com.projectmanagement.benchmark;
+
+import com.projectmanagement.entity.Project;
+import com.projectmanagement.entity.ProjectManager;
+import com.projectmanagement.entity.ProjectPriority;
+import com.projectmanagement.entity.ProjectStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic synthetic data shared by the benchmarks. Project {@code i} is assigned to
+ * {@code fanOut} consecutive managers starting at {@code i % managers}.
+ */
+final class BenchmarkData {
+
+    static final ProjectStatus[] STATUSES = ProjectStatus.values();
+    static final String[] CLIENTS = {"Acme Corp", "Beta Ltd", "Gamma Inc", "OldBank", "Digitech", "BigData"};
+    static final LocalDate FIRST_START_DATE = LocalDate.of(2020, 1, 1);
+
+    private BenchmarkData() {
+    }
+
+    static List<ProjectManager> managers(int count) {
+        List<ProjectManager> managers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ProjectManager pm = new ProjectManager();
+            pm.setId((long) i + 1);
+            pm.setName("Manager " + i);
+            pm.setEmail(email(i));
+            pm.setPhone("555-" + (1000 + i));
+            pm.setDepartment("Department " + (i % 5));
+            pm.setEmployeeId(employeeId(i));
+            pm.setIsActive(true);
+            pm.setCreatedAt(LocalDateTime.of(2024, 1, 1, 9, 0));
+            pm.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 9, 0));
+            managers.add(pm);
+        }
+        return managers;
+    }
+
+    static List<Project> projects(int count, List<ProjectManager> managers, int fanOut) {
+        List<Project> projects = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Project project = new Project();
+            project.setId((long) i + 1);
+            project.setName("Project " + i);
+            project.setDescription("Synthetic project number " + i + " used for benchmarking");
+            project.setProjectCode(projectCode(i));
+            project.setStatus(STATUSES[i % STATUSES.length]);
+            project.setPriority(ProjectPriority.values()[i % ProjectPriority.values().length]);
+            project.setStartDate(FIRST_START_DATE.plusDays(i % 1500));
+            project.setEstimatedEndDate(FIRST_START_DATE.plusDays(i % 1500 + 90));
+            project.setBudget(BigDecimal.valueOf(10_000 + i % 50_000, 2));
+            project.setActualCost(BigDecimal.valueOf(5_000 + i % 20_000, 2));
+            project.setClientName(CLIENTS[i % CLIENTS.length]);
+            project.setTechnologyStack("Spring,React");
+            project.setTeamSize(3 + i % 10);
+            project.setCompletionPercentage(i % 101);
+            project.setCreatedAt(LocalDateTime.of(2024, 1, 1, 9, 0).plusMinutes(i));
+            project.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 9, 0).plusMinutes(i));
+            project.setIsActive(true);
+            for (int j = 0; j < fanOut; j++) {
+                project.getProjectManagers().add(managers.get(managerIndex(i, j, managers.size())));
+            }
+            projects.add(project);
+        }
+        return projects;
+    }
+
+    static int managerIndex(int project, int assignment, int managers) {
+        return (project + assignment) % managers;
+    }
+
+    static String email(int manager) {
+        return "manager" + manager + "@company.com";
+    }
+
+    static String employeeId(int manager) {
+        return "EMP" + manager;
+    }
+
+    static String projectCode(int project) {
+        return "BEN" + project;
+    }
+}
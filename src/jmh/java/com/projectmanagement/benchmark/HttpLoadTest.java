@@ -0,0 +1,143 @@
+package com.projectmanagement.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+/**
+ * Closed-loop HTTP load test against a running instance: every client sends its next request
+ * as soon as the previous one completes. Prints throughput, error count and latency percentiles
+ * of the measurement window, so the platform-thread and virtual-thread request modes can be
+ * compared at the same concurrency. Start the service once per mode, e.g.
+ *
+ * <pre>
+ *   java -jar target/project-service-1.0.0.jar
+ *   VIRTUAL_THREADS_ENABLED=true java -jar target/project-service-1.0.0.jar   (built with -Pjava21)
+ * </pre>
+ *
+ * and run against each:
+ *
+ * <pre>
+ *   mvn -Pjmh -DskipTests test-compile exec:java -Dexec.classpathScope=test \
+ *       -Dexec.mainClass=com.projectmanagement.benchmark.HttpLoadTest \
+ *       -Dexec.args="http://localhost:8080/api/v1 1000 60 /projects/pm/1 /projects/1"
+ * </pre>
+ *
+ * Arguments: base URL, concurrent clients, measured seconds, then the paths to request in
+ * rotation. The first 10 seconds are a warmup and are not measured.
+ */
+public class HttpLoadTest {
+
+    private static final Duration WARMUP = Duration.ofSeconds(10);
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 4) {
+            System.err.println("Usage: HttpLoadTest <baseUrl> <clients> <seconds> <path>...");
+            System.exit(1);
+        }
+        String baseUrl = args[0];
+        int clients = Integer.parseInt(args[1]);
+        Duration measured = Duration.ofSeconds(Long.parseLong(args[2]));
+        List<URI> uris = Arrays.stream(args, 3, args.length).map(path -> URI.create(baseUrl + path)).toList();
+
+        HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+        long measureFrom = System.nanoTime() + WARMUP.toNanos();
+        long measureUntil = measureFrom + measured.toNanos();
+        AtomicLong errors = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(clients);
+        Client[] running = new Client[clients];
+        for (int i = 0; i < clients; i++) {
+            running[i] = new Client(httpClient, uris, i, measureFrom, measureUntil, errors, done);
+            running[i].next();
+        }
+        done.await();
+
+        long[] latencies = Arrays.stream(running).flatMapToLong(Client::latencies).sorted().toArray();
+        double seconds = measured.toNanos() / 1e9;
+        System.out.printf("clients=%d requests=%d errors=%d throughput=%.1f req/s%n",
+                          clients, latencies.length, errors.get(), latencies.length / seconds);
+        System.out.printf("latency ms: p50=%.2f p90=%.2f p99=%.2f p99.9=%.2f max=%.2f%n",
+                          percentile(latencies, 0.50), percentile(latencies, 0.90), percentile(latencies, 0.99),
+                          percentile(latencies, 0.999), percentile(latencies, 1.0));
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return Double.NaN;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    /**
+     * One client: a chain of requests, each sent when the previous one completes, so its
+     * latencies are only ever touched by one request at a time.
+     */
+    private static final class Client {
+
+        private final HttpClient httpClient;
+        private final List<URI> uris;
+        private final long measureFrom;
+        private final long measureUntil;
+        private final AtomicLong errors;
+        private final CountDownLatch done;
+        private int nextUri;
+        private long[] latencies = new long[1024];
+        private int count;
+
+        Client(HttpClient httpClient, List<URI> uris, int offset, long measureFrom, long measureUntil,
+               AtomicLong errors, CountDownLatch done) {
+            this.httpClient = httpClient;
+            this.uris = uris;
+            this.nextUri = offset % uris.size();
+            this.measureFrom = measureFrom;
+            this.measureUntil = measureUntil;
+            this.errors = errors;
+            this.done = done;
+        }
+
+        void next() {
+            long startedAt = System.nanoTime();
+            if (startedAt >= measureUntil) {
+                done.countDown();
+                return;
+            }
+            HttpRequest request = HttpRequest.newBuilder(uris.get(nextUri)).timeout(Duration.ofSeconds(30)).build();
+            nextUri = (nextUri + 1) % uris.size();
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, failure) -> {
+                    long finishedAt = System.nanoTime();
+                    if (startedAt >= measureFrom && finishedAt <= measureUntil) {
+                        if (failure != null || response.statusCode() >= 500) {
+                            errors.incrementAndGet();
+                        } else {
+                            record(finishedAt - startedAt);
+                        }
+                    }
+                    next();
+                });
+        }
+
+        private void record(long latency) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latency;
+        }
+
+        LongStream latencies() {
+            return Arrays.stream(latencies, 0, count);
+        }
+    }
+}
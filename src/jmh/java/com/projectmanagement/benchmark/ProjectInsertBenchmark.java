@@ -0,0 +1,138 @@
+package com.projectmanagement.benchmark;
+
+import com.projectmanagement.ProjectManagementServiceApplication;
+import com.projectmanagement.entity.Project;
+import com.projectmanagement.entity.ProjectManager;
+import jakarta.persistence.EntityManager;
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persisting new projects with their manager assignments through JPA, one transaction of
+ * {@code rows} projects per operation. With {@code database=mem} H2 runs in-process, so this
+ * measures Hibernate's own insert and ID allocation overhead; with {@code database=tcp} the same
+ * database is reached over a loopback socket, closer to a remote MySQL where every statement
+ * saved also saves a round trip.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+// Inserting is slow to warm up: Hibernate's insert paths and H2's index pages both settle late
+@Warmup(iterations = 15, time = 2)
+@Measurement(iterations = 10, time = 4)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProjectInsertBenchmark {
+
+    @Param({"1000"})
+    public int rows;
+
+    @Param({"50"})
+    public int managers;
+
+    @Param({"2"})
+    public int fanOut;
+
+    // tcp goes through H2's client driver over loopback, so every JDBC round trip costs a socket exchange
+    @Param({"mem", "tcp"})
+    public String database;
+
+    private Server server;
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private JdbcTemplate jdbcTemplate;
+    private List<Long> pmIds;
+    private long inserted;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        String url = "jdbc:h2:mem:jmh-insert;DB_CLOSE_DELAY=-1";
+        if (database.equals("tcp")) {
+            server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+            url = "jdbc:h2:tcp://localhost:" + server.getPort() + "/mem:jmh-insert;DB_CLOSE_DELAY=-1";
+        }
+        context = new SpringApplicationBuilder(ProjectManagementServiceApplication.class)
+            .web(WebApplicationType.NONE)
+            .profiles("test")
+            .run("--spring.datasource.url=" + url,
+                 "--spring.jpa.show-sql=false",
+                 "--logging.level.root=WARN",
+                 "--logging.level.com.projectmanagement=WARN",
+                 "--logging.level.org.hibernate.SQL=WARN",
+                 "--project.cache.enabled=false");
+        entityManager = context.getBean(EntityManager.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        pmIds = transactionTemplate.execute(tx -> {
+            List<Long> ids = new ArrayList<>();
+            for (ProjectManager pm : BenchmarkData.managers(managers)) {
+                pm.setId(null);
+                entityManager.persist(pm);
+                ids.add(pm.getId());
+            }
+            return ids;
+        });
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteProjects() {
+        jdbcTemplate.update("DELETE FROM project_manager_assignments");
+        jdbcTemplate.update("DELETE FROM projects");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @Benchmark
+    public int insertProjectsWithAssignments() {
+        return transactionTemplate.execute(tx -> {
+            for (int i = 0; i < rows; i++) {
+                long n = inserted++;
+                Project project = new Project();
+                project.setName("Inserted project " + n);
+                project.setProjectCode("INS" + n);
+                project.setDescription("Project inserted by the insert benchmark");
+                project.setStartDate(BenchmarkData.FIRST_START_DATE.plusDays(n % 1500));
+                project.setBudget(BigDecimal.valueOf(10_000 + n % 50_000, 2));
+                project.setClientName(BenchmarkData.CLIENTS[(int) (n % BenchmarkData.CLIENTS.length)]);
+                for (int j = 0; j < fanOut; j++) {
+                    Long pmId = pmIds.get(BenchmarkData.managerIndex((int) (n % managers), j, managers));
+                    project.getProjectManagers().add(entityManager.getReference(ProjectManager.class, pmId));
+                }
+                entityManager.persist(project);
+            }
+            entityManager.flush();
+            entityManager.clear();
+            return rows;
+        });
+    }
+}
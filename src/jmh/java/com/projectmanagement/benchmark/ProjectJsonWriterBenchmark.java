@@ -0,0 +1,73 @@
+package com.projectmanagement.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.projectmanagement.entity.Project;
+import com.projectmanagement.mapper.ProjectJsonWriter;
+import com.projectmanagement.mapper.ProjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entities to JSON bytes: mapping to DTOs and serializing them with Jackson, as the default
+ * list endpoints do, against writing the compact form straight from the entities. Run with
+ * {@code -prof gc} to compare allocation per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProjectJsonWriterBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int rows;
+
+    @Param({"2"})
+    public int fanOut;
+
+    private final ProjectMapper mapper = new ProjectMapper();
+    private ObjectWriter objectWriter;
+    private ProjectJsonWriter jsonWriter;
+    private List<Project> projects;
+    // Reused so both paths measure producing the bytes rather than growing a buffer for them
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(1 << 20);
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        objectWriter = objectMapper.writer();
+        jsonWriter = new ProjectJsonWriter(objectMapper);
+        projects = BenchmarkData.projects(rows, BenchmarkData.managers(50), fanOut);
+    }
+
+    @Benchmark
+    public int mapAndSerialize() throws IOException {
+        out.reset();
+        objectWriter.writeValue(out, mapper.toProjectDTOList(projects));
+        return out.size();
+    }
+
+    @Benchmark
+    public int writeCompact() throws IOException {
+        out.reset();
+        jsonWriter.writeCompact(projects, out);
+        return out.size();
+    }
+}
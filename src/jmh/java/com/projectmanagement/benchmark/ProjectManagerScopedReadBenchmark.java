@@ -0,0 +1,155 @@
+package com.projectmanagement.benchmark;
+
+import com.projectmanagement.ProjectManagementServiceApplication;
+import com.projectmanagement.assignment.ProjectAssignmentGraph;
+import com.projectmanagement.directory.ProjectManagerRegistry;
+import com.projectmanagement.dto.ProjectDTO;
+import com.projectmanagement.entity.Project;
+import com.projectmanagement.entity.ProjectManager;
+import com.projectmanagement.exception.ResourceNotFoundException;
+import com.projectmanagement.mapper.ProjectMapper;
+import com.projectmanagement.repository.ProjectManagerRepository;
+import com.projectmanagement.repository.ProjectRepository;
+import com.projectmanagement.service.ProjectService;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * The PM-scoped reads with and without a separate existsById round trip, and the project count
+ * served from the in-memory assignment graph against the single-query database fallback.
+ * Sampled, so the report includes latency percentiles.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProjectManagerScopedReadBenchmark {
+
+    @Param({"2000"})
+    public int projects;
+
+    @Param({"100"})
+    public int managers;
+
+    @Param({"2"})
+    public int fanOut;
+
+    private ConfigurableApplicationContext context;
+    private ProjectService projectService;
+    private ProjectRepository projectRepository;
+    private ProjectManagerRepository projectManagerRepository;
+    private ProjectMapper projectMapper;
+    private TransactionTemplate readOnly;
+    private long[] pmIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ProjectManagementServiceApplication.class)
+            .web(WebApplicationType.NONE)
+            .profiles("test")
+            .run("--spring.datasource.url=jdbc:h2:mem:jmh-scoped;DB_CLOSE_DELAY=-1",
+                 "--spring.jpa.show-sql=false",
+                 "--logging.level.root=WARN",
+                 "--logging.level.com.projectmanagement=WARN",
+                 "--logging.level.org.hibernate.SQL=WARN",
+                 "--project.cache.enabled=false");
+        projectService = context.getBean(ProjectService.class);
+        projectRepository = context.getBean(ProjectRepository.class);
+        projectManagerRepository = context.getBean(ProjectManagerRepository.class);
+        projectMapper = context.getBean(ProjectMapper.class);
+        TransactionTemplate transactionTemplate = context.getBean(TransactionTemplate.class);
+        readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+
+        EntityManager entityManager = context.getBean(EntityManager.class);
+        pmIds = transactionTemplate.execute(tx -> {
+            List<ProjectManager> pms = BenchmarkData.managers(managers);
+            pms.forEach(pm -> pm.setId(null));
+            pms.forEach(entityManager::persist);
+            for (Project project : BenchmarkData.projects(projects, pms, fanOut)) {
+                project.setId(null);
+                entityManager.persist(project);
+            }
+            return pms.stream().mapToLong(ProjectManager::getId).toArray();
+        });
+        // Seeded after startup, so load them as a restart would
+        context.getBean(ProjectManagerRegistry.class).rebuild();
+        context.getBean(ProjectAssignmentGraph.class).rebuild();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ProjectDTO> projectsWithExistsCheck() {
+        long pmId = randomPmId();
+        return readOnly(() -> {
+            requireProjectManager(pmId);
+            return projectMapper.toProjectDTOList(projectRepository.findByProjectManagerId(pmId));
+        });
+    }
+
+    @Benchmark
+    public List<ProjectDTO> projects() {
+        return projectService.getProjectsByProjectManagerId(randomPmId());
+    }
+
+    @Benchmark
+    public Long countWithExistsCheck() {
+        long pmId = randomPmId();
+        return readOnly(() -> {
+            requireProjectManager(pmId);
+            return projectRepository.countProjectsByProjectManagerId(pmId);
+        });
+    }
+
+    @Benchmark
+    public Long countSingleQuery() {
+        long pmId = randomPmId();
+        return readOnly(() -> projectRepository.countActiveProjectsOfExistingProjectManager(pmId).orElseThrow());
+    }
+
+    @Benchmark
+    public Long countFromAssignmentGraph() {
+        return projectService.countProjectsByProjectManagerId(randomPmId());
+    }
+
+    private void requireProjectManager(long pmId) {
+        if (!projectManagerRepository.existsById(pmId)) {
+            throw new ResourceNotFoundException("Project Manager not found with ID: " + pmId);
+        }
+    }
+
+    private <T> T readOnly(Supplier<T> work) {
+        return readOnly.execute(status -> work.get());
+    }
+
+    private long randomPmId() {
+        return pmIds[ThreadLocalRandom.current().nextInt(pmIds.length)];
+    }
+}
@@ -0,0 +1,57 @@
+package com.projectmanagement.benchmark;
+
+import com.projectmanagement.dto.ProjectDTO;
+import com.projectmanagement.entity.Project;
+import com.projectmanagement.mapper.ProjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping cost, for a single project and for whole result lists.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProjectMapperBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int rows;
+
+    @Param({"2"})
+    public int fanOut;
+
+    private final ProjectMapper mapper = new ProjectMapper();
+    private List<Project> projects;
+    private Project single;
+
+    @Setup
+    public void setUp() {
+        projects = BenchmarkData.projects(rows, BenchmarkData.managers(50), fanOut);
+        single = projects.get(0);
+    }
+
+    @Benchmark
+    public ProjectDTO toProjectDTO() {
+        return mapper.toProjectDTO(single);
+    }
+
+    @Benchmark
+    public List<ProjectDTO> toProjectDTOList() {
+        return mapper.toProjectDTOList(projects);
+    }
+}
@@ -0,0 +1,194 @@
+package com.projectmanagement.benchmark;
+
+import com.projectmanagement.ProjectManagementServiceApplication;
+import com.projectmanagement.entity.Project;
+import com.projectmanagement.entity.ProjectManager;
+import com.projectmanagement.entity.ProjectStatus;
+import com.projectmanagement.repository.ProjectRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Every {@link ProjectRepository} query against a seeded H2 database. The dataset shape is
+ * controlled by {@code projects}, {@code managers} and {@code fanOut} (managers per project).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProjectRepositoryBenchmark {
+
+    @Param({"1000", "10000"})
+    public int projects;
+
+    @Param({"50"})
+    public int managers;
+
+    @Param({"2"})
+    public int fanOut;
+
+    private ConfigurableApplicationContext context;
+    private ProjectRepository repository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ProjectManagementServiceApplication.class)
+            .web(WebApplicationType.NONE)
+            .profiles("test")
+            .run("--spring.datasource.url=jdbc:h2:mem:jmh;DB_CLOSE_DELAY=-1",
+                 "--spring.jpa.show-sql=false",
+                 "--logging.level.root=WARN",
+                 "--logging.level.com.projectmanagement=WARN",
+                 "--logging.level.org.hibernate.SQL=WARN",
+                 "--project.cache.enabled=false");
+        repository = context.getBean(ProjectRepository.class);
+        seed(context.getBean(JdbcTemplate.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Project> findByProjectManagerId() {
+        return repository.findByProjectManagerId(randomPmId());
+    }
+
+    @Benchmark
+    public Page<Project> findByProjectManagerIdPaged() {
+        return repository.findByProjectManagerId(randomPmId(), PageRequest.of(2, 10, Sort.by("updatedAt").descending()));
+    }
+
+    @Benchmark
+    public List<Project> findFirstPageByProjectManagerId() {
+        return repository.findFirstPageByProjectManagerId(randomPmId(), Limit.of(11));
+    }
+
+    @Benchmark
+    public List<Project> findByProjectManagerEmail() {
+        return repository.findByProjectManagerEmail(BenchmarkData.email(randomManager()));
+    }
+
+    @Benchmark
+    public List<Project> findByProjectManagerEmployeeId() {
+        return repository.findByProjectManagerEmployeeId(BenchmarkData.employeeId(randomManager()));
+    }
+
+    @Benchmark
+    public List<Project> findByProjectManagerIdAndStatus() {
+        return repository.findByProjectManagerIdAndStatus(randomPmId(), ProjectStatus.IN_PROGRESS);
+    }
+
+    @Benchmark
+    public List<Project> findByProjectManagerIdAndDateRange() {
+        return repository.findByProjectManagerIdAndDateRange(randomPmId(),
+            BenchmarkData.FIRST_START_DATE, BenchmarkData.FIRST_START_DATE.plusDays(180));
+    }
+
+    @Benchmark
+    public Long countProjectsByProjectManagerId() {
+        return repository.countProjectsByProjectManagerId(randomPmId());
+    }
+
+    @Benchmark
+    public Optional<Long> countActiveProjectsOfExistingProjectManager() {
+        return repository.countActiveProjectsOfExistingProjectManager(randomPmId());
+    }
+
+    @Benchmark
+    public Optional<Project> findWithProjectManagersById() {
+        return repository.findWithProjectManagersById(randomProjectId());
+    }
+
+    @Benchmark
+    public Optional<Project> findByProjectCodeAndIsActiveTrue() {
+        return repository.findByProjectCodeAndIsActiveTrue(
+            BenchmarkData.projectCode(ThreadLocalRandom.current().nextInt(projects)));
+    }
+
+    @Benchmark
+    public List<Project> findFirstPageOfActiveProjects() {
+        return repository.findFirstPageOfActiveProjects(Limit.of(21));
+    }
+
+    @Benchmark
+    public List<Project> findByIsActiveTrueOrderByUpdatedAtDesc() {
+        return repository.findByIsActiveTrueOrderByUpdatedAtDesc();
+    }
+
+    @Benchmark
+    public List<Project> findProjectsWithFilters() {
+        return repository.findProjectsWithFilters(null, ProjectStatus.PLANNING, "acme");
+    }
+
+    private long randomPmId() {
+        return randomManager() + 1L;
+    }
+
+    private int randomManager() {
+        return ThreadLocalRandom.current().nextInt(managers);
+    }
+
+    private long randomProjectId() {
+        return ThreadLocalRandom.current().nextLong(projects) + 1;
+    }
+
+    private void seed(JdbcTemplate jdbc) {
+        List<ProjectManager> pms = BenchmarkData.managers(managers);
+        List<Object[]> pmRows = new ArrayList<>();
+        for (ProjectManager pm : pms) {
+            pmRows.add(new Object[] {pm.getId(), pm.getName(), pm.getEmail(), pm.getPhone(), pm.getDepartment(),
+                pm.getEmployeeId(), Timestamp.valueOf(pm.getCreatedAt()), Timestamp.valueOf(pm.getUpdatedAt())});
+        }
+        jdbc.batchUpdate("INSERT INTO project_managers (pm_id, name, email, phone, department, employee_id, " +
+                         "created_at, updated_at, is_active) VALUES (?, ?, ?, ?, ?, ?, ?, ?, TRUE)", pmRows);
+
+        List<Object[]> projectRows = new ArrayList<>();
+        List<Object[]> assignmentRows = new ArrayList<>();
+        for (Project p : BenchmarkData.projects(projects, pms, fanOut)) {
+            projectRows.add(new Object[] {p.getId(), p.getName(), p.getDescription(), p.getProjectCode(),
+                p.getStatus().name(), p.getPriority().name(), Date.valueOf(p.getStartDate()),
+                Date.valueOf(p.getEstimatedEndDate()), p.getBudget(), p.getActualCost(), p.getClientName(),
+                p.getTechnologyStack(), p.getTeamSize(), p.getCompletionPercentage(),
+                Timestamp.valueOf(p.getCreatedAt()), Timestamp.valueOf(p.getUpdatedAt())});
+            for (ProjectManager pm : p.getProjectManagers()) {
+                assignmentRows.add(new Object[] {p.getId(), pm.getId()});
+            }
+        }
+        jdbc.batchUpdate("INSERT INTO projects (project_id, name, description, project_code, status, priority, " +
+                         "start_date, estimated_end_date, budget, actual_cost, client_name, technology_stack, " +
+                         "team_size, completion_percentage, created_at, updated_at, is_active, version) " +
+                         "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, TRUE, 0)", projectRows);
+        jdbc.batchUpdate("INSERT INTO project_manager_assignments (project_id, pm_id) VALUES (?, ?)", assignmentRows);
+    }
+}
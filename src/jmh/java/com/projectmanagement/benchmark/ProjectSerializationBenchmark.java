@@ -0,0 +1,59 @@
+package com.projectmanagement.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.projectmanagement.dto.ProjectDTO;
+import com.projectmanagement.mapper.ProjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of mapped projects, using an ObjectMapper configured the way Spring
+ * Boot configures the one behind the REST endpoints.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProjectSerializationBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int rows;
+
+    private ObjectWriter writer;
+    private ProjectDTO single;
+    private List<ProjectDTO> projects;
+
+    @Setup
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json().build().writer();
+        projects = new ProjectMapper().toProjectDTOList(
+            BenchmarkData.projects(rows, BenchmarkData.managers(50), 2));
+        single = projects.get(0);
+    }
+
+    @Benchmark
+    public byte[] serializeProject() throws JsonProcessingException {
+        return writer.writeValueAsBytes(single);
+    }
+
+    @Benchmark
+    public byte[] serializeProjectList() throws JsonProcessingException {
+        return writer.writeValueAsBytes(projects);
+    }
+}
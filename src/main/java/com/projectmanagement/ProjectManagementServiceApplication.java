@@ -2,9 +2,11 @@ package com.projectmanagement;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 @EnableTransactionManagement
 public class ProjectManagementServiceApplication {
 
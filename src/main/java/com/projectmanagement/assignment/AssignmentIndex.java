@@ -0,0 +1,161 @@
+package com.projectmanagement.assignment;
+
+import java.util.Arrays;
+
+/**
+ * Bidirectional adjacency index of project manager assignments: for each manager the sorted IDs
+ * of their projects, and for each project the sorted IDs of its managers, all as primitive
+ * arrays. Lookups are a hash probe; intersections are a merge of two sorted arrays.
+ *
+ * <p>Returned arrays are shared and must not be modified. Not thread-safe; see
+ * {@link ProjectAssignmentGraph} for the synchronized view kept in step with the database.
+ */
+public final class AssignmentIndex {
+
+    private final LongArrayMap projectsByManager;
+    private final LongArrayMap managersByProject;
+    private long assignments;
+
+    private AssignmentIndex(LongArrayMap projectsByManager, LongArrayMap managersByProject, long assignments) {
+        this.projectsByManager = projectsByManager;
+        this.managersByProject = managersByProject;
+        this.assignments = assignments;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Sorted IDs of the manager's projects.
+     */
+    public long[] projectIds(long pmId) {
+        return projectsByManager.get(pmId);
+    }
+
+    /**
+     * Sorted IDs of the project's managers.
+     */
+    public long[] projectManagerIds(long projectId) {
+        return managersByProject.get(projectId);
+    }
+
+    public int projectCount(long pmId) {
+        return projectsByManager.get(pmId).length;
+    }
+
+    /**
+     * Sorted IDs of the projects assigned to both managers.
+     */
+    public long[] sharedProjectIds(long pmId, long otherPmId) {
+        long[] a = projectsByManager.get(pmId);
+        long[] b = projectsByManager.get(otherPmId);
+        long[] shared = new long[Math.min(a.length, b.length)];
+        int count = 0;
+        for (int i = 0, j = 0; i < a.length && j < b.length; ) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                shared[count++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return count == shared.length ? shared : Arrays.copyOf(shared, count);
+    }
+
+    /**
+     * Replaces the managers of one project, updating both directions.
+     */
+    public void setProjectManagers(long projectId, long[] pmIds) {
+        long[] current = managersByProject.get(projectId);
+        long[] updated = sortedDistinct(pmIds);
+        for (long pmId : current) {
+            if (Arrays.binarySearch(updated, pmId) < 0) {
+                projectsByManager.put(pmId, without(projectsByManager.get(pmId), projectId));
+                assignments--;
+            }
+        }
+        for (long pmId : updated) {
+            if (Arrays.binarySearch(current, pmId) < 0) {
+                projectsByManager.put(pmId, with(projectsByManager.get(pmId), projectId));
+                assignments++;
+            }
+        }
+        managersByProject.put(projectId, updated);
+    }
+
+    public long assignmentCount() {
+        return assignments;
+    }
+
+    public int projectManagerCount() {
+        return projectsByManager.size();
+    }
+
+    public int projectCount() {
+        return managersByProject.size();
+    }
+
+    /**
+     * Approximate heap size of the index in bytes.
+     */
+    public long memoryBytes() {
+        return projectsByManager.memoryBytes() + managersByProject.memoryBytes();
+    }
+
+    private static long[] sortedDistinct(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int distinct = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (distinct == 0 || sorted[i] != sorted[distinct - 1]) {
+                sorted[distinct++] = sorted[i];
+            }
+        }
+        return distinct == sorted.length ? sorted : Arrays.copyOf(sorted, distinct);
+    }
+
+    private static long[] with(long[] sorted, long value) {
+        int insertAt = -Arrays.binarySearch(sorted, value) - 1;
+        long[] result = new long[sorted.length + 1];
+        System.arraycopy(sorted, 0, result, 0, insertAt);
+        result[insertAt] = value;
+        System.arraycopy(sorted, insertAt, result, insertAt + 1, sorted.length - insertAt);
+        return result;
+    }
+
+    private static long[] without(long[] sorted, long value) {
+        int removeAt = Arrays.binarySearch(sorted, value);
+        long[] result = new long[sorted.length - 1];
+        System.arraycopy(sorted, 0, result, 0, removeAt);
+        System.arraycopy(sorted, removeAt + 1, result, removeAt, sorted.length - removeAt - 1);
+        return result;
+    }
+
+    /**
+     * Collects assignments in any order; {@link #build} sorts them and drops duplicates.
+     */
+    public static final class Builder {
+
+        private final LongArrayMap projectsByManager = new LongArrayMap();
+        private final LongArrayMap managersByProject = new LongArrayMap();
+
+        private Builder() {
+        }
+
+        public Builder add(long projectId, long pmId) {
+            projectsByManager.append(pmId, projectId);
+            managersByProject.append(projectId, pmId);
+            return this;
+        }
+
+        public AssignmentIndex build() {
+            projectsByManager.seal();
+            managersByProject.seal();
+            return new AssignmentIndex(projectsByManager, managersByProject, projectsByManager.valueCount());
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.projectmanagement.assignment;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from a long key to a sorted array of distinct longs, with linear
+ * probing and no boxing. A slot is free when its value array is null.
+ *
+ * <p>Arrays are built with {@link #append} and must be {@link #seal sealed} before they are
+ * read; after that, {@link #put} replaces an array and the map never modifies an array it has
+ * handed out, so callers may keep one. Not thread-safe.
+ */
+final class LongArrayMap {
+
+    private static final long[] EMPTY = new long[0];
+    private static final int MIN_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private long[][] values;
+    // Used length of each array while appending; equal to values[i].length once sealed
+    private int[] lengths;
+    private int size;
+
+    LongArrayMap() {
+        this(MIN_CAPACITY);
+    }
+
+    LongArrayMap(int expectedKeys) {
+        int capacity = MIN_CAPACITY;
+        while (capacity * LOAD_FACTOR < expectedKeys) {
+            capacity <<= 1;
+        }
+        keys = new long[capacity];
+        values = new long[capacity][];
+        lengths = new int[capacity];
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Total number of values over all keys.
+     */
+    long valueCount() {
+        long count = 0;
+        for (int length : lengths) {
+            count += length;
+        }
+        return count;
+    }
+
+    /**
+     * The sorted values of the key, or an empty array.
+     */
+    long[] get(long key) {
+        int slot = find(key);
+        return slot >= 0 ? values[slot] : EMPTY;
+    }
+
+    /**
+     * Replaces the key's values with the given sorted, distinct array; an empty array removes
+     * the key.
+     */
+    void put(long key, long[] sorted) {
+        if (sorted.length == 0) {
+            remove(key);
+            return;
+        }
+        int slot = find(key);
+        if (slot < 0) {
+            slot = insert(key);
+        }
+        values[slot] = sorted;
+        lengths[slot] = sorted.length;
+    }
+
+    void remove(long key) {
+        int slot = find(key);
+        if (slot < 0) {
+            return;
+        }
+        values[slot] = null;
+        lengths[slot] = 0;
+        size--;
+
+        // Backward-shift the rest of the probe run so lookups never stop at the hole
+        int mask = keys.length - 1;
+        int hole = slot;
+        for (int i = (hole + 1) & mask; values[i] != null; i = (i + 1) & mask) {
+            int home = hash(keys[i]) & mask;
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                keys[hole] = keys[i];
+                values[hole] = values[i];
+                lengths[hole] = lengths[i];
+                values[i] = null;
+                lengths[i] = 0;
+                hole = i;
+            }
+        }
+    }
+
+    /**
+     * Adds a value to the key's array, growing it geometrically; {@link #seal} sorts and trims.
+     */
+    void append(long key, long value) {
+        int slot = find(key);
+        if (slot < 0) {
+            slot = insert(key);
+            values[slot] = new long[2];
+        }
+        long[] array = values[slot];
+        if (lengths[slot] == array.length) {
+            array = Arrays.copyOf(array, array.length * 2);
+            values[slot] = array;
+        }
+        array[lengths[slot]++] = value;
+    }
+
+    /**
+     * Sorts every array, drops duplicates and trims it to its length.
+     */
+    void seal() {
+        for (int i = 0; i < values.length; i++) {
+            long[] array = values[i];
+            if (array == null) {
+                continue;
+            }
+            Arrays.sort(array, 0, lengths[i]);
+            int distinct = 0;
+            for (int j = 0; j < lengths[i]; j++) {
+                if (distinct == 0 || array[j] != array[distinct - 1]) {
+                    array[distinct++] = array[j];
+                }
+            }
+            values[i] = distinct == array.length ? array : Arrays.copyOf(array, distinct);
+            lengths[i] = distinct;
+        }
+    }
+
+    /**
+     * Shallow heap size: the slot tables and the value arrays, with 16-byte array headers and
+     * 4-byte compressed references.
+     */
+    long memoryBytes() {
+        long bytes = arrayBytes(keys.length, 8) + arrayBytes(values.length, 4) + arrayBytes(lengths.length, 4);
+        for (long[] array : values) {
+            if (array != null) {
+                bytes += arrayBytes(array.length, 8);
+            }
+        }
+        return bytes;
+    }
+
+    private int find(long key) {
+        int mask = keys.length - 1;
+        for (int i = hash(key) & mask; values[i] != null; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int insert(long key) {
+        if (size + 1 > keys.length * LOAD_FACTOR) {
+            resize(keys.length * 2);
+        }
+        int mask = keys.length - 1;
+        int i = hash(key) & mask;
+        while (values[i] != null) {
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        size++;
+        return i;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        long[][] oldValues = values;
+        int[] oldLengths = lengths;
+        keys = new long[capacity];
+        values = new long[capacity][];
+        lengths = new int[capacity];
+        int mask = capacity - 1;
+        for (int j = 0; j < oldValues.length; j++) {
+            if (oldValues[j] == null) {
+                continue;
+            }
+            int i = hash(oldKeys[j]) & mask;
+            while (values[i] != null) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = oldKeys[j];
+            values[i] = oldValues[j];
+            lengths[i] = oldLengths[j];
+        }
+    }
+
+    // Sequential database IDs would cluster in a plain modulo; spread them first
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static long arrayBytes(int length, int elementBytes) {
+        return (16 + (long) length * elementBytes + 7) & ~7L;
+    }
+}
@@ -0,0 +1,180 @@
+package com.projectmanagement.assignment;
+
+import com.projectmanagement.cache.ProjectCache;
+import com.projectmanagement.event.IncrementalRefresher;
+import com.projectmanagement.event.ProjectChangedEvent;
+import com.projectmanagement.event.RemoteProjectChangedEvent;
+import com.projectmanagement.repository.ProjectRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Which project managers are assigned to which active projects, held in memory as an
+ * {@link AssignmentIndex} so membership, counts and intersections need no join against
+ * {@code project_manager_assignments}.
+ *
+ * <p>The index is loaded when the application is ready and kept current from
+ * {@link ProjectChangedEvent}s (and {@link RemoteProjectChangedEvent}s for writes made on other
+ * replicas) by reloading the managers of the changed projects. Callers must check {@link #isAvailable()}
+ * and fall back to the database otherwise: before the first load, and while this replica is
+ * behind on other replicas' changes.
+ */
+@Component
+@Slf4j
+public class ProjectAssignmentGraph {
+
+    private final ProjectRepository projectRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ProjectCache projectCache;
+
+    // Its lock is held while reloading from the database, so reloads of one project apply in order
+    private final IncrementalRefresher refresher = new IncrementalRefresher();
+    // Held only while the index is read or mutated in memory
+    private final ReentrantReadWriteLock indexLock = new ReentrantReadWriteLock();
+    // Guarded by indexLock
+    private AssignmentIndex index = AssignmentIndex.builder().build();
+    private volatile boolean loaded;
+
+    public ProjectAssignmentGraph(ProjectRepository projectRepository, TransactionTemplate transactionTemplate,
+                                  ProjectCache projectCache, MeterRegistry meterRegistry) {
+        this.projectRepository = projectRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransaction.setReadOnly(true);
+        this.projectCache = projectCache;
+        Gauge.builder("project.assignments.graph.assignments", this, ProjectAssignmentGraph::assignmentCount)
+            .description("Project manager assignments held in the in-memory graph")
+            .register(meterRegistry);
+        Gauge.builder("project.assignments.graph.memory", this, ProjectAssignmentGraph::memoryBytes)
+            .description("Approximate heap used by the in-memory assignment graph")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Reloads every assignment. Lookups keep using the previous index until the new one is
+     * complete.
+     */
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        AssignmentIndex rebuilt = refresher.rebuild(this::scan, scanned -> write(current -> scanned), this::reload);
+        loaded = true;
+        log.info("Loaded {} project manager assignments ({} KB) in {} ms",
+                 rebuilt.assignmentCount(), rebuilt.memoryBytes() / 1024, System.currentTimeMillis() - startedAt);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        refresh(event.projectIds());
+    }
+
+    @EventListener
+    public void onRemoteProjectChanged(RemoteProjectChangedEvent event) {
+        refresh(event.change().projectIds());
+    }
+
+    /**
+     * Whether lookups reflect every committed assignment this replica knows of.
+     */
+    public boolean isAvailable() {
+        return loaded && projectCache.isCoherent();
+    }
+
+    /**
+     * Sorted IDs of the manager's active projects. The array must not be modified.
+     */
+    public long[] projectIds(long pmId) {
+        return read(index -> index.projectIds(pmId));
+    }
+
+    /**
+     * Sorted IDs of the managers of an active project. The array must not be modified.
+     */
+    public long[] projectManagerIds(long projectId) {
+        return read(index -> index.projectManagerIds(projectId));
+    }
+
+    public int projectCount(long pmId) {
+        return read(index -> index.projectCount(pmId));
+    }
+
+    /**
+     * Sorted IDs of the active projects assigned to both managers.
+     */
+    public long[] sharedProjectIds(long pmId, long otherPmId) {
+        return read(index -> index.sharedProjectIds(pmId, otherPmId));
+    }
+
+    public long assignmentCount() {
+        return read(AssignmentIndex::assignmentCount);
+    }
+
+    public long memoryBytes() {
+        return read(AssignmentIndex::memoryBytes);
+    }
+
+    private void refresh(Collection<Long> projectIds) {
+        refresher.refresh(projectIds, this::reload);
+    }
+
+    private AssignmentIndex scan() {
+        AssignmentIndex.Builder builder = AssignmentIndex.builder();
+        readOnlyTransaction.executeWithoutResult(tx -> {
+            try (Stream<Object[]> rows = projectRepository.streamActiveAssignments()) {
+                rows.forEach(row -> builder.add((Long) row[0], (Long) row[1]));
+            }
+        });
+        return builder.build();
+    }
+
+    // Runs under the refresher's lock; one query for all the projects, then one index update
+    private void reload(Collection<Long> projectIds) {
+        Map<Long, List<Long>> managers = new HashMap<>();
+        projectIds.forEach(projectId -> managers.put(projectId, new ArrayList<>()));
+        for (Object[] row : projectRepository.findActiveAssignmentsByProjectIds(projectIds)) {
+            managers.get((Long) row[0]).add((Long) row[1]);
+        }
+        write(index -> {
+            managers.forEach((projectId, pmIds) ->
+                index.setProjectManagers(projectId, pmIds.stream().mapToLong(Long::longValue).toArray()));
+            return index;
+        });
+    }
+
+    private <T> T read(Function<AssignmentIndex, T> lookup) {
+        indexLock.readLock().lock();
+        try {
+            return lookup.apply(index);
+        } finally {
+            indexLock.readLock().unlock();
+        }
+    }
+
+    private void write(Function<AssignmentIndex, AssignmentIndex> change) {
+        indexLock.writeLock().lock();
+        try {
+            index = change.apply(index);
+        } finally {
+            indexLock.writeLock().unlock();
+        }
+    }
+}
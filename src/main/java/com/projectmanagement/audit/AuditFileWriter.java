@@ -0,0 +1,147 @@
+package com.projectmanagement.audit;
+
+import com.projectmanagement.event.ProjectChangedEvent;
+import com.projectmanagement.event.ProjectChangedEvent.ChangedProject;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+
+/**
+ * Appends audit entries as JSON lines to {@code project-audit.jsonl}, one line per changed
+ * project, or per changed project and manager for assignment changes, rolling it over to
+ * {@code project-audit.1.jsonl} (shifting older files up to {@code maxFiles}) when it grows
+ * past {@code maxFileSize}. The file is opened by {@link #open()}, or by the first entry after an
+ * open failed; a failed roll-over leaves the current file open for the next entry, which tries
+ * again. Only used by the audit writer thread.
+ */
+final class AuditFileWriter implements Closeable {
+
+    private static final String BASE_NAME = "project-audit";
+
+    private final Path directory;
+    private final long maxFileSize;
+    private final int maxFiles;
+    private final StringBuilder line = new StringBuilder(192);
+    // Null until opened, and after a failed roll-over could not reopen the current file
+    private Writer writer;
+    private long size;
+
+    AuditFileWriter(Path directory, long maxFileSize, int maxFiles) {
+        this.directory = directory;
+        this.maxFileSize = maxFileSize;
+        this.maxFiles = maxFiles;
+    }
+
+    static Path currentFile(Path directory) {
+        return directory.resolve(BASE_NAME + ".jsonl");
+    }
+
+    void write(ProjectChangedEvent event, long timestamp) throws IOException {
+        Instant instant = Instant.ofEpochMilli(timestamp);
+        for (ChangedProject project : event.projects()) {
+            if (event.projectManagerIds().isEmpty()) {
+                writeLine(event, instant, project, null);
+            }
+            for (Long pmId : event.projectManagerIds()) {
+                writeLine(event, instant, project, pmId);
+            }
+        }
+    }
+
+    private void writeLine(ProjectChangedEvent event, Instant timestamp, ChangedProject project, Long pmId)
+            throws IOException {
+        line.setLength(0);
+        line.append("{\"timestamp\":\"").append(timestamp)
+            .append("\",\"type\":\"").append(event.type().name())
+            .append("\",\"projectId\":").append(project.id())
+            .append(",\"projectCode\":");
+        appendString(project.code());
+        line.append(",\"projectManagerId\":").append(pmId).append("}\n");
+
+        if (writer == null) {
+            open();
+        }
+        if (size > 0 && size + line.length() > maxFileSize) {
+            rollOver();
+        }
+        writer.append(line);
+        // Close enough for rolling: entries are ASCII apart from project codes
+        size += line.length();
+    }
+
+    void flush() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+        }
+    }
+
+    /**
+     * Creates the directory if needed and opens the current file for appending.
+     */
+    void open() throws IOException {
+        Files.createDirectories(directory);
+        Path file = currentFile(directory);
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                                         StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        size = Files.size(file);
+    }
+
+    private void rollOver() throws IOException {
+        writer.close();
+        writer = null;
+        try {
+            Files.deleteIfExists(rolledFile(maxFiles));
+            for (int i = maxFiles - 1; i >= 1; i--) {
+                Path rolled = rolledFile(i);
+                if (Files.exists(rolled)) {
+                    Files.move(rolled, rolledFile(i + 1), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            if (maxFiles > 0) {
+                Files.move(currentFile(directory), rolledFile(1), StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                Files.delete(currentFile(directory));
+            }
+        } finally {
+            // Reopens the rolled-over file, or the current one again if a move failed
+            open();
+        }
+    }
+
+    private Path rolledFile(int index) {
+        return directory.resolve(BASE_NAME + "." + index + ".jsonl");
+    }
+
+    private void appendString(String value) {
+        if (value == null) {
+            line.append("null");
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                line.append('\\').append(c);
+            } else if (c < 0x20) {
+                line.append(String.format("\\u%04x", (int) c));
+            } else {
+                line.append(c);
+            }
+        }
+        line.append('"');
+    }
+}
@@ -0,0 +1,36 @@
+package com.projectmanagement.audit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Audit trail of committed project writes, appended as JSON lines to a rolling file.
+ *
+ * @param bufferSize    events held between the request threads and the writer; rounded up to a power of two
+ * @param overflow      what a writer does when the buffer is full
+ * @param maxWait       how long {@link Overflow#WAIT} waits for space before dropping the event
+ * @param batchSize     events written between flushes
+ * @param flushInterval how often the writer drains the buffer
+ * @param maxFileSize   size after which the file is rolled over
+ * @param maxFiles      rolled-over files kept besides the current one
+ */
+@ConfigurationProperties(prefix = "project.audit")
+public record AuditProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("logs/audit") String directory,
+        @DefaultValue("8192") int bufferSize,
+        @DefaultValue("drop") Overflow overflow,
+        @DefaultValue("5ms") Duration maxWait,
+        @DefaultValue("512") int batchSize,
+        @DefaultValue("200ms") Duration flushInterval,
+        @DefaultValue("64MB") DataSize maxFileSize,
+        @DefaultValue("10") int maxFiles) {
+
+    public enum Overflow {
+        DROP,
+        WAIT
+    }
+}
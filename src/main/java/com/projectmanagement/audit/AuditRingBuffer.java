@@ -0,0 +1,102 @@
+package com.projectmanagement.audit;
+
+import com.projectmanagement.event.ProjectChangedEvent;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded lock-free queue of audit entries for many producers and a single consumer. Slots are
+ * allocated once; an offer only claims a slot with a CAS and stores the event reference.
+ *
+ * <p>Each slot carries a sequence number: {@code position} when free for the producer claiming
+ * that position, {@code position + 1} once written, and {@code position + capacity} after the
+ * consumer has read it, which frees it for the next lap.
+ */
+final class AuditRingBuffer {
+
+    interface Consumer {
+        void accept(ProjectChangedEvent event, long timestamp);
+    }
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final ProjectChangedEvent[] events;
+    private final long[] timestamps;
+    private final AtomicLong tail = new AtomicLong();
+    // Only written by the consumer
+    private volatile long head;
+
+    AuditRingBuffer(int requestedCapacity) {
+        this.capacity = Math.max(2, Integer.highestOneBit(requestedCapacity - 1) << 1);
+        this.mask = capacity - 1;
+        this.sequences = new AtomicLongArray(capacity);
+        this.events = new ProjectChangedEvent[capacity];
+        this.timestamps = new long[capacity];
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Adds an entry, or returns false when the buffer is full.
+     */
+    boolean offer(ProjectChangedEvent event, long timestamp) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    events[index] = event;
+                    timestamps[index] = timestamp;
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                // Another producer claimed this position first
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Hands up to {@code max} entries to the consumer in offer order. Only one thread may drain.
+     * An entry is consumed once handed out: if the consumer throws, the next drain starts after it.
+     */
+    int drain(Consumer consumer, int max) {
+        long position = head;
+        int drained = 0;
+        try {
+            while (drained < max) {
+                int index = (int) position & mask;
+                if (sequences.get(index) != position + 1) {
+                    break;
+                }
+                ProjectChangedEvent event = events[index];
+                long timestamp = timestamps[index];
+                events[index] = null;
+                sequences.set(index, position + capacity);
+                position++;
+                drained++;
+                consumer.accept(event, timestamp);
+            }
+        } finally {
+            // The slots up to position are already free, so head must not stay behind them
+            head = position;
+        }
+        return drained;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+}
@@ -0,0 +1,159 @@
+package com.projectmanagement.audit;
+
+import com.projectmanagement.event.ProjectChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Audit trail of committed project writes. Request threads only put the committed
+ * {@link ProjectChangedEvent} into a {@link AuditRingBuffer}; a background thread writes
+ * the buffered entries in batches. Entries that do not fit are dropped and counted,
+ * after waiting up to {@code maxWait} when the overflow policy is {@code WAIT}. An entry
+ * that cannot be written is counted as failed and skipped; the entries after it are still written.
+ * If the file cannot be opened at startup, the application still starts: the failure is logged
+ * and counted, and the writer tries to open it again with each entry.
+ */
+@Component
+@Slf4j
+public class ProjectAuditLog {
+
+    private final AuditProperties properties;
+    private final AuditRingBuffer buffer;
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter failed;
+    private final Counter openFailures;
+    // Only one thread may drain the buffer; held across file writes, so not a monitor
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private AuditFileWriter fileWriter;
+    private ScheduledExecutorService writerThread;
+    // Write failures of the current flush; guarded by flushLock
+    private int flushFailures;
+    private IOException lastFailure;
+
+    public ProjectAuditLog(AuditProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.buffer = new AuditRingBuffer(properties.bufferSize());
+        this.written = auditEvents(meterRegistry, "written");
+        this.dropped = auditEvents(meterRegistry, "dropped");
+        this.failed = auditEvents(meterRegistry, "failed");
+        this.openFailures = Counter.builder("project.audit.open.failures")
+            .description("Audit files that could not be opened at startup")
+            .register(meterRegistry);
+        Gauge.builder("project.audit.buffered", buffer, AuditRingBuffer::size)
+            .description("Audit events waiting to be written")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!properties.enabled()) {
+            return;
+        }
+        Path directory = Path.of(properties.directory());
+        fileWriter = new AuditFileWriter(directory, properties.maxFileSize().toBytes(), properties.maxFiles());
+        try {
+            fileWriter.open();
+        } catch (IOException ex) {
+            openFailures.increment();
+            log.warn("Could not open the audit file in {}, entries will fail until it can be opened: {}",
+                     directory.toAbsolutePath(), ex.toString());
+        }
+        writerThread = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "project-audit-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.flushInterval().toMillis();
+        writerThread.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException, IOException {
+        if (writerThread == null) {
+            return;
+        }
+        writerThread.shutdown();
+        writerThread.awaitTermination(5, TimeUnit.SECONDS);
+        flush();
+        fileWriter.close();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        if (properties.enabled()) {
+            record(event);
+        }
+    }
+
+    void record(ProjectChangedEvent event) {
+        long timestamp = System.currentTimeMillis();
+        if (buffer.offer(event, timestamp)) {
+            return;
+        }
+        if (properties.overflow() == AuditProperties.Overflow.WAIT) {
+            long deadline = System.nanoTime() + properties.maxWait().toNanos();
+            while (System.nanoTime() < deadline) {
+                LockSupport.parkNanos(50_000);
+                if (buffer.offer(event, timestamp)) {
+                    return;
+                }
+            }
+        }
+        dropped.increment();
+    }
+
+    /**
+     * Writes everything buffered so far. Runs on the writer thread, and once more on shutdown.
+     */
+    void flush() {
+        flushLock.lock();
+        try {
+            flushFailures = 0;
+            int drained;
+            do {
+                drained = buffer.drain(this::write, properties.batchSize());
+                fileWriter.flush();
+            } while (drained == properties.batchSize());
+        } catch (IOException ex) {
+            log.warn("Flushing audit events failed: {}", ex.getMessage());
+        } finally {
+            if (flushFailures > 0) {
+                log.warn("Writing {} audit events failed: {}", flushFailures, lastFailure.getMessage());
+            }
+            flushLock.unlock();
+        }
+    }
+
+    private void write(ProjectChangedEvent event, long timestamp) {
+        try {
+            fileWriter.write(event, timestamp);
+            written.increment();
+        } catch (IOException ex) {
+            failed.increment();
+            flushFailures++;
+            lastFailure = ex;
+        }
+    }
+
+    private static Counter auditEvents(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("project.audit.events")
+            .description("Audit events by outcome")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,39 @@
+package com.projectmanagement.cache;
+
+import com.projectmanagement.event.ProjectChangedEvent;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Invalidation bus shared by all application contexts in the same JVM that use the same
+ * channel. Intended for tests; the log is never truncated.
+ */
+public class InMemoryInvalidationBus implements InvalidationBus {
+
+    private static final Map<String, List<ProjectChangedEvent>> CHANNELS = new ConcurrentHashMap<>();
+
+    private final List<ProjectChangedEvent> log;
+    private int position;
+
+    public InMemoryInvalidationBus(String channel) {
+        this.log = CHANNELS.computeIfAbsent(channel, name -> new CopyOnWriteArrayList<>());
+        this.position = log.size();
+    }
+
+    @Override
+    public void publish(ProjectChangedEvent event) {
+        log.add(event);
+    }
+
+    @Override
+    public void poll(Consumer<ProjectChangedEvent> handler) {
+        int end = log.size();
+        for (; position < end; position++) {
+            handler.accept(log.get(position));
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.projectmanagement.cache;
+
+import com.projectmanagement.event.ProjectChangedEvent;
+
+import java.util.function.Consumer;
+
+/**
+ * Broadcasts project invalidations between application replicas.
+ */
+public interface InvalidationBus {
+
+    /**
+     * Records an invalidation. Called inside the writing transaction so that the record
+     * commits, or rolls back, together with the change itself.
+     */
+    void publish(ProjectChangedEvent event);
+
+    /**
+     * Hands every invalidation published since the previous poll, by any replica, to the
+     * handler. Implementations may redeliver an invalidation; handlers must be idempotent.
+     */
+    void poll(Consumer<ProjectChangedEvent> handler);
+}
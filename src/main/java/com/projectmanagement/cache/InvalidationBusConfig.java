@@ -0,0 +1,23 @@
+package com.projectmanagement.cache;
+
+import com.projectmanagement.repository.CacheInvalidationRepository;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Configuration
+public class InvalidationBusConfig {
+
+    // Selected from the bound enum, so any spelling that binds picks its bus; null leaves the cache replica-local
+    @Bean
+    public InvalidationBus invalidationBus(ProjectCacheProperties properties, CacheInvalidationRepository repository,
+                                           JdbcTemplate jdbcTemplate) {
+        ProjectCacheProperties.Invalidation invalidation = properties.invalidation();
+        return switch (invalidation.bus()) {
+            case OUTBOX -> new OutboxInvalidationBus(repository, jdbcTemplate, invalidation.lookback(),
+                                                     invalidation.retention());
+            case IN_MEMORY -> new InMemoryInvalidationBus(invalidation.channel());
+            case NONE -> null;
+        };
+    }
+}
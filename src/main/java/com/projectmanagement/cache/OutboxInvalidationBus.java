@@ -0,0 +1,115 @@
+package com.projectmanagement.cache;
+
+import com.projectmanagement.entity.CacheInvalidation;
+import com.projectmanagement.event.ProjectChangedEvent;
+import com.projectmanagement.event.ProjectChangedEvent.ChangeType;
+import com.projectmanagement.event.ProjectChangedEvent.ChangedProject;
+import com.projectmanagement.repository.CacheInvalidationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Invalidation bus backed by the {@code cache_invalidation_outbox} table. Writers insert rows
+ * in their own transaction; every replica polls for rows newer than the latest one it has seen.
+ *
+ * <p>An event is written as one row per project plus, for assignment changes, one row per
+ * manager, all in a single JDBC batch. A poll merges the new rows of each change type into one
+ * event, so replicas reload what changed in as few queries as the writer did.
+ *
+ * <p>Rows can become visible out of ID order when transactions commit concurrently, so each
+ * poll re-reads a {@code lookback} window behind the newest row and skips rows it already
+ * delivered. Rows older than {@code retention} are purged.
+ */
+@Slf4j
+public class OutboxInvalidationBus implements InvalidationBus {
+
+    private static final String INSERT_INVALIDATION =
+        "INSERT INTO cache_invalidation_outbox (change_type, project_id, project_code, pm_id, created_at) " +
+        "VALUES (?, ?, ?, ?, ?)";
+
+    private final CacheInvalidationRepository repository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration lookback;
+    private final Duration retention;
+
+    // Only touched by the polling thread
+    private final Map<Long, LocalDateTime> delivered = new HashMap<>();
+    private LocalDateTime watermark;
+    private LocalDateTime lastPurge;
+
+    public OutboxInvalidationBus(CacheInvalidationRepository repository, JdbcTemplate jdbcTemplate,
+                                 Duration lookback, Duration retention) {
+        this.repository = repository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.lookback = lookback;
+        this.retention = retention;
+        this.watermark = LocalDateTime.now();
+        this.lastPurge = watermark;
+    }
+
+    @Override
+    public void publish(ProjectChangedEvent event) {
+        String type = event.type().name();
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(event.projects().size() + event.projectManagerIds().size());
+        for (ChangedProject project : event.projects()) {
+            rows.add(new Object[] {type, project.id(), project.code(), null, createdAt});
+        }
+        for (Long pmId : event.projectManagerIds()) {
+            rows.add(new Object[] {type, null, null, pmId, createdAt});
+        }
+        jdbcTemplate.batchUpdate(INSERT_INVALIDATION, rows);
+    }
+
+    @Override
+    public void poll(Consumer<ProjectChangedEvent> handler) {
+        LocalDateTime since = watermark.minus(lookback);
+        Map<ChangeType, Merged> merged = new EnumMap<>(ChangeType.class);
+        for (CacheInvalidation row : repository.findByCreatedAtGreaterThanEqualOrderByIdAsc(since)) {
+            if (delivered.putIfAbsent(row.getId(), row.getCreatedAt()) == null) {
+                Merged change = merged.computeIfAbsent(row.getChangeType(), type -> new Merged());
+                if (row.getProjectId() != null) {
+                    change.projects.add(new ChangedProject(row.getProjectId(), row.getProjectCode()));
+                }
+                if (row.getProjectManagerId() != null) {
+                    change.projectManagerIds.add(row.getProjectManagerId());
+                }
+            }
+            if (row.getCreatedAt().isAfter(watermark)) {
+                watermark = row.getCreatedAt();
+            }
+        }
+        merged.forEach((type, change) -> handler.accept(
+            new ProjectChangedEvent(type, List.copyOf(change.projects), Set.copyOf(change.projectManagerIds))));
+        delivered.values().removeIf(createdAt -> createdAt.isBefore(since));
+        purgeExpired();
+    }
+
+    private void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        if (lastPurge.plus(retention.dividedBy(10)).isAfter(now)) {
+            return;
+        }
+        int purged = repository.deleteCreatedBefore(now.minus(retention));
+        lastPurge = now;
+        log.debug("Purged {} expired cache invalidations", purged);
+    }
+
+    private static final class Merged {
+
+        private final Set<ChangedProject> projects = new LinkedHashSet<>();
+        private final Set<Long> projectManagerIds = new LinkedHashSet<>();
+    }
+}
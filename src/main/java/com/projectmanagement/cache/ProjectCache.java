@@ -0,0 +1,161 @@
+package com.projectmanagement.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.projectmanagement.dto.ProjectDTO;
+import com.projectmanagement.event.ProjectChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache of mapped projects, keyed by ID and by project code.
+ *
+ * <p>The database compares project codes case-insensitively, so a lookup may name a project in
+ * another case than it was stored in. Codes are keyed in lower case, and a project is only cached
+ * under a code that lower-cases to its own; evicting a project by its stored code therefore
+ * removes it whatever case it was looked up in.
+ *
+ * <p>Entries are evicted after a write commits. A loader that read the database before that
+ * commit may finish after the eviction; the invalidation counter makes such a load skip the
+ * cache instead of re-inserting the stale value.
+ *
+ * <p>When replicas share invalidations (see {@link ProjectCacheSynchronizer}) the cache is only
+ * consulted while the last successful synchronization is within the configured staleness
+ * bound; otherwise reads go straight to the database, and the cache is cleared before it is
+ * used again.
+ */
+@Component
+@Slf4j
+public class ProjectCache {
+
+    private final boolean enabled;
+    private final Cache<Long, ProjectDTO> byId;
+    private final Cache<String, ProjectDTO> byCode;
+    private final AtomicLong invalidations = new AtomicLong();
+    // Bumped whenever everything is evicted, e.g. after invalidations may have been missed
+    private final AtomicLong generation = new AtomicLong();
+
+    // Staleness bound in nanoseconds, or -1 when this replica does not share invalidations
+    private volatile long maxStalenessNanos = -1;
+    private volatile boolean synchronizedOnce;
+    private volatile long lastSynchronized;
+
+    public ProjectCache(ProjectCacheProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.enabled();
+        this.byId = newCache(properties);
+        this.byCode = newCache(properties);
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "projects.byId");
+        CaffeineCacheMetrics.monitor(meterRegistry, byCode, "projects.byCode");
+    }
+
+    public ProjectDTO getById(Long projectId, Supplier<ProjectDTO> loader) {
+        return getOrLoad(byId, projectId, loader, loaded -> true);
+    }
+
+    public ProjectDTO getByCode(String projectCode, Supplier<ProjectDTO> loader) {
+        String key = codeKey(projectCode);
+        // The collation may match codes that differ in more than case; those are not cached
+        return getOrLoad(byCode, key, loader, loaded -> key.equals(codeKey(loaded.getProjectCode())));
+    }
+
+    /**
+     * Returns the cached project without loading it, or null when absent or the cache cannot be trusted.
+     */
+    public ProjectDTO peekById(Long projectId) {
+        return enabled && isCoherent() ? byId.getIfPresent(projectId) : null;
+    }
+
+    public ProjectDTO peekByCode(String projectCode) {
+        return enabled && isCoherent() ? byCode.getIfPresent(codeKey(projectCode)) : null;
+    }
+
+    public void evict(Long projectId, String projectCode) {
+        invalidations.incrementAndGet();
+        if (projectId != null) {
+            byId.invalidate(projectId);
+        }
+        if (projectCode != null) {
+            byCode.invalidate(codeKey(projectCode));
+        }
+    }
+
+    public void evictAll() {
+        generation.incrementAndGet();
+        invalidations.incrementAndGet();
+        byId.invalidateAll();
+        byCode.invalidateAll();
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    public void requireSynchronization(Duration maxStaleness) {
+        maxStalenessNanos = maxStaleness.toNanos();
+    }
+
+    /**
+     * Records that every invalidation committed before {@code pollStartedNanos} has been applied.
+     */
+    public void markSynchronized(long pollStartedNanos) {
+        if (!isCoherent()) {
+            // Invalidations may have been missed while out of sync
+            evictAll();
+        }
+        lastSynchronized = pollStartedNanos;
+        synchronizedOnce = true;
+    }
+
+    public boolean isCoherent() {
+        long bound = maxStalenessNanos;
+        return bound < 0 || (synchronizedOnce && System.nanoTime() - lastSynchronized <= bound);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        log.debug("Evicting {} cached projects", event.projects().size());
+        event.projects().forEach(project -> evict(project.id(), project.code()));
+    }
+
+    private <K> ProjectDTO getOrLoad(Cache<K, ProjectDTO> cache, K key, Supplier<ProjectDTO> loader,
+                                     Predicate<ProjectDTO> cacheable) {
+        if (!enabled || !isCoherent()) {
+            return loader.get();
+        }
+
+        ProjectDTO cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long stamp = invalidations.get();
+        ProjectDTO loaded = loader.get();
+        if (!cacheable.test(loaded)) {
+            return loaded;
+        }
+        // Only publish the loaded value if no write committed while it was being read
+        cache.asMap().compute(key, (k, current) -> invalidations.get() == stamp ? loaded : current);
+        return loaded;
+    }
+
+    private static String codeKey(String projectCode) {
+        return projectCode.toLowerCase(Locale.ROOT);
+    }
+
+    private static <K> Cache<K, ProjectDTO> newCache(ProjectCacheProperties properties) {
+        return Caffeine.newBuilder()
+            .maximumSize(properties.maximumSize())
+            .expireAfterWrite(properties.ttl())
+            .recordStats()
+            .build();
+    }
+}
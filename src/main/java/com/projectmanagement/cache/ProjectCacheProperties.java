@@ -0,0 +1,36 @@
+package com.projectmanagement.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "project.cache")
+public record ProjectCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("5m") Duration ttl,
+        @DefaultValue Invalidation invalidation) {
+
+    /**
+     * Cross-replica invalidation. A replica that has not synchronized with the bus within
+     * {@code maxStaleness} stops serving cached entries until it catches up again.
+     *
+     * @param lookback how far back each poll re-reads the outbox; must exceed the clock skew
+     *                 between replicas plus the time between an outbox insert and its commit
+     */
+    public record Invalidation(
+            @DefaultValue("outbox") BusType bus,
+            @DefaultValue("1s") Duration pollInterval,
+            @DefaultValue("5s") Duration maxStaleness,
+            @DefaultValue("10s") Duration lookback,
+            @DefaultValue("1h") Duration retention,
+            @DefaultValue("default") String channel) {
+    }
+
+    public enum BusType {
+        OUTBOX,
+        IN_MEMORY,
+        NONE
+    }
+}
@@ -0,0 +1,88 @@
+package com.projectmanagement.cache;
+
+import com.projectmanagement.event.ProjectChangedEvent;
+import com.projectmanagement.event.RemoteProjectChangedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the local {@link ProjectCache} coherent with writes made on other replicas.
+ * Local writes are recorded on the {@link InvalidationBus} before their transaction commits;
+ * a background thread polls the bus, evicts what other replicas changed and republishes each
+ * change as a {@link RemoteProjectChangedEvent}. Inert when no bus is configured.
+ */
+@Component
+@Slf4j
+public class ProjectCacheSynchronizer {
+
+    private final InvalidationBus bus;
+    private final ProjectCache projectCache;
+    private final ProjectCacheProperties.Invalidation properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private ScheduledExecutorService poller;
+
+    public ProjectCacheSynchronizer(ObjectProvider<InvalidationBus> bus,
+                                    ProjectCache projectCache,
+                                    ProjectCacheProperties properties,
+                                    ApplicationEventPublisher eventPublisher) {
+        this.bus = bus.getIfAvailable();
+        this.projectCache = projectCache;
+        this.properties = properties.invalidation();
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostConstruct
+    void start() {
+        if (bus == null) {
+            return;
+        }
+        projectCache.requireSynchronization(properties.maxStaleness());
+        poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "project-cache-invalidation");
+            thread.setDaemon(true);
+            return thread;
+        });
+        poller.scheduleWithFixedDelay(this::poll, 0, properties.pollInterval().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (poller != null) {
+            poller.shutdownNow();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        if (bus != null) {
+            bus.publish(event);
+        }
+    }
+
+    void poll() {
+        try {
+            long startedAt = System.nanoTime();
+            bus.poll(event -> {
+                event.projects().forEach(project -> projectCache.evict(project.id(), project.code()));
+                try {
+                    eventPublisher.publishEvent(new RemoteProjectChangedEvent(event));
+                } catch (RuntimeException ex) {
+                    log.warn("Handling remote change of projects {} failed: {}", event.projectIds(), ex.getMessage());
+                }
+            });
+            projectCache.markSynchronized(startedAt);
+        } catch (RuntimeException ex) {
+            log.warn("Polling cache invalidations failed: {}", ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.projectmanagement.cache;
+
+import com.projectmanagement.event.ProjectChangedEvent;
+import com.projectmanagement.event.RemoteProjectChangedEvent;
+import com.projectmanagement.repository.ProjectManagerRepository;
+import com.projectmanagement.repository.ProjectRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Versions of the project lists of each project manager, used as list ETags. Every list embeds
+ * the projects with all their managers, so a version moves when an assignment of the manager is
+ * added or removed, or when one of their projects changes, including its other managers.
+ *
+ * <p>The versions are stored with the project managers and advanced in the transaction that
+ * changes the lists, so every replica hands out the same ETag for the same data. Each replica
+ * caches the versions it has read and evicts them after local writes commit or, via
+ * {@link RemoteProjectChangedEvent}, when other replicas write; while the {@link ProjectCache}
+ * is not coherent, versions are read from the database.
+ */
+@Component
+public class ProjectListVersions {
+
+    private final ConcurrentMap<Long, Cached> versions = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final ProjectRepository projectRepository;
+    private final ProjectManagerRepository projectManagerRepository;
+    private final ProjectCache projectCache;
+
+    public ProjectListVersions(ProjectRepository projectRepository, ProjectManagerRepository projectManagerRepository,
+                               ProjectCache projectCache) {
+        this.projectRepository = projectRepository;
+        this.projectManagerRepository = projectManagerRepository;
+        this.projectCache = projectCache;
+    }
+
+    /**
+     * Returns the current version of a project manager's lists, or null when the manager does not
+     * exist. Read it before the list itself, so that a version never runs ahead of the data.
+     */
+    public String projectManagerVersion(Long pmId) {
+        if (!projectCache.isCoherent()) {
+            return projectManagerRepository.findProjectsVersionById(pmId).map(String::valueOf).orElse(null);
+        }
+        long generation = projectCache.generation();
+        Cached cached = versions.get(pmId);
+        if (cached != null && cached.generation() == generation) {
+            return String.valueOf(cached.version());
+        }
+
+        long stamp = invalidations.get();
+        Long version = projectManagerRepository.findProjectsVersionById(pmId).orElse(null);
+        if (version == null) {
+            return null;
+        }
+        // Only publish the loaded version if no write committed while it was being read
+        versions.compute(pmId, (id, current) -> invalidations.get() == stamp ? new Cached(version, generation) : current);
+        return String.valueOf(version);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        Set<Long> pmIds = affectedProjectManagers(event);
+        if (pmIds.isEmpty()) {
+            return;
+        }
+        projectManagerRepository.incrementProjectsVersions(pmIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(pmIds);
+                }
+            });
+        } else {
+            evict(pmIds);
+        }
+    }
+
+    @EventListener
+    public void onRemoteProjectChanged(RemoteProjectChangedEvent event) {
+        evict(affectedProjectManagers(event.change()));
+    }
+
+    // The managers whose assignment changed, plus every current manager of the changed projects
+    private Set<Long> affectedProjectManagers(ProjectChangedEvent event) {
+        Set<Long> pmIds = new HashSet<>(event.projectManagerIds());
+        pmIds.addAll(projectRepository.findProjectManagerIdsByProjectIds(event.projectIds()));
+        return pmIds;
+    }
+
+    private void evict(Collection<Long> pmIds) {
+        invalidations.incrementAndGet();
+        pmIds.forEach(versions::remove);
+    }
+
+    private record Cached(long version, long generation) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.projectmanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Limits for the bulk project endpoints.
+ *
+ * @param batchSize rows inserted per JDBC batch and per transaction
+ * @param maxItems  largest accepted request; later elements are not read, and are reported as one rejection
+ */
+@ConfigurationProperties(prefix = "project.bulk")
+public record ProjectBulkProperties(
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("10000") int maxItems) {
+}
@@ -0,0 +1,17 @@
+package com.projectmanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of the NDJSON export.
+ *
+ * @param maxConnections size of the export's own connection pool, and so the number of exports that read at once
+ * @param fetchSize      rows fetched per round trip, which is also the number of projects whose managers are
+ *                       loaded together
+ */
+@ConfigurationProperties(prefix = "project.export")
+public record ProjectExportProperties(
+        @DefaultValue("4") int maxConnections,
+        @DefaultValue("500") int fetchSize) {
+}
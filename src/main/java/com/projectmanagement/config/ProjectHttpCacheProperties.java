@@ -0,0 +1,17 @@
+package com.projectmanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Cache-Control header values of the conditional read endpoints; a blank value sends none.
+ * The defaults let clients keep responses but revalidate them with their ETag on every use.
+ *
+ * @param project                single project reads by ID or code
+ * @param projectManagerProjects project lists of a project manager
+ */
+@ConfigurationProperties(prefix = "project.http.cache-control")
+public record ProjectHttpCacheProperties(
+        @DefaultValue("private, no-cache") String project,
+        @DefaultValue("private, no-cache") String projectManagerProjects) {
+}
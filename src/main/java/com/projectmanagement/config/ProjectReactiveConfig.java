@@ -0,0 +1,15 @@
+package com.projectmanagement.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+public class ProjectReactiveConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler projectReadScheduler(ProjectReactiveProperties properties) {
+        return Schedulers.newBoundedElastic(properties.threadCap(), properties.queuedTaskCap(), "project-reads");
+    }
+}
@@ -0,0 +1,19 @@
+package com.projectmanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Offload scheduler of the reactive read endpoints. Blocking reads run on at most
+ * {@code threadCap} threads; sized like the connection pool, they never queue inside Hikari.
+ *
+ * @param threadCap     threads running blocking reads
+ * @param queuedTaskCap reads waiting for a thread before further ones are rejected with 503
+ * @param pageSize      projects fetched per query when streaming long lists, at most 100
+ */
+@ConfigurationProperties(prefix = "project.reactive")
+public record ProjectReactiveProperties(
+        @DefaultValue("20") int threadCap,
+        @DefaultValue("10000") int queuedTaskCap,
+        @DefaultValue("100") int pageSize) {
+}
@@ -0,0 +1,78 @@
+package com.projectmanagement.controller;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanagement.exception.InvalidRequestException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads a JSON array one element at a time so large request bodies are never buffered whole.
+ * An element that is well-formed JSON but does not bind to the target type is reported as an
+ * {@link InvalidRequestException} from {@link #next()}, leaving the stream positioned at the
+ * following element; malformed JSON surfaces as an {@link UncheckedIOException}.
+ */
+final class JsonArrayIterator<T> implements Iterator<T>, Closeable {
+
+    private final ObjectMapper objectMapper;
+    private final JsonParser parser;
+    private final Class<T> type;
+    private JsonToken nextToken;
+    private int index;
+
+    JsonArrayIterator(ObjectMapper objectMapper, InputStream body, Class<T> type) throws IOException {
+        this.objectMapper = objectMapper;
+        this.parser = objectMapper.getFactory().createParser(body);
+        this.type = type;
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            parser.close();
+            throw new InvalidRequestException("Request body must be a JSON array");
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextToken == null) {
+            try {
+                nextToken = parser.nextToken();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return nextToken != null && nextToken != JsonToken.END_ARRAY;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        nextToken = null;
+        int itemIndex = index++;
+
+        JsonNode element;
+        try {
+            element = objectMapper.readTree(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try {
+            return objectMapper.treeToValue(element, type);
+        } catch (JsonProcessingException e) {
+            throw new InvalidRequestException("Item " + itemIndex + " could not be read: " + e.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
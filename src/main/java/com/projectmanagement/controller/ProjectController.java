@@ -1,7 +1,22 @@
 package com.projectmanagement.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.projectmanagement.config.ProjectHttpCacheProperties;
+import com.projectmanagement.dto.BulkProjectResultDTO;
+import com.projectmanagement.dto.CursorPageDTO;
+import com.projectmanagement.dto.PortfolioStatsDTO;
+import com.projectmanagement.dto.ProjectAssignmentRequestDTO;
+import com.projectmanagement.dto.ProjectAssignmentResultDTO;
 import com.projectmanagement.dto.ProjectDTO;
+import com.projectmanagement.dto.ProjectManagerBatchRequestDTO;
+import com.projectmanagement.dto.ProjectManagerBatchResultDTO;
+import com.projectmanagement.dto.ProjectStatsDTO;
+import com.projectmanagement.dto.ProjectSummaryDTO;
 import com.projectmanagement.entity.ProjectStatus;
+import com.projectmanagement.exception.InvalidRequestException;
 import com.projectmanagement.service.ProjectService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -11,12 +26,23 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/projects")
@@ -26,19 +52,36 @@ import java.util.List;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final ObjectMapper objectMapper;
+    private final ProjectHttpCacheProperties httpCacheProperties;
 
     /**
-     * Get all projects handled by a specific project manager (by PM ID)
+     * Get all projects handled by a specific project manager (by PM ID). Answers 304 when
+     * If-None-Match names the current ETag of the manager's projects.
      */
     @GetMapping("/pm/{pmId}")
     public ResponseEntity<List<ProjectDTO>> getProjectsByProjectManagerId(
-            @PathVariable Long pmId) {
-        log.info("GET /projects/pm/{} - Fetching projects for project manager", pmId);
+            @PathVariable Long pmId, WebRequest request) {
+        log.debug("GET /projects/pm/{} - Fetching projects for project manager", pmId);
 
-        List<ProjectDTO> projects = projectService.getProjectsByProjectManagerId(pmId);
+        return conditionalProjectList(request, pmId, () -> {
+            List<ProjectDTO> projects = projectService.getProjectsByProjectManagerId(pmId);
 
-        log.info("Found {} projects for project manager ID: {}", projects.size(), pmId);
-        return ResponseEntity.ok(projects);
+            log.debug("Found {} projects for project manager ID: {}", projects.size(), pmId);
+            return projects;
+        });
+    }
+
+    /**
+     * Get summaries of all projects handled by a specific project manager (by PM ID), with only
+     * the requested fields, e.g. fields=summary or fields=id,name,status
+     */
+    @GetMapping(value = "/pm/{pmId}", params = "fields")
+    public ResponseEntity<MappingJacksonValue> getProjectSummariesByProjectManagerId(
+            @PathVariable Long pmId, @RequestParam String fields) {
+        log.debug("GET /projects/pm/{}?fields={} - Fetching project summaries for project manager", pmId, fields);
+
+        return summaries(fields, () -> projectService.getProjectSummariesByProjectManagerId(pmId));
     }
 
     /**
@@ -52,7 +95,7 @@ public class ProjectController {
             @RequestParam(defaultValue = "updatedAt") String sortBy,
             @RequestParam(defaultValue = "desc") String sortDir) {
 
-        log.info("GET /projects/pm/{}/paginated - page: {}, size: {}", pmId, page, size);
+        log.debug("GET /projects/pm/{}/paginated - page: {}, size: {}", pmId, page, size);
 
         Sort sort = sortDir.equalsIgnoreCase("desc") ? 
             Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
@@ -60,70 +103,165 @@ public class ProjectController {
 
         Page<ProjectDTO> projectPage = projectService.getProjectsByProjectManagerId(pmId, pageable);
 
-        log.info("Found {} projects in page {} for project manager ID: {}", 
+        log.debug("Found {} projects in page {} for project manager ID: {}", 
                 projectPage.getContent().size(), page, pmId);
         return ResponseEntity.ok(projectPage);
     }
 
+    /**
+     * Get projects handled by a specific project manager using keyset (cursor) pagination.
+     * Pass the returned nextCursor to fetch the following page.
+     */
+    @GetMapping("/pm/{pmId}/keyset")
+    public ResponseEntity<CursorPageDTO<ProjectDTO>> getProjectsByProjectManagerIdKeyset(
+            @PathVariable Long pmId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        log.debug("GET /projects/pm/{}/keyset - cursor: {}, size: {}", pmId, cursor, size);
+
+        CursorPageDTO<ProjectDTO> projectPage =
+            projectService.getProjectsByProjectManagerIdAfter(pmId, cursor, size, includeTotal);
+
+        log.debug("Found {} projects for project manager ID: {}", projectPage.getSize(), pmId);
+        return ResponseEntity.ok(projectPage);
+    }
+
     /**
      * Get all projects handled by a specific project manager (by email)
      */
     @GetMapping("/pm/email/{email}")
     public ResponseEntity<List<ProjectDTO>> getProjectsByProjectManagerEmail(
             @PathVariable String email) {
-        log.info("GET /projects/pm/email/{} - Fetching projects for project manager", email);
+        log.debug("GET /projects/pm/email/{} - Fetching projects for project manager", email);
 
         List<ProjectDTO> projects = projectService.getProjectsByProjectManagerEmail(email);
 
-        log.info("Found {} projects for project manager email: {}", projects.size(), email);
+        log.debug("Found {} projects for project manager email: {}", projects.size(), email);
         return ResponseEntity.ok(projects);
     }
 
+    /**
+     * Get summaries of all projects handled by a specific project manager (by email)
+     */
+    @GetMapping(value = "/pm/email/{email}", params = "fields")
+    public ResponseEntity<MappingJacksonValue> getProjectSummariesByProjectManagerEmail(
+            @PathVariable String email, @RequestParam String fields) {
+        log.debug("GET /projects/pm/email/{}?fields={} - Fetching project summaries for project manager", email, fields);
+
+        return summaries(fields, () -> projectService.getProjectSummariesByProjectManagerEmail(email));
+    }
+
     /**
      * Get all projects handled by a specific project manager (by employee ID)
      */
     @GetMapping("/pm/employee/{employeeId}")
     public ResponseEntity<List<ProjectDTO>> getProjectsByProjectManagerEmployeeId(
             @PathVariable String employeeId) {
-        log.info("GET /projects/pm/employee/{} - Fetching projects for project manager", employeeId);
+        log.debug("GET /projects/pm/employee/{} - Fetching projects for project manager", employeeId);
 
         List<ProjectDTO> projects = projectService.getProjectsByProjectManagerEmployeeId(employeeId);
 
-        log.info("Found {} projects for project manager employee ID: {}", projects.size(), employeeId);
+        log.debug("Found {} projects for project manager employee ID: {}", projects.size(), employeeId);
         return ResponseEntity.ok(projects);
     }
 
     /**
-     * Get projects by project manager and status
+     * Get summaries of all projects handled by a specific project manager (by employee ID)
+     */
+    @GetMapping(value = "/pm/employee/{employeeId}", params = "fields")
+    public ResponseEntity<MappingJacksonValue> getProjectSummariesByProjectManagerEmployeeId(
+            @PathVariable String employeeId, @RequestParam String fields) {
+        log.debug("GET /projects/pm/employee/{}?fields={} - Fetching project summaries for project manager",
+                  employeeId, fields);
+
+        return summaries(fields, () -> projectService.getProjectSummariesByProjectManagerEmployeeId(employeeId));
+    }
+
+    /**
+     * Get the projects of several project managers at once, identified by any mix of ID, email
+     * and employee ID. Each project is returned once and referenced by ID from its managers.
+     */
+    @PostMapping("/pm/batch")
+    public ResponseEntity<ProjectManagerBatchResultDTO> getProjectsByProjectManagers(
+            @RequestBody ProjectManagerBatchRequestDTO request) {
+        log.debug("POST /projects/pm/batch - Fetching projects for project managers {}, emails {}, employee IDs {}",
+                  request.getPmIds(), request.getEmails(), request.getEmployeeIds());
+
+        ProjectManagerBatchResultDTO result = projectService.getProjectsByProjectManagers(request);
+
+        log.debug("Found {} projects for {} project managers", result.getProjects().size(),
+                  result.getProjectManagers().size());
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Get projects by project manager and status. Supports If-None-Match.
      */
     @GetMapping("/pm/{pmId}/status/{status}")
     public ResponseEntity<List<ProjectDTO>> getProjectsByProjectManagerIdAndStatus(
             @PathVariable Long pmId,
-            @PathVariable ProjectStatus status) {
-        log.info("GET /projects/pm/{}/status/{} - Fetching projects", pmId, status);
+            @PathVariable ProjectStatus status,
+            WebRequest request) {
+        log.debug("GET /projects/pm/{}/status/{} - Fetching projects", pmId, status);
 
-        List<ProjectDTO> projects = projectService.getProjectsByProjectManagerIdAndStatus(pmId, status);
+        return conditionalProjectList(request, pmId, () -> {
+            List<ProjectDTO> projects = projectService.getProjectsByProjectManagerIdAndStatus(pmId, status);
 
-        log.info("Found {} projects with status {} for PM ID: {}", projects.size(), status, pmId);
-        return ResponseEntity.ok(projects);
+            log.debug("Found {} projects with status {} for PM ID: {}", projects.size(), status, pmId);
+            return projects;
+        });
     }
 
     /**
-     * Get projects by project manager within a date range
+     * Get summaries of projects by project manager and status
+     */
+    @GetMapping(value = "/pm/{pmId}/status/{status}", params = "fields")
+    public ResponseEntity<MappingJacksonValue> getProjectSummariesByProjectManagerIdAndStatus(
+            @PathVariable Long pmId,
+            @PathVariable ProjectStatus status,
+            @RequestParam String fields) {
+        log.debug("GET /projects/pm/{}/status/{}?fields={} - Fetching project summaries", pmId, status, fields);
+
+        return summaries(fields, () -> projectService.getProjectSummariesByProjectManagerIdAndStatus(pmId, status));
+    }
+
+    /**
+     * Get projects by project manager within a date range. Supports If-None-Match.
      */
     @GetMapping("/pm/{pmId}/daterange")
     public ResponseEntity<List<ProjectDTO>> getProjectsByProjectManagerIdAndDateRange(
             @PathVariable Long pmId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            WebRequest request) {
 
-        log.info("GET /projects/pm/{}/daterange - startDate: {}, endDate: {}", pmId, startDate, endDate);
+        log.debug("GET /projects/pm/{}/daterange - startDate: {}, endDate: {}", pmId, startDate, endDate);
 
-        List<ProjectDTO> projects = projectService.getProjectsByProjectManagerIdAndDateRange(pmId, startDate, endDate);
+        return conditionalProjectList(request, pmId, () -> {
+            List<ProjectDTO> projects =
+                projectService.getProjectsByProjectManagerIdAndDateRange(pmId, startDate, endDate);
 
-        log.info("Found {} projects between {} and {} for PM ID: {}", 
-                projects.size(), startDate, endDate, pmId);
-        return ResponseEntity.ok(projects);
+            log.debug("Found {} projects between {} and {} for PM ID: {}",
+                    projects.size(), startDate, endDate, pmId);
+            return projects;
+        });
+    }
+
+    /**
+     * Get summaries of projects by project manager within a date range
+     */
+    @GetMapping(value = "/pm/{pmId}/daterange", params = "fields")
+    public ResponseEntity<MappingJacksonValue> getProjectSummariesByProjectManagerIdAndDateRange(
+            @PathVariable Long pmId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam String fields) {
+        log.debug("GET /projects/pm/{}/daterange?fields={} - startDate: {}, endDate: {}", pmId, fields, startDate, endDate);
+
+        return summaries(fields, () ->
+            projectService.getProjectSummariesByProjectManagerIdAndDateRange(pmId, startDate, endDate));
     }
 
     /**
@@ -131,34 +269,87 @@ public class ProjectController {
      */
     @GetMapping("/pm/{pmId}/count")
     public ResponseEntity<Long> countProjectsByProjectManagerId(@PathVariable Long pmId) {
-        log.info("GET /projects/pm/{}/count - Counting projects for project manager", pmId);
+        log.debug("GET /projects/pm/{}/count - Counting projects for project manager", pmId);
 
         Long count = projectService.countProjectsByProjectManagerId(pmId);
 
-        log.info("Project manager ID: {} handles {} projects", pmId, count);
+        log.debug("Project manager ID: {} handles {} projects", pmId, count);
         return ResponseEntity.ok(count);
     }
 
     /**
-     * Get project by ID
+     * Get the active projects handled by both of two project managers
+     */
+    @GetMapping("/pm/{pmId}/shared/{otherPmId}")
+    public ResponseEntity<List<ProjectDTO>> getProjectsSharedByProjectManagers(
+            @PathVariable Long pmId, @PathVariable Long otherPmId) {
+        log.debug("GET /projects/pm/{}/shared/{} - Fetching shared projects", pmId, otherPmId);
+
+        List<ProjectDTO> projects = projectService.getProjectsSharedByProjectManagers(pmId, otherPmId);
+
+        log.debug("Found {} projects shared by project managers {} and {}", projects.size(), pmId, otherPmId);
+        return ResponseEntity.ok(projects);
+    }
+
+    /**
+     * Get budget, cost and completion rollups of a project manager's active projects
+     */
+    @GetMapping("/pm/{pmId}/stats")
+    public ResponseEntity<ProjectStatsDTO> getProjectManagerStats(@PathVariable Long pmId) {
+        log.debug("GET /projects/pm/{}/stats - Fetching project manager stats", pmId);
+
+        ProjectStatsDTO stats = projectService.getProjectManagerStats(pmId);
+
+        return ResponseEntity.ok(stats);
+    }
+
+    /**
+     * Get portfolio rollups of active projects by status, client, department and project manager
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<PortfolioStatsDTO> getPortfolioStats() {
+        log.debug("GET /projects/stats - Fetching portfolio stats");
+
+        PortfolioStatsDTO stats = projectService.getPortfolioStats();
+
+        return ResponseEntity.ok(stats);
+    }
+
+    /**
+     * Recompute the portfolio rollups from the database
+     */
+    @PostMapping("/stats/rebuild")
+    public ResponseEntity<PortfolioStatsDTO> rebuildPortfolioStats() {
+        log.debug("POST /projects/stats/rebuild - Rebuilding portfolio stats");
+
+        PortfolioStatsDTO stats = projectService.rebuildPortfolioStats();
+
+        log.debug("Rebuilt portfolio stats for {} projects", stats.getTotal().getProjectCount());
+        return ResponseEntity.ok(stats);
+    }
+
+    /**
+     * Get project by ID. Answers 304 when If-None-Match names the current version.
      */
     @GetMapping("/{projectId}")
-    public ResponseEntity<ProjectDTO> getProjectById(@PathVariable Long projectId) {
-        log.info("GET /projects/{} - Fetching project details", projectId);
+    public ResponseEntity<ProjectDTO> getProjectById(@PathVariable Long projectId, WebRequest request) {
+        log.debug("GET /projects/{} - Fetching project details", projectId);
 
-        ProjectDTO project = projectService.getProjectById(projectId);
-        return ResponseEntity.ok(project);
+        return conditionalProject(request,
+            () -> projectService.getProjectVersion(projectId),
+            () -> projectService.getProjectById(projectId));
     }
 
     /**
-     * Get project by code
+     * Get project by code. Answers 304 when If-None-Match names the current version.
      */
     @GetMapping("/code/{projectCode}")
-    public ResponseEntity<ProjectDTO> getProjectByCode(@PathVariable String projectCode) {
-        log.info("GET /projects/code/{} - Fetching project details", projectCode);
+    public ResponseEntity<ProjectDTO> getProjectByCode(@PathVariable String projectCode, WebRequest request) {
+        log.debug("GET /projects/code/{} - Fetching project details", projectCode);
 
-        ProjectDTO project = projectService.getProjectByCode(projectCode);
-        return ResponseEntity.ok(project);
+        return conditionalProject(request,
+            () -> projectService.getProjectVersionByCode(projectCode),
+            () -> projectService.getProjectByCode(projectCode));
     }
 
     /**
@@ -166,14 +357,93 @@ public class ProjectController {
      */
     @GetMapping
     public ResponseEntity<List<ProjectDTO>> getAllActiveProjects() {
-        log.info("GET /projects - Fetching all active projects");
+        log.debug("GET /projects - Fetching all active projects");
 
         List<ProjectDTO> projects = projectService.getAllActiveProjects();
 
-        log.info("Found {} active projects", projects.size());
+        log.debug("Found {} active projects", projects.size());
         return ResponseEntity.ok(projects);
     }
 
+    /**
+     * Get summaries of all active projects
+     */
+    @GetMapping(params = {"fields", "!view"})
+    public ResponseEntity<MappingJacksonValue> getAllActiveProjectSummaries(@RequestParam String fields) {
+        log.debug("GET /projects?fields={} - Fetching summaries of all active projects", fields);
+
+        return summaries(fields, projectService::getAllActiveProjectSummaries);
+    }
+
+    /**
+     * Get all active projects in compact form: each project lists its managers' IDs and every
+     * manager is written once, under projectManagers keyed by ID
+     */
+    @GetMapping(params = "view=compact")
+    public ResponseEntity<StreamingResponseBody> getAllActiveProjectsCompact() {
+        log.debug("GET /projects?view=compact - Fetching all active projects");
+
+        StreamingResponseBody body = outputStream -> {
+            int projects = projectService.writeAllActiveProjectsCompact(outputStream);
+
+            log.debug("Found {} active projects", projects);
+        };
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(body);
+    }
+
+    /**
+     * Get active projects using keyset (cursor) pagination
+     */
+    @GetMapping("/keyset")
+    public ResponseEntity<CursorPageDTO<ProjectDTO>> getActiveProjectsKeyset(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        log.debug("GET /projects/keyset - cursor: {}, size: {}", cursor, size);
+
+        CursorPageDTO<ProjectDTO> projectPage = projectService.getActiveProjectsAfter(cursor, size, includeTotal);
+
+        log.debug("Found {} active projects in page", projectPage.getSize());
+        return ResponseEntity.ok(projectPage);
+    }
+
+    /**
+     * Export all active projects as newline-delimited JSON, streamed row by row
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportActiveProjects() {
+        log.debug("GET /projects/export - Streaming all active projects");
+
+        StreamingResponseBody body = outputStream -> {
+            try (SequenceWriter writer = objectMapper.writerFor(ProjectDTO.class)
+                    .withRootValueSeparator("\n")
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                    .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .writeValues(outputStream)) {
+                long exported = projectService.exportActiveProjects(project -> {
+                    try {
+                        writer.write(project);
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+                if (exported > 0) {
+                    writer.flush();
+                    outputStream.write('\n');
+                }
+                log.debug("Streamed {} active projects", exported);
+            }
+        };
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+
     /**
      * Search projects with filters
      */
@@ -183,40 +453,136 @@ public class ProjectController {
             @RequestParam(required = false) ProjectStatus status,
             @RequestParam(required = false) String clientName) {
 
-        log.info("GET /projects/search - pmId: {}, status: {}, client: {}", pmId, status, clientName);
+        log.debug("GET /projects/search - pmId: {}, status: {}, client: {}", pmId, status, clientName);
 
         List<ProjectDTO> projects = projectService.getProjectsWithFilters(pmId, status, clientName);
 
-        log.info("Found {} projects matching search criteria", projects.size());
+        log.debug("Found {} projects matching search criteria", projects.size());
         return ResponseEntity.ok(projects);
     }
 
+    /**
+     * Search projects with filters, returning summaries
+     */
+    @GetMapping(value = "/search", params = {"fields", "!q"})
+    public ResponseEntity<MappingJacksonValue> searchProjectSummaries(
+            @RequestParam(required = false) Long pmId,
+            @RequestParam(required = false) ProjectStatus status,
+            @RequestParam(required = false) String clientName,
+            @RequestParam String fields) {
+
+        log.debug("GET /projects/search?fields={} - pmId: {}, status: {}, client: {}", fields, pmId, status, clientName);
+
+        return summaries(fields, () -> projectService.getProjectSummariesWithFilters(pmId, status, clientName));
+    }
+
+    /**
+     * Full-text search over project name, client, technology stack and description, best match first.
+     * Terms of three or more characters match anywhere in a word; shorter terms match whole words.
+     */
+    @GetMapping(value = "/search", params = "q")
+    public ResponseEntity<Page<ProjectDTO>> searchProjectsByText(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        log.debug("GET /projects/search - q: {}, page: {}, size: {}", q, page, size);
+        if (page < 0) {
+            throw new InvalidRequestException("Page index must not be negative");
+        }
+        if (size < 1) {
+            throw new InvalidRequestException("Page size must be at least 1");
+        }
+
+        Page<ProjectDTO> results = projectService.searchProjects(q, PageRequest.of(page, size));
+
+        log.debug("Found {} projects matching: {}", results.getTotalElements(), q);
+        return ResponseEntity.ok(results);
+    }
+
     /**
      * Create a new project
      */
     @PostMapping
     public ResponseEntity<ProjectDTO> createProject(@Valid @RequestBody ProjectDTO projectDTO) {
-        log.info("POST /projects - Creating new project: {}", projectDTO.getName());
+        log.debug("POST /projects - Creating new project: {}", projectDTO.getName());
 
         ProjectDTO createdProject = projectService.createProject(projectDTO);
 
-        log.info("Created project with ID: {}", createdProject.getId());
-        return ResponseEntity.status(HttpStatus.CREATED).body(createdProject);
+        log.debug("Created project with ID: {}", createdProject.getId());
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(ProjectETags.of(createdProject)).body(createdProject);
     }
 
     /**
-     * Update an existing project
+     * Create projects in bulk from a JSON array of projects. The body is read incrementally
+     * and every element gets its own result; invalid or duplicate items do not abort the batch.
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkProjectResultDTO> createProjectsBulk(InputStream body) throws IOException {
+        log.debug("POST /projects/bulk - Creating projects in bulk");
+
+        try (JsonArrayIterator<ProjectDTO> projects = new JsonArrayIterator<>(objectMapper, body, ProjectDTO.class)) {
+            BulkProjectResultDTO result = projectService.createProjects(projects);
+
+            log.debug("Bulk request created {} of {} projects", result.getCreated(), result.getReceived());
+            return ResponseEntity.ok(result);
+        } catch (UncheckedIOException e) {
+            // Batches completed before the malformed element stay committed
+            throw new InvalidRequestException("Malformed JSON in bulk request: " + e.getCause().getMessage());
+        }
+    }
+
+    /**
+     * Update projects in bulk from a JSON array of projects, each matched to an existing project
+     * by its projectCode. Like the bulk create, every element gets its own result.
+     */
+    @PutMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkProjectResultDTO> updateProjectsBulk(InputStream body) throws IOException {
+        log.debug("PUT /projects/bulk - Updating projects in bulk");
+
+        try (JsonArrayIterator<ProjectDTO> projects = new JsonArrayIterator<>(objectMapper, body, ProjectDTO.class)) {
+            BulkProjectResultDTO result = projectService.updateProjects(projects);
+
+            log.debug("Bulk request updated {} of {} projects", result.getUpdated(), result.getReceived());
+            return ResponseEntity.ok(result);
+        } catch (UncheckedIOException e) {
+            // Batches completed before the malformed element stay committed
+            throw new InvalidRequestException("Malformed JSON in bulk request: " + e.getCause().getMessage());
+        }
+    }
+
+    /**
+     * Update an existing project. With If-Match, the update only applies to that version.
      */
     @PutMapping("/{projectId}")
     public ResponseEntity<ProjectDTO> updateProject(
             @PathVariable Long projectId,
-            @Valid @RequestBody ProjectDTO projectDTO) {
-        log.info("PUT /projects/{} - Updating project", projectId);
+            @Valid @RequestBody ProjectDTO projectDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        log.debug("PUT /projects/{} - Updating project", projectId);
+
+        ProjectDTO updatedProject = projectService.updateProject(
+            projectId, projectDTO, ProjectETags.expectedVersion(ifMatch));
+
+        log.debug("Updated project with ID: {}", projectId);
+        return ResponseEntity.ok().eTag(ProjectETags.of(updatedProject)).body(updatedProject);
+    }
+
+    /**
+     * Update only the fields present in the body, e.g. {"completionPercentage": 60}. Fields
+     * set to null are cleared. With If-Match, the update only applies to that version.
+     */
+    @PatchMapping(value = "/{projectId}", consumes = {MediaType.APPLICATION_JSON_VALUE, "application/merge-patch+json"})
+    public ResponseEntity<ProjectDTO> patchProject(
+            @PathVariable Long projectId,
+            @RequestBody Map<String, Object> changes,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        log.debug("PATCH /projects/{} - Patching fields {}", projectId, changes.keySet());
 
-        ProjectDTO updatedProject = projectService.updateProject(projectId, projectDTO);
+        ProjectDTO patchedProject = projectService.patchProject(
+            projectId, changes, ProjectETags.expectedVersion(ifMatch));
 
-        log.info("Updated project with ID: {}", projectId);
-        return ResponseEntity.ok(updatedProject);
+        log.debug("Patched project with ID: {}", projectId);
+        return ResponseEntity.ok().eTag(ProjectETags.of(patchedProject)).body(patchedProject);
     }
 
     /**
@@ -224,11 +590,11 @@ public class ProjectController {
      */
     @DeleteMapping("/{projectId}")
     public ResponseEntity<Void> deleteProject(@PathVariable Long projectId) {
-        log.info("DELETE /projects/{} - Deleting project", projectId);
+        log.debug("DELETE /projects/{} - Deleting project", projectId);
 
         projectService.deleteProject(projectId);
 
-        log.info("Deleted project with ID: {}", projectId);
+        log.debug("Deleted project with ID: {}", projectId);
         return ResponseEntity.noContent().build();
     }
 
@@ -239,11 +605,11 @@ public class ProjectController {
     public ResponseEntity<Void> assignProjectManagerToProject(
             @PathVariable Long projectId,
             @PathVariable Long pmId) {
-        log.info("POST /projects/{}/pm/{} - Assigning PM to project", projectId, pmId);
+        log.debug("POST /projects/{}/pm/{} - Assigning PM to project", projectId, pmId);
 
         projectService.assignProjectManagerToProject(projectId, pmId);
 
-        log.info("Assigned PM ID: {} to project ID: {}", pmId, projectId);
+        log.debug("Assigned PM ID: {} to project ID: {}", pmId, projectId);
         return ResponseEntity.ok().build();
     }
 
@@ -254,11 +620,85 @@ public class ProjectController {
     public ResponseEntity<Void> removeProjectManagerFromProject(
             @PathVariable Long projectId,
             @PathVariable Long pmId) {
-        log.info("DELETE /projects/{}/pm/{} - Removing PM from project", projectId, pmId);
+        log.debug("DELETE /projects/{}/pm/{} - Removing PM from project", projectId, pmId);
 
         projectService.removeProjectManagerFromProject(projectId, pmId);
 
-        log.info("Removed PM ID: {} from project ID: {}", pmId, projectId);
+        log.debug("Removed PM ID: {} from project ID: {}", pmId, projectId);
         return ResponseEntity.ok().build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Assign every listed project manager to every listed project. Pairs that already exist are skipped.
+     */
+    @PostMapping("/assignments")
+    public ResponseEntity<ProjectAssignmentResultDTO> assignProjectManagers(
+            @RequestBody ProjectAssignmentRequestDTO request) {
+        log.debug("POST /projects/assignments - Assigning PMs {} to projects {}", request.getPmIds(), request.getProjectIds());
+
+        ProjectAssignmentResultDTO result = projectService.assignProjectManagers(request);
+
+        log.debug("Assigned {} new project manager pairs", result.getChanged());
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Remove every listed project manager from every listed project. Missing pairs are skipped.
+     */
+    @PostMapping("/assignments/remove")
+    public ResponseEntity<ProjectAssignmentResultDTO> removeProjectManagers(
+            @RequestBody ProjectAssignmentRequestDTO request) {
+        log.debug("POST /projects/assignments/remove - Removing PMs {} from projects {}", request.getPmIds(), request.getProjectIds());
+
+        ProjectAssignmentResultDTO result = projectService.removeProjectManagers(request);
+
+        log.debug("Removed {} project manager pairs", result.getChanged());
+        return ResponseEntity.ok(result);
+    }
+
+    // The field names are checked before the query runs
+    private static ResponseEntity<MappingJacksonValue> summaries(String fields,
+                                                                 Supplier<List<ProjectSummaryDTO>> loader) {
+        Set<String> selected = ProjectSummaryFields.parse(fields);
+        List<ProjectSummaryDTO> summaries = loader.get();
+
+        log.debug("Found {} project summaries", summaries.size());
+        return ResponseEntity.ok(ProjectSummaryFields.select(summaries, selected));
+    }
+
+    // Revalidation only looks up the version, so an unchanged project is neither loaded nor serialized
+    private ResponseEntity<ProjectDTO> conditionalProject(WebRequest request, Supplier<Long> currentVersion,
+                                                          Supplier<ProjectDTO> loader) {
+        String cacheControl = httpCacheProperties.project();
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            String etag = ProjectETags.of(currentVersion.get());
+            if (ProjectETags.isNotModified(ifNoneMatch, etag)) {
+                return withCaching(ResponseEntity.status(HttpStatus.NOT_MODIFIED), etag, cacheControl).build();
+            }
+        }
+        ProjectDTO project = loader.get();
+        return withCaching(ResponseEntity.ok(), ProjectETags.of(project), cacheControl).body(project);
+    }
+
+    // The list version is read before the list, so a stale list never carries a newer ETag
+    private <T> ResponseEntity<T> conditionalProjectList(WebRequest request, Long pmId, Supplier<T> loader) {
+        String cacheControl = httpCacheProperties.projectManagerProjects();
+        String etag = ProjectETags.ofList(projectService.getProjectManagerProjectsVersion(pmId));
+        if (ProjectETags.isNotModified(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            return withCaching(ResponseEntity.status(HttpStatus.NOT_MODIFIED), etag, cacheControl).build();
+        }
+        return withCaching(ResponseEntity.ok(), etag, cacheControl).body(loader.get());
+    }
+
+    private static ResponseEntity.BodyBuilder withCaching(ResponseEntity.BodyBuilder response, String etag,
+                                                          String cacheControl) {
+        if (etag != null) {
+            response.eTag(etag);
+        }
+        if (cacheControl != null && !cacheControl.isBlank()) {
+            response.header(HttpHeaders.CACHE_CONTROL, cacheControl);
+        }
+        return response;
+    }
+}
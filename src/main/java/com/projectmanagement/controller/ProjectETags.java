@@ -0,0 +1,73 @@
+package com.projectmanagement.controller;
+
+import com.projectmanagement.dto.ProjectDTO;
+import com.projectmanagement.exception.InvalidRequestException;
+import com.projectmanagement.exception.PreconditionFailedException;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * ETags of single projects, derived from their optimistic locking version, and of project lists.
+ */
+final class ProjectETags {
+
+    private static final Pattern STRONG_VERSION_TAG = Pattern.compile("\"(\\d+)\"");
+
+    private ProjectETags() {
+    }
+
+    static String of(ProjectDTO project) {
+        return of(project.getVersion());
+    }
+
+    static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * ETag of a list with the given version, or null when the list has none.
+     */
+    static String ofList(String version) {
+        return version != null ? "\"" + version + "\"" : null;
+    }
+
+    /**
+     * Whether an If-None-Match header names the given ETag. If-None-Match uses weak comparison,
+     * so a {@code W/} prefix is ignored.
+     */
+    static boolean isNotModified(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            String candidate = tag.trim();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals("*") || candidate.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the version an If-Match header requires, or null when the header is absent or
+     * {@code *}. If-Match uses strong comparison, so a weak tag can never match.
+     */
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            throw new PreconditionFailedException("If-Match requires a strong ETag, got " + tag);
+        }
+        Matcher matcher = STRONG_VERSION_TAG.matcher(tag);
+        if (!matcher.matches()) {
+            throw new InvalidRequestException("If-Match must be a single project ETag, got " + tag);
+        }
+        return Long.valueOf(matcher.group(1));
+    }
+}
@@ -0,0 +1,71 @@
+package com.projectmanagement.controller;
+
+import com.projectmanagement.dto.ProjectManagerDTO;
+import com.projectmanagement.service.ProjectManagerDirectoryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/project-managers")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class ProjectManagerController {
+
+    private final ProjectManagerDirectoryService directoryService;
+
+    /**
+     * List active project managers by name, optionally filtered by department and by name prefix
+     * (every word of {@code name} must start a word of the manager's name)
+     */
+    @GetMapping
+    public ResponseEntity<List<ProjectManagerDTO>> getActiveProjectManagers(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String department) {
+        log.debug("GET /project-managers - Fetching project managers with name: {}, department: {}", name, department);
+
+        List<ProjectManagerDTO> managers = directoryService.getActiveProjectManagers(name, department);
+
+        log.debug("Found {} project managers", managers.size());
+        return ResponseEntity.ok(managers);
+    }
+
+    /**
+     * Get a project manager by ID
+     */
+    @GetMapping("/{pmId}")
+    public ResponseEntity<ProjectManagerDTO> getProjectManagerById(@PathVariable Long pmId) {
+        log.debug("GET /project-managers/{} - Fetching project manager", pmId);
+
+        return ResponseEntity.ok(directoryService.getProjectManagerById(pmId));
+    }
+
+    /**
+     * Get an active project manager by email
+     */
+    @GetMapping("/email/{email}")
+    public ResponseEntity<ProjectManagerDTO> getProjectManagerByEmail(@PathVariable String email) {
+        log.debug("GET /project-managers/email/{} - Fetching project manager", email);
+
+        return ResponseEntity.ok(directoryService.getProjectManagerByEmail(email));
+    }
+
+    /**
+     * Get an active project manager by employee ID
+     */
+    @GetMapping("/employee/{employeeId}")
+    public ResponseEntity<ProjectManagerDTO> getProjectManagerByEmployeeId(@PathVariable String employeeId) {
+        log.debug("GET /project-managers/employee/{} - Fetching project manager", employeeId);
+
+        return ResponseEntity.ok(directoryService.getProjectManagerByEmployeeId(employeeId));
+    }
+}
@@ -0,0 +1,56 @@
+package com.projectmanagement.controller;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.projectmanagement.dto.ProjectSummaryDTO;
+import com.projectmanagement.exception.InvalidRequestException;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The {@code fields} parameter of the project list endpoints: {@code summary} for every summary
+ * field, or a comma-separated subset of them such as {@code id,name,status}.
+ */
+final class ProjectSummaryFields {
+
+    static final String SUMMARY = "summary";
+
+    private static final List<String> SUMMARY_FIELDS = List.of(
+        "id", "projectCode", "name", "status", "priority", "startDate", "endDate", "estimatedEndDate",
+        "completionPercentage", "updatedAt", "version");
+
+    private ProjectSummaryFields() {
+    }
+
+    /**
+     * The requested field names, checked before any query runs.
+     */
+    static Set<String> parse(String fields) {
+        Set<String> selected = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.equals(SUMMARY)) {
+                selected.addAll(SUMMARY_FIELDS);
+            } else if (SUMMARY_FIELDS.contains(name)) {
+                selected.add(name);
+            } else {
+                throw new InvalidRequestException("Unknown field '" + name + "'; fields must be " + SUMMARY +
+                                                  " or a comma-separated subset of " + SUMMARY_FIELDS);
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * The summaries as a response body that only serializes the selected fields.
+     */
+    static MappingJacksonValue select(List<ProjectSummaryDTO> summaries, Set<String> fields) {
+        MappingJacksonValue body = new MappingJacksonValue(summaries);
+        body.setFilters(new SimpleFilterProvider()
+            .addFilter(ProjectSummaryDTO.FIELDS_FILTER, SimpleBeanPropertyFilter.filterOutAllExcept(fields)));
+        return body;
+    }
+}
@@ -0,0 +1,138 @@
+package com.projectmanagement.controller;
+
+import com.projectmanagement.dto.ProjectDTO;
+import com.projectmanagement.entity.ProjectStatus;
+import com.projectmanagement.service.ReactiveProjectService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * Non-blocking mirror of the project read endpoints. No request thread waits for the database:
+ * reads run on a bounded offload scheduler and the response completes asynchronously. Lists are
+ * streamed as newline-delimited JSON by default, written as the client reads them; clients that
+ * send {@code Accept: application/json} get a single JSON array instead.
+ */
+@RestController
+@RequestMapping("/reactive/projects")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class ReactiveProjectController {
+
+    private final ReactiveProjectService reactiveProjectService;
+
+    /**
+     * Stream all projects handled by a specific project manager (by PM ID), one page per query
+     */
+    @GetMapping(value = "/pm/{pmId}", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<ProjectDTO> getProjectsByProjectManagerId(@PathVariable Long pmId) {
+        log.debug("GET /reactive/projects/pm/{} - Streaming projects for project manager", pmId);
+
+        return reactiveProjectService.getProjectsByProjectManagerId(pmId);
+    }
+
+    /**
+     * Stream all projects handled by a specific project manager (by email)
+     */
+    @GetMapping(value = "/pm/email/{email}", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<ProjectDTO> getProjectsByProjectManagerEmail(@PathVariable String email) {
+        log.debug("GET /reactive/projects/pm/email/{} - Streaming projects for project manager", email);
+
+        return reactiveProjectService.getProjectsByProjectManagerEmail(email);
+    }
+
+    /**
+     * Stream all projects handled by a specific project manager (by employee ID)
+     */
+    @GetMapping(value = "/pm/employee/{employeeId}", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<ProjectDTO> getProjectsByProjectManagerEmployeeId(@PathVariable String employeeId) {
+        log.debug("GET /reactive/projects/pm/employee/{} - Streaming projects for project manager", employeeId);
+
+        return reactiveProjectService.getProjectsByProjectManagerEmployeeId(employeeId);
+    }
+
+    /**
+     * Stream projects by project manager and status
+     */
+    @GetMapping(value = "/pm/{pmId}/status/{status}", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<ProjectDTO> getProjectsByProjectManagerIdAndStatus(
+            @PathVariable Long pmId,
+            @PathVariable ProjectStatus status) {
+        log.debug("GET /reactive/projects/pm/{}/status/{} - Streaming projects", pmId, status);
+
+        return reactiveProjectService.getProjectsByProjectManagerIdAndStatus(pmId, status);
+    }
+
+    /**
+     * Stream projects by project manager within a date range
+     */
+    @GetMapping(value = "/pm/{pmId}/daterange", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<ProjectDTO> getProjectsByProjectManagerIdAndDateRange(
+            @PathVariable Long pmId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        log.debug("GET /reactive/projects/pm/{}/daterange - startDate: {}, endDate: {}", pmId, startDate, endDate);
+
+        return reactiveProjectService.getProjectsByProjectManagerIdAndDateRange(pmId, startDate, endDate);
+    }
+
+    /**
+     * Count projects handled by a specific project manager
+     */
+    @GetMapping("/pm/{pmId}/count")
+    public Mono<Long> countProjectsByProjectManagerId(@PathVariable Long pmId) {
+        log.debug("GET /reactive/projects/pm/{}/count - Counting projects for project manager", pmId);
+
+        return reactiveProjectService.countProjectsByProjectManagerId(pmId);
+    }
+
+    /**
+     * Get project by ID
+     */
+    @GetMapping("/{projectId}")
+    public Mono<ProjectDTO> getProjectById(@PathVariable Long projectId) {
+        log.debug("GET /reactive/projects/{} - Fetching project details", projectId);
+
+        return reactiveProjectService.getProjectById(projectId);
+    }
+
+    /**
+     * Get project by code
+     */
+    @GetMapping("/code/{projectCode}")
+    public Mono<ProjectDTO> getProjectByCode(@PathVariable String projectCode) {
+        log.debug("GET /reactive/projects/code/{} - Fetching project details", projectCode);
+
+        return reactiveProjectService.getProjectByCode(projectCode);
+    }
+
+    /**
+     * Stream all active projects, most recently updated first, one page per query
+     */
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<ProjectDTO> getAllActiveProjects() {
+        log.debug("GET /reactive/projects - Streaming all active projects");
+
+        return reactiveProjectService.getAllActiveProjects();
+    }
+
+    /**
+     * Stream projects matching the given filters
+     */
+    @GetMapping(value = "/search", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<ProjectDTO> searchProjects(
+            @RequestParam(required = false) Long pmId,
+            @RequestParam(required = false) ProjectStatus status,
+            @RequestParam(required = false) String clientName) {
+        log.debug("GET /reactive/projects/search - pmId: {}, status: {}, client: {}", pmId, status, clientName);
+
+        return reactiveProjectService.getProjectsWithFilters(pmId, status, clientName);
+    }
+}
@@ -0,0 +1,28 @@
+package com.projectmanagement.directory;
+
+import com.projectmanagement.entity.ProjectManager;
+import com.projectmanagement.event.ProjectManagerChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener turning every project manager write, whichever code path makes it, into a
+ * {@link ProjectManagerChangedEvent}. Hibernate obtains it from the Spring context.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectManagerChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onChange(ProjectManager projectManager) {
+        eventPublisher.publishEvent(new ProjectManagerChangedEvent(projectManager.getId()));
+    }
+}
@@ -0,0 +1,17 @@
+package com.projectmanagement.directory;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * In-memory project manager directory.
+ *
+ * @param refreshInterval how often the whole directory is reloaded, bounding how long writes made
+ *                        on other replicas (or outside the application) stay invisible
+ */
+@ConfigurationProperties(prefix = "project.directory")
+public record ProjectManagerDirectoryProperties(
+        @DefaultValue("1m") Duration refreshInterval) {
+}
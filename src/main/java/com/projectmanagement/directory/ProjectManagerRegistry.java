@@ -0,0 +1,303 @@
+package com.projectmanagement.directory;
+
+import com.projectmanagement.dto.ProjectManagerDTO;
+import com.projectmanagement.event.ProjectManagerChangedEvent;
+import com.projectmanagement.mapper.ProjectMapper;
+import com.projectmanagement.repository.ProjectManagerRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * Every project manager, held in memory with hash indexes by ID, email, employee ID and
+ * department and a prefix index over the words of their names.
+ *
+ * <p>The registry is copy-on-write: readers use an immutable {@link Snapshot} without locking,
+ * and each change builds a new snapshot and swaps it in. That costs a pass over all managers per
+ * write, which suits a small set that rarely changes. Local writes are picked up from
+ * {@link ProjectManagerChangedEvent}s; writes made on other replicas or outside the application
+ * are picked up by a full reload every {@code project.directory.refresh-interval}.
+ *
+ * <p>Emails, employee IDs and departments are matched case-insensitively, as MySQL compares them.
+ * Returned DTOs are shared between callers and must not be modified.
+ */
+@Component
+@Slf4j
+public class ProjectManagerRegistry {
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final ProjectManagerRepository projectManagerRepository;
+    private final ProjectMapper projectMapper;
+    private final ProjectManagerDirectoryProperties properties;
+
+    private volatile Snapshot snapshot = Snapshot.of(List.of());
+
+    // Serializes writers; readers never take it
+    private final ReentrantLock lock = new ReentrantLock();
+    // IDs refreshed while a rebuild reads the table; re-read once the new snapshot is swapped in
+    private Set<Long> changedDuringRebuild;
+    private ScheduledExecutorService refresher;
+
+    public ProjectManagerRegistry(ProjectManagerRepository projectManagerRepository, ProjectMapper projectMapper,
+                                  ProjectManagerDirectoryProperties properties) {
+        this.projectManagerRepository = projectManagerRepository;
+        this.projectMapper = projectMapper;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+        long interval = properties.refreshInterval().toMillis();
+        refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "project-manager-directory");
+            thread.setDaemon(true);
+            return thread;
+        });
+        refresher.scheduleWithFixedDelay(this::refreshAll, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    /**
+     * Reloads every project manager. Lookups keep using the previous snapshot until the new one
+     * is complete.
+     */
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        lock.lock();
+        try {
+            changedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.unlock();
+        }
+
+        List<ProjectManagerDTO> managers = projectManagerRepository.findAll().stream()
+            .map(projectMapper::toProjectManagerDTO)
+            .toList();
+
+        lock.lock();
+        try {
+            Snapshot rebuilt = Snapshot.of(managers);
+            Set<Long> changed = changedDuringRebuild;
+            changedDuringRebuild = null;
+            for (Long id : changed) {
+                rebuilt = rebuilt.with(id, load(id));
+            }
+            snapshot = rebuilt;
+        } finally {
+            lock.unlock();
+        }
+        log.debug("Loaded {} project managers into the directory in {} ms",
+                  managers.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectManagerChanged(ProjectManagerChangedEvent event) {
+        lock.lock();
+        try {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(event.projectManagerId());
+            }
+            snapshot = snapshot.with(event.projectManagerId(), load(event.projectManagerId()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The project manager with this ID, active or not, or null when unknown.
+     */
+    public ProjectManagerDTO findById(Long id) {
+        return snapshot.byId.get(id);
+    }
+
+    /**
+     * ID of the project manager, active or not, with this email, or null when unknown.
+     */
+    public Long findIdByEmail(String email) {
+        return snapshot.idByEmail.get(normalize(email));
+    }
+
+    /**
+     * ID of the project manager, active or not, with this employee ID, or null when unknown.
+     */
+    public Long findIdByEmployeeId(String employeeId) {
+        return snapshot.idByEmployeeId.get(normalize(employeeId));
+    }
+
+    /**
+     * Active project managers ordered by name.
+     */
+    public List<ProjectManagerDTO> findActive() {
+        return snapshot.active;
+    }
+
+    /**
+     * Active project managers of a department, ordered by name.
+     */
+    public List<ProjectManagerDTO> findActiveByDepartment(String department) {
+        return snapshot.activeByDepartment.getOrDefault(normalize(department), List.of());
+    }
+
+    /**
+     * Active project managers, ordered by name, whose name has a word starting with each word
+     * of the query; "ali smi" matches "Alice Smith".
+     */
+    public List<ProjectManagerDTO> findActiveByNamePrefix(String query) {
+        Snapshot current = snapshot;
+        Set<Long> matches = null;
+        for (String prefix : words(query)) {
+            Set<Long> ids = new HashSet<>();
+            current.nameIndex.subMap(prefix, true, prefix + Character.MAX_VALUE, false)
+                .values().forEach(ids::addAll);
+            if (matches == null) {
+                matches = ids;
+            } else {
+                matches.retainAll(ids);
+            }
+        }
+        if (matches == null) {
+            return current.active;
+        }
+        Set<Long> found = matches;
+        return current.active.stream().filter(pm -> found.contains(pm.getId())).toList();
+    }
+
+    public int size() {
+        return snapshot.byId.size();
+    }
+
+    private void refreshAll() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh the project manager directory", e);
+        }
+    }
+
+    // Callers hold the lock, so two reloads of the same manager cannot apply out of order
+    private ProjectManagerDTO load(Long id) {
+        return projectManagerRepository.findById(id).map(projectMapper::toProjectManagerDTO).orElse(null);
+    }
+
+    private static String normalize(String value) {
+        return value == null ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> words(String text) {
+        Set<String> words = new LinkedHashSet<>();
+        if (text != null) {
+            for (String word : WORD_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+                if (!word.isEmpty()) {
+                    words.add(word);
+                }
+            }
+        }
+        return words;
+    }
+
+    private static final class Snapshot {
+
+        private static final Comparator<ProjectManagerDTO> BY_NAME =
+            Comparator.comparing(ProjectManagerDTO::getName, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
+                .thenComparing(ProjectManagerDTO::getId);
+
+        private final Map<Long, ProjectManagerDTO> byId;
+        private final Map<String, Long> idByEmail;
+        private final Map<String, Long> idByEmployeeId;
+        private final List<ProjectManagerDTO> active;
+        private final Map<String, List<ProjectManagerDTO>> activeByDepartment;
+        private final NavigableMap<String, List<Long>> nameIndex;
+
+        private Snapshot(Map<Long, ProjectManagerDTO> byId, Map<String, Long> idByEmail,
+                         Map<String, Long> idByEmployeeId, List<ProjectManagerDTO> active,
+                         Map<String, List<ProjectManagerDTO>> activeByDepartment,
+                         NavigableMap<String, List<Long>> nameIndex) {
+            this.byId = byId;
+            this.idByEmail = idByEmail;
+            this.idByEmployeeId = idByEmployeeId;
+            this.active = active;
+            this.activeByDepartment = activeByDepartment;
+            this.nameIndex = nameIndex;
+        }
+
+        static Snapshot of(Collection<ProjectManagerDTO> managers) {
+            Map<Long, ProjectManagerDTO> byId = new HashMap<>();
+            Map<String, Long> idByEmail = new HashMap<>();
+            Map<String, Long> idByEmployeeId = new HashMap<>();
+            List<ProjectManagerDTO> active = new ArrayList<>();
+            for (ProjectManagerDTO pm : managers) {
+                byId.put(pm.getId(), pm);
+                if (pm.getEmail() != null) {
+                    idByEmail.put(normalize(pm.getEmail()), pm.getId());
+                }
+                if (pm.getEmployeeId() != null) {
+                    idByEmployeeId.put(normalize(pm.getEmployeeId()), pm.getId());
+                }
+                if (Boolean.TRUE.equals(pm.getIsActive())) {
+                    active.add(pm);
+                }
+            }
+            active.sort(BY_NAME);
+
+            Map<String, List<ProjectManagerDTO>> activeByDepartment = new HashMap<>();
+            NavigableMap<String, List<Long>> nameIndex = new TreeMap<>();
+            for (ProjectManagerDTO pm : active) {
+                if (pm.getDepartment() != null) {
+                    activeByDepartment.computeIfAbsent(normalize(pm.getDepartment()), d -> new ArrayList<>()).add(pm);
+                }
+                for (String word : words(pm.getName())) {
+                    nameIndex.computeIfAbsent(word, w -> new ArrayList<>()).add(pm.getId());
+                }
+            }
+            activeByDepartment.replaceAll((department, pms) -> List.copyOf(pms));
+            nameIndex.replaceAll((word, ids) -> List.copyOf(ids));
+
+            return new Snapshot(Map.copyOf(byId), Map.copyOf(idByEmail), Map.copyOf(idByEmployeeId),
+                                List.copyOf(active), Map.copyOf(activeByDepartment),
+                                Collections.unmodifiableNavigableMap(nameIndex));
+        }
+
+        /**
+         * A copy with one manager replaced, or removed when {@code pm} is null.
+         */
+        Snapshot with(Long id, ProjectManagerDTO pm) {
+            Map<Long, ProjectManagerDTO> managers = new HashMap<>(byId);
+            if (pm != null) {
+                managers.put(id, pm);
+            } else {
+                managers.remove(id);
+            }
+            return of(managers.values());
+        }
+    }
+}
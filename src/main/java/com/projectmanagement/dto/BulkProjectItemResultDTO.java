@@ -0,0 +1,30 @@
+package com.projectmanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkProjectItemResultDTO {
+    private int index;
+    private String projectCode;
+    private Outcome outcome;
+    private Long id;
+    private String message;
+    private Map<String, String> validationErrors;
+
+    public enum Outcome {
+        CREATED,
+        UPDATED,
+        NOT_FOUND,
+        INVALID,
+        DUPLICATE,
+        FAILED
+    }
+}
@@ -0,0 +1,18 @@
+package com.projectmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkProjectResultDTO {
+    private int received;
+    private int created;
+    private int updated;
+    private int rejected;
+    private List<BulkProjectItemResultDTO> items;
+}
@@ -0,0 +1,24 @@
+package com.projectmanagement.dto;
+
+import com.projectmanagement.entity.ProjectStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Rollups over active projects. A project with several managers counts once for each of them
+ * and once for each distinct department among them; projects without a client are left out
+ * of {@code byClient}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PortfolioStatsDTO {
+    private ProjectStatsDTO total;
+    private Map<ProjectStatus, ProjectStatsDTO> byStatus;
+    private Map<String, ProjectStatsDTO> byClient;
+    private Map<String, ProjectStatsDTO> byDepartment;
+    private Map<Long, ProjectStatsDTO> byProjectManager;
+}
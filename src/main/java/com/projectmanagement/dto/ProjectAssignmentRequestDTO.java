@@ -0,0 +1,18 @@
+package com.projectmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Every listed project is paired with every listed project manager.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectAssignmentRequestDTO {
+    private List<Long> projectIds;
+    private List<Long> pmIds;
+}
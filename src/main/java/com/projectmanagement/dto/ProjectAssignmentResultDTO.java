@@ -0,0 +1,14 @@
+package com.projectmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectAssignmentResultDTO {
+    private int requested;
+    private int changed;
+    private int unchanged;
+}
@@ -32,5 +32,6 @@ public class ProjectDTO {
     private Integer completionPercentage;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
     private Set<ProjectManagerDTO> projectManagers;
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.projectmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Project managers to look up, by any mix of ID, email and employee ID.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectManagerBatchRequestDTO {
+    private List<Long> pmIds;
+    private List<String> emails;
+    private List<String> employeeIds;
+}
@@ -0,0 +1,22 @@
+package com.projectmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Projects of several project managers. Each project appears once in {@code projects}, keyed
+ * by ID, however many of the requested managers it belongs to. {@code notFound} lists the
+ * requested identifiers that matched no project manager.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectManagerBatchResultDTO {
+    private List<ProjectManagerProjectsDTO> projectManagers;
+    private Map<Long, ProjectDTO> projects;
+    private ProjectManagerBatchRequestDTO notFound;
+}
@@ -0,0 +1,20 @@
+package com.projectmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A project manager's active projects, as IDs referring to the batch result's projects.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectManagerProjectsDTO {
+    private Long id;
+    private String email;
+    private String employeeId;
+    private List<Long> projectIds;
+}
@@ -0,0 +1,17 @@
+package com.projectmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectStatsDTO {
+    private long projectCount;
+    private BigDecimal totalBudget;
+    private BigDecimal totalActualCost;
+    private Double averageCompletionPercentage;
+}
@@ -0,0 +1,36 @@
+package com.projectmanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.projectmanagement.entity.ProjectPriority;
+import com.projectmanagement.entity.ProjectStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * The short columns of a project, read with a constructor projection instead of loading the
+ * entity. Serialized with the {@value #FIELDS_FILTER} filter, which selects the requested fields.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonFilter(ProjectSummaryDTO.FIELDS_FILTER)
+public class ProjectSummaryDTO {
+
+    public static final String FIELDS_FILTER = "projectSummaryFields";
+
+    private Long id;
+    private String projectCode;
+    private String name;
+    private ProjectStatus status;
+    private ProjectPriority priority;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private LocalDate estimatedEndDate;
+    private Integer completionPercentage;
+    private LocalDateTime updatedAt;
+    private Long version;
+}
@@ -0,0 +1,46 @@
+package com.projectmanagement.entity;
+
+import com.projectmanagement.event.ProjectChangedEvent;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox row announcing that a project changed, read by every replica to evict its caches.
+ */
+@Entity
+@Table(name = "cache_invalidation_outbox")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheInvalidation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "invalidation_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 32)
+    private ProjectChangedEvent.ChangeType changeType;
+
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(name = "project_code", length = 20)
+    private String projectCode;
+
+    @Column(name = "pm_id")
+    private Long projectManagerId;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,36 @@
+package com.projectmanagement.entity;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+/**
+ * Allocates entity IDs in blocks from the {@value #TABLE} table, one row per entity. Unlike
+ * IDENTITY keys, the ID is known before the INSERT runs, so Hibernate can batch inserts.
+ *
+ * <p>Each row holds the next unallocated ID of its entity (the pooled-lo optimizer); a node
+ * reserves a block by advancing it by the block size in a separate transaction, and hands out
+ * the block from memory. The block size is the {@value #BLOCK_SIZE_SETTING} Hibernate setting
+ * and can change between deployments without risking duplicate IDs.
+ */
+public class PooledIdGenerator extends TableGenerator {
+
+    public static final String TABLE = "id_generators";
+    public static final String BLOCK_SIZE_SETTING = "project.id_block_size";
+    public static final int DEFAULT_BLOCK_SIZE = 50;
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) {
+        int blockSize = ConfigurationHelper.getInt(BLOCK_SIZE_SETTING,
+            serviceRegistry.getService(ConfigurationService.class).getSettings(), DEFAULT_BLOCK_SIZE);
+        parameters.setProperty(TABLE_PARAM, TABLE);
+        parameters.setProperty(INCREMENT_PARAM, Integer.toString(blockSize));
+        parameters.setProperty(OPT_PARAM, StandardOptimizerDescriptor.POOLED_LO.getExternalName());
+        super.configure(type, parameters, serviceRegistry);
+    }
+}
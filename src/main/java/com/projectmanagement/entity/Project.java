@@ -9,6 +9,9 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -25,7 +28,9 @@ import java.util.Set;
 public class Project {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "project_ids")
+    @GenericGenerator(name = "project_ids", type = PooledIdGenerator.class,
+        parameters = @Parameter(name = PooledIdGenerator.SEGMENT_VALUE_PARAM, value = "projects"))
     @Column(name = "project_id")
     private Long id;
 
@@ -86,7 +91,14 @@ public class Project {
     @Column(name = "is_active")
     private Boolean isActive = true;
 
-    // Many-to-Many relationship with ProjectManager
+    // Optimistic locking; also exposed as the ETag of a project
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    // Many-to-Many relationship with ProjectManager. Batch size covers paths without an
+    // entity graph (e.g. paged queries), loading managers for many projects per statement.
+    @BatchSize(size = 100)
     @ManyToMany(fetch = FetchType.LAZY, cascade = {CascadeType.PERSIST, CascadeType.MERGE})
     @JoinTable(
         name = "project_manager_assignments",
@@ -9,6 +9,10 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.projectmanagement.directory.ProjectManagerChangeListener;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -16,6 +20,7 @@ import java.util.Set;
 
 @Entity
 @Table(name = "project_managers")
+@EntityListeners(ProjectManagerChangeListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -23,7 +28,9 @@ import java.util.Set;
 public class ProjectManager {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "project_manager_ids")
+    @GenericGenerator(name = "project_manager_ids", type = PooledIdGenerator.class,
+        parameters = @Parameter(name = PooledIdGenerator.SEGMENT_VALUE_PARAM, value = "project_managers"))
     @Column(name = "pm_id")
     private Long id;
 
@@ -55,6 +62,11 @@ public class ProjectManager {
     @Column(name = "is_active")
     private Boolean isActive = true;
 
+    // Version of the manager's project lists; only advanced by ProjectManagerRepository
+    @ColumnDefault("0")
+    @Column(name = "projects_version", nullable = false, insertable = false, updatable = false)
+    private Long projectsVersion;
+
     // Many-to-Many relationship with Project
     @JsonIgnore
     @ManyToMany(mappedBy = "projectManagers", fetch = FetchType.LAZY)
@@ -0,0 +1,83 @@
+package com.projectmanagement.event;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Orders the rebuilds and refreshes of an in-memory view that is derived from the projects and
+ * kept current from {@link ProjectChangedEvent}s. A refresh reloads the changed projects into the
+ * current view. A rebuild scans the whole table into a new view without blocking refreshes. It
+ * records the projects refreshed during the scan, since the scan may have read them before the
+ * change, and reloads them once the new view is swapped in.
+ *
+ * <p>Rebuilds run one at a time; a rebuild requested while another runs waits for it and then
+ * scans again. Refreshes, swaps and {@link #withLock} actions run under one lock. It is not a
+ * monitor: refreshes query the database while holding it, which would pin virtual threads.
+ */
+public final class IncrementalRefresher {
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final ReentrantLock lock = new ReentrantLock();
+    // Guarded by lock; projects refreshed while a rebuild scans the table
+    private Set<Long> changedDuringRebuild;
+
+    /**
+     * Runs {@code scan}, then, under the lock, {@code swap} with its result and {@code reload}
+     * with the projects refreshed during the scan. Returns the scanned view.
+     */
+    public <T> T rebuild(Supplier<T> scan, Consumer<T> swap, Consumer<Collection<Long>> reload) {
+        rebuildLock.lock();
+        try {
+            withLock(() -> changedDuringRebuild = new HashSet<>());
+            T rebuilt;
+            try {
+                rebuilt = scan.get();
+            } catch (RuntimeException e) {
+                withLock(() -> changedDuringRebuild = null);
+                throw e;
+            }
+            withLock(() -> {
+                swap.accept(rebuilt);
+                Set<Long> changed = changedDuringRebuild;
+                changedDuringRebuild = null;
+                if (!changed.isEmpty()) {
+                    reload.accept(changed);
+                }
+                return rebuilt;
+            });
+            return rebuilt;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Runs {@code reload} for the projects under the lock, so two refreshes of the same project
+     * cannot apply out of order.
+     */
+    public void refresh(Collection<Long> projectIds, Consumer<Collection<Long>> reload) {
+        withLock(() -> {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.addAll(projectIds);
+            }
+            reload.accept(projectIds);
+            return null;
+        });
+    }
+
+    /**
+     * Runs the action under the lock, for views whose reads must not overlap a refresh.
+     */
+    public <T> T withLock(Supplier<T> action) {
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.projectmanagement.event;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Published by the write paths of the project service, once per write: a bulk insert or an
+ * assignment request announces every project it touched in a single event. Listeners that keep
+ * derived state (caches, indexes) should react after the surrounding transaction commits, and
+ * reload the projects together rather than one by one.
+ *
+ * @param projects          the changed projects; never empty
+ * @param projectManagerIds for assignment changes, the managers whose assignment to each of the
+ *                          projects was added or removed; otherwise empty
+ */
+public record ProjectChangedEvent(ChangeType type, List<ChangedProject> projects, Set<Long> projectManagerIds) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED,
+        MANAGER_ASSIGNED,
+        MANAGER_REMOVED
+    }
+
+    public record ChangedProject(Long id, String code) {
+    }
+
+    public static ProjectChangedEvent of(ChangeType type, Long projectId, String projectCode) {
+        return new ProjectChangedEvent(type, List.of(new ChangedProject(projectId, projectCode)), Set.of());
+    }
+
+    public List<Long> projectIds() {
+        return projects.stream().map(ChangedProject::id).toList();
+    }
+}
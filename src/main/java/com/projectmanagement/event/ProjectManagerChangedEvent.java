@@ -0,0 +1,8 @@
+package com.projectmanagement.event;
+
+/**
+ * Published whenever a project manager row is inserted, updated or deleted through JPA.
+ * Listeners that keep derived state should react after the surrounding transaction commits.
+ */
+public record ProjectManagerChangedEvent(Long projectManagerId) {
+}
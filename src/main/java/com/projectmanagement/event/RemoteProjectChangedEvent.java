@@ -0,0 +1,10 @@
+package com.projectmanagement.event;
+
+/**
+ * A project change read back from the cache invalidation bus, published so that per-replica
+ * derived state can follow writes made on other replicas. The bus also returns this replica's
+ * own changes, and may merge changes of the same type from several writes into one, so handlers
+ * must be idempotent and treat the managers as possibly affected rather than exactly changed.
+ */
+public record RemoteProjectChangedEvent(ProjectChangedEvent change) {
+}
@@ -0,0 +1,261 @@
+package com.projectmanagement.mapper;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanagement.entity.Project;
+import com.projectmanagement.entity.ProjectManager;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Writes project lists as JSON straight from loaded entities, without mapping them to DTOs
+ * first. Field names are encoded once up front and values are written with the generator's
+ * primitive methods.
+ *
+ * <p>The compact form lists each project manager once per response instead of once per
+ * project: projects carry {@code projectManagerIds}, and the managers follow in a
+ * {@code projectManagers} object keyed by ID. Field values are formatted as Jackson formats
+ * {@link com.projectmanagement.dto.ProjectDTO} and {@link com.projectmanagement.dto.ProjectManagerDTO}.
+ */
+@Component
+public class ProjectJsonWriter {
+
+    private static final SerializableString PROJECTS = new SerializedString("projects");
+    private static final SerializableString PROJECT_MANAGERS = new SerializedString("projectManagers");
+    private static final SerializableString PROJECT_MANAGER_IDS = new SerializedString("projectManagerIds");
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString NAME = new SerializedString("name");
+    private static final SerializableString DESCRIPTION = new SerializedString("description");
+    private static final SerializableString PROJECT_CODE = new SerializedString("projectCode");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString PRIORITY = new SerializedString("priority");
+    private static final SerializableString START_DATE = new SerializedString("startDate");
+    private static final SerializableString END_DATE = new SerializedString("endDate");
+    private static final SerializableString ESTIMATED_END_DATE = new SerializedString("estimatedEndDate");
+    private static final SerializableString BUDGET = new SerializedString("budget");
+    private static final SerializableString ACTUAL_COST = new SerializedString("actualCost");
+    private static final SerializableString CLIENT_NAME = new SerializedString("clientName");
+    private static final SerializableString TECHNOLOGY_STACK = new SerializedString("technologyStack");
+    private static final SerializableString TEAM_SIZE = new SerializedString("teamSize");
+    private static final SerializableString COMPLETION_PERCENTAGE = new SerializedString("completionPercentage");
+    private static final SerializableString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializableString UPDATED_AT = new SerializedString("updatedAt");
+    private static final SerializableString VERSION = new SerializedString("version");
+    private static final SerializableString EMAIL = new SerializedString("email");
+    private static final SerializableString PHONE = new SerializedString("phone");
+    private static final SerializableString DEPARTMENT = new SerializedString("department");
+    private static final SerializableString EMPLOYEE_ID = new SerializedString("employeeId");
+    private static final SerializableString IS_ACTIVE = new SerializedString("isActive");
+
+    private final JsonFactory jsonFactory;
+
+    public ProjectJsonWriter(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * Writes the projects in the compact form. Each project's managers must already be loaded.
+     *
+     * @return the number of distinct project managers written
+     */
+    public int writeCompact(Collection<Project> projects, OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = jsonFactory.createGenerator(outputStream, JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            return new CompactWriter(generator).write(projects);
+        }
+    }
+
+    /**
+     * State of one response: the generator, the managers seen so far and a scratch buffer that
+     * dates are formatted into instead of allocating a String per value.
+     */
+    private static final class CompactWriter {
+
+        private final JsonGenerator generator;
+        private final Map<Long, ProjectManager> managers = new LinkedHashMap<>();
+        private final char[] buffer = new char[32];
+
+        private CompactWriter(JsonGenerator generator) {
+            this.generator = generator;
+        }
+
+        int write(Collection<Project> projects) throws IOException {
+            generator.writeStartObject();
+            generator.writeFieldName(PROJECTS);
+            generator.writeStartArray();
+            for (Project project : projects) {
+                generator.writeStartObject();
+                writeFields(project);
+                generator.writeFieldName(PROJECT_MANAGER_IDS);
+                generator.writeStartArray();
+                for (ProjectManager pm : project.getProjectManagers()) {
+                    generator.writeNumber(pm.getId().longValue());
+                    managers.putIfAbsent(pm.getId(), pm);
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+
+            generator.writeFieldName(PROJECT_MANAGERS);
+            generator.writeStartObject();
+            for (ProjectManager pm : managers.values()) {
+                generator.writeFieldName(pm.getId().toString());
+                generator.writeStartObject();
+                writeFields(pm);
+                generator.writeEndObject();
+            }
+            generator.writeEndObject();
+            generator.writeEndObject();
+            return managers.size();
+        }
+
+        private void writeFields(Project project) throws IOException {
+            writeNumber(ID, project.getId());
+            writeString(NAME, project.getName());
+            writeString(DESCRIPTION, project.getDescription());
+            writeString(PROJECT_CODE, project.getProjectCode());
+            writeString(STATUS, project.getStatus() != null ? project.getStatus().name() : null);
+            writeString(PRIORITY, project.getPriority() != null ? project.getPriority().name() : null);
+            writeDate(START_DATE, project.getStartDate());
+            writeDate(END_DATE, project.getEndDate());
+            writeDate(ESTIMATED_END_DATE, project.getEstimatedEndDate());
+            writeDecimal(BUDGET, project.getBudget());
+            writeDecimal(ACTUAL_COST, project.getActualCost());
+            writeString(CLIENT_NAME, project.getClientName());
+            writeString(TECHNOLOGY_STACK, project.getTechnologyStack());
+            writeNumber(TEAM_SIZE, project.getTeamSize());
+            writeNumber(COMPLETION_PERCENTAGE, project.getCompletionPercentage());
+            writeDateTime(CREATED_AT, project.getCreatedAt());
+            writeDateTime(UPDATED_AT, project.getUpdatedAt());
+            writeNumber(VERSION, project.getVersion());
+        }
+
+        private void writeFields(ProjectManager pm) throws IOException {
+            writeNumber(ID, pm.getId());
+            writeString(NAME, pm.getName());
+            writeString(EMAIL, pm.getEmail());
+            writeString(PHONE, pm.getPhone());
+            writeString(DEPARTMENT, pm.getDepartment());
+            writeString(EMPLOYEE_ID, pm.getEmployeeId());
+            generator.writeFieldName(IS_ACTIVE);
+            if (pm.getIsActive() != null) {
+                generator.writeBoolean(pm.getIsActive());
+            } else {
+                generator.writeNull();
+            }
+            writeDateTime(CREATED_AT, pm.getCreatedAt());
+            writeDateTime(UPDATED_AT, pm.getUpdatedAt());
+        }
+
+        private void writeString(SerializableString name, String value) throws IOException {
+            generator.writeFieldName(name);
+            generator.writeString(value);
+        }
+
+        private void writeNumber(SerializableString name, Long value) throws IOException {
+            generator.writeFieldName(name);
+            if (value != null) {
+                generator.writeNumber(value.longValue());
+            } else {
+                generator.writeNull();
+            }
+        }
+
+        private void writeNumber(SerializableString name, Integer value) throws IOException {
+            generator.writeFieldName(name);
+            if (value != null) {
+                generator.writeNumber(value.intValue());
+            } else {
+                generator.writeNull();
+            }
+        }
+
+        private void writeDecimal(SerializableString name, BigDecimal value) throws IOException {
+            generator.writeFieldName(name);
+            generator.writeNumber(value);
+        }
+
+        private void writeDate(SerializableString name, LocalDate value) throws IOException {
+            generator.writeFieldName(name);
+            if (value == null) {
+                generator.writeNull();
+            } else if (hasFourDigitYear(value)) {
+                generator.writeString(buffer, 0, formatDate(value, 0));
+            } else {
+                generator.writeString(value.toString());
+            }
+        }
+
+        // Same format as Jackson's LocalDateTimeSerializer with WRITE_DATES_AS_TIMESTAMPS disabled
+        private void writeDateTime(SerializableString name, LocalDateTime value) throws IOException {
+            generator.writeFieldName(name);
+            if (value == null) {
+                generator.writeNull();
+            } else if (hasFourDigitYear(value.toLocalDate())) {
+                generator.writeString(buffer, 0, formatDateTime(value));
+            } else {
+                generator.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+            }
+        }
+
+        // ISO_LOCAL_DATE: yyyy-MM-dd
+        private int formatDate(LocalDate date, int at) {
+            at = digits(date.getYear(), 4, at);
+            buffer[at++] = '-';
+            at = digits(date.getMonthValue(), 2, at);
+            buffer[at++] = '-';
+            return digits(date.getDayOfMonth(), 2, at);
+        }
+
+        // ISO_LOCAL_DATE_TIME: seconds always, then the fraction without trailing zeros if any
+        private int formatDateTime(LocalDateTime dateTime) {
+            int at = formatDate(dateTime.toLocalDate(), 0);
+            buffer[at++] = 'T';
+            at = digits(dateTime.getHour(), 2, at);
+            buffer[at++] = ':';
+            at = digits(dateTime.getMinute(), 2, at);
+            buffer[at++] = ':';
+            at = digits(dateTime.getSecond(), 2, at);
+            int nanos = dateTime.getNano();
+            if (nanos != 0) {
+                int width = 9;
+                while (nanos % 10 == 0) {
+                    nanos /= 10;
+                    width--;
+                }
+                buffer[at++] = '.';
+                at = digits(nanos, width, at);
+            }
+            return at;
+        }
+
+        // Writes the value zero-padded to width digits
+        private int digits(int value, int width, int at) {
+            for (int i = at + width - 1; i >= at; i--) {
+                buffer[i] = (char) ('0' + value % 10);
+                value /= 10;
+            }
+            return at + width;
+        }
+
+        // Other years are signed or wider in ISO format
+        private static boolean hasFourDigitYear(LocalDate date) {
+            return date.getYear() >= 0 && date.getYear() <= 9999;
+        }
+    }
+}
@@ -4,8 +4,10 @@ import com.projectmanagement.dto.ProjectDTO;
 import com.projectmanagement.dto.ProjectManagerDTO;
 import com.projectmanagement.entity.Project;
 import com.projectmanagement.entity.ProjectManager;
+import com.projectmanagement.metrics.RequestMetrics;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -16,6 +18,23 @@ public class ProjectMapper {
     public ProjectDTO toProjectDTO(Project project) {
         if (project == null) return null;
 
+        return toProjectDTO(project, project.getProjectManagers());
+    }
+
+    /**
+     * Maps a project using managers that were loaded separately, without touching the
+     * project's lazy projectManagers collection.
+     */
+    public ProjectDTO toProjectDTO(Project project, Collection<ProjectManager> projectManagers) {
+        long startedAt = RequestMetrics.mappingStarted();
+        try {
+            return map(project, projectManagers);
+        } finally {
+            RequestMetrics.mappingFinished(startedAt);
+        }
+    }
+
+    private ProjectDTO map(Project project, Collection<ProjectManager> projectManagers) {
         ProjectDTO dto = new ProjectDTO();
         dto.setId(project.getId());
         dto.setName(project.getName());
@@ -34,9 +53,10 @@ public class ProjectMapper {
         dto.setCompletionPercentage(project.getCompletionPercentage());
         dto.setCreatedAt(project.getCreatedAt());
         dto.setUpdatedAt(project.getUpdatedAt());
+        dto.setVersion(project.getVersion());
 
         // Map project managers
-        Set<ProjectManagerDTO> pmDTOs = project.getProjectManagers().stream()
+        Set<ProjectManagerDTO> pmDTOs = projectManagers.stream()
             .map(this::toProjectManagerDTO)
             .collect(Collectors.toSet());
         dto.setProjectManagers(pmDTOs);
@@ -73,7 +93,7 @@ public class ProjectMapper {
             .collect(Collectors.toList());
     }
 
-    private ProjectManagerDTO toProjectManagerDTO(ProjectManager pm) {
+    public ProjectManagerDTO toProjectManagerDTO(ProjectManager pm) {
         if (pm == null) return null;
 
         ProjectManagerDTO dto = new ProjectManagerDTO();
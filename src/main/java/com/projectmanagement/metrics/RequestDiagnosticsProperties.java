@@ -0,0 +1,24 @@
+package com.projectmanagement.metrics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Thresholds above which a request is logged and counted as flagged. Statement counts and
+ * durations are checked on every request; repeated statements are only tracked on a sample.
+ *
+ * @param sampleRate            fraction of requests whose statements are grouped by SQL text
+ * @param maxStatements         statements per request before it is flagged
+ * @param maxRepeatedStatements executions of the same SQL per sampled request, the N+1 signature
+ * @param slowRequest           handler duration before a request is flagged as slow
+ */
+@ConfigurationProperties(prefix = "project.diagnostics")
+public record RequestDiagnosticsProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("0.05") double sampleRate,
+        @DefaultValue("25") int maxStatements,
+        @DefaultValue("5") int maxRepeatedStatements,
+        @DefaultValue("1s") Duration slowRequest) {
+}
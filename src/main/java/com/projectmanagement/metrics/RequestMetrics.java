@@ -0,0 +1,83 @@
+package com.projectmanagement.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Work done on behalf of the HTTP request handled by the current thread: SQL statements
+ * prepared by Hibernate and time spent mapping entities to DTOs. On sampled requests the
+ * statements are also grouped by SQL text, to spot the same query running once per row.
+ * Outside a request, or on threads a request hands work to, nothing is recorded.
+ */
+public final class RequestMetrics {
+
+    private static final ThreadLocal<RequestMetrics> CURRENT = new ThreadLocal<>();
+
+    private final long startedAt = System.nanoTime();
+    // Only allocated for sampled requests
+    private final Map<String, Integer> executions;
+    private int statements;
+    private long mappingNanos;
+
+    private RequestMetrics(boolean sampled) {
+        this.executions = sampled ? new HashMap<>() : null;
+    }
+
+    static RequestMetrics start(boolean sampled) {
+        RequestMetrics metrics = new RequestMetrics(sampled);
+        CURRENT.set(metrics);
+        return metrics;
+    }
+
+    static RequestMetrics finish() {
+        RequestMetrics metrics = CURRENT.get();
+        CURRENT.remove();
+        return metrics;
+    }
+
+    public static void statementPrepared(String sql) {
+        RequestMetrics metrics = CURRENT.get();
+        if (metrics != null) {
+            metrics.statements++;
+            if (metrics.executions != null) {
+                metrics.executions.merge(sql, 1, Integer::sum);
+            }
+        }
+    }
+
+    /**
+     * Returns a start time for {@link #mappingFinished(long)}, or 0 when no request is tracked.
+     */
+    public static long mappingStarted() {
+        return CURRENT.get() != null ? System.nanoTime() : 0;
+    }
+
+    public static void mappingFinished(long startedAt) {
+        RequestMetrics metrics = CURRENT.get();
+        if (metrics != null && startedAt != 0) {
+            metrics.mappingNanos += System.nanoTime() - startedAt;
+        }
+    }
+
+    int statements() {
+        return statements;
+    }
+
+    long mappingNanos() {
+        return mappingNanos;
+    }
+
+    long elapsedNanos() {
+        return System.nanoTime() - startedAt;
+    }
+
+    /**
+     * The SQL run most often in this request, or null when the request was not sampled or ran none.
+     */
+    Map.Entry<String, Integer> mostRepeatedStatement() {
+        if (executions == null) {
+            return null;
+        }
+        return executions.entrySet().stream().max(Map.Entry.comparingByValue()).orElse(null);
+    }
+}
@@ -0,0 +1,33 @@
+package com.projectmanagement.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class RequestMetricsConfig implements WebMvcConfigurer {
+
+    private final MeterRegistry meterRegistry;
+    private final RequestDiagnosticsProperties diagnostics;
+
+    public RequestMetricsConfig(MeterRegistry meterRegistry, RequestDiagnosticsProperties diagnostics) {
+        this.meterRegistry = meterRegistry;
+        this.diagnostics = diagnostics;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestMetricsInterceptor(meterRegistry, diagnostics));
+    }
+
+    // An explicitly configured inspector takes precedence, and statements are then not counted
+    @Bean
+    public HibernatePropertiesCustomizer statementCountingCustomizer() {
+        return properties -> properties.putIfAbsent(AvailableSettings.STATEMENT_INSPECTOR,
+                                                    new StatementCountingInspector());
+    }
+}
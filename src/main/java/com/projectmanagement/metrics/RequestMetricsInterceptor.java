@@ -0,0 +1,126 @@
+package com.projectmanagement.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the {@link RequestMetrics} of each request, tagged like {@code http.server.requests}
+ * with the method and the matched URI template, so they can be lined up with request latency.
+ * Requests exceeding the {@link RequestDiagnosticsProperties} thresholds are logged with a
+ * warning and counted in {@code project.request.flagged}, tagged with the reason.
+ */
+@Slf4j
+public class RequestMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    static final String STATEMENTS = "project.request.statements";
+    static final String MAPPING = "project.request.mapping";
+    static final String FLAGGED = "project.request.flagged";
+
+    private static final int MAX_LOGGED_SQL_LENGTH = 300;
+
+    private final MeterRegistry meterRegistry;
+    private final RequestDiagnosticsProperties diagnostics;
+
+    public RequestMetricsInterceptor(MeterRegistry meterRegistry, RequestDiagnosticsProperties diagnostics) {
+        this.meterRegistry = meterRegistry;
+        this.diagnostics = diagnostics;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestMetrics.start(diagnostics.enabled()
+            && ThreadLocalRandom.current().nextDouble() < diagnostics.sampleRate());
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        // The response is produced on another thread, which is not tracked
+        RequestMetrics.finish();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        RequestMetrics metrics = RequestMetrics.finish();
+        if (metrics == null) {
+            return;
+        }
+        String method = request.getMethod();
+        String uri = uri(request);
+        DistributionSummary.builder(STATEMENTS)
+            .description("SQL statements prepared by Hibernate per request")
+            .baseUnit("statements")
+            .tag("method", method)
+            .tag("uri", uri)
+            .register(meterRegistry)
+            .record(metrics.statements());
+        Timer.builder(MAPPING)
+            .description("Time spent mapping entities to DTOs per request")
+            .tag("method", method)
+            .tag("uri", uri)
+            .register(meterRegistry)
+            .record(metrics.mappingNanos(), TimeUnit.NANOSECONDS);
+
+        if (diagnostics.enabled()) {
+            checkThresholds(metrics, method, uri);
+        }
+    }
+
+    private void checkThresholds(RequestMetrics metrics, String method, String uri) {
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(metrics.elapsedNanos());
+        Map.Entry<String, Integer> repeated = metrics.mostRepeatedStatement();
+
+        List<String> reasons = new ArrayList<>(3);
+        if (repeated != null && repeated.getValue() > diagnostics.maxRepeatedStatements()) {
+            reasons.add("repeated_statement");
+        }
+        if (metrics.statements() > diagnostics.maxStatements()) {
+            reasons.add("statement_count");
+        }
+        if (elapsedMillis > diagnostics.slowRequest().toMillis()) {
+            reasons.add("slow");
+        }
+        if (reasons.isEmpty()) {
+            return;
+        }
+
+        for (String reason : reasons) {
+            Counter.builder(FLAGGED)
+                .description("Requests exceeding the statement, repetition or duration thresholds")
+                .tag("method", method)
+                .tag("uri", uri)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        }
+        log.warn("Flagged request: method={} uri={} reasons={} durationMs={} statements={} "
+                 + "mostRepeatedCount={} mostRepeatedSql=\"{}\"",
+                 method, uri, reasons, elapsedMillis, metrics.statements(),
+                 repeated != null ? repeated.getValue() : null,
+                 repeated != null ? abbreviate(repeated.getKey()) : null);
+    }
+
+    private static String abbreviate(String sql) {
+        return sql.length() <= MAX_LOGGED_SQL_LENGTH ? sql : sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+    }
+
+    private static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
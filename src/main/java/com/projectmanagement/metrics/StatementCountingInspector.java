@@ -0,0 +1,16 @@
+package com.projectmanagement.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the statements Hibernate prepares towards the current request. Statements issued
+ * through JdbcTemplate (the bulk paths) bypass Hibernate and are not counted.
+ */
+public class StatementCountingInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestMetrics.statementPrepared(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,23 @@
+package com.projectmanagement.repository;
+
+import com.projectmanagement.entity.CacheInvalidation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CacheInvalidationRepository extends JpaRepository<CacheInvalidation, Long> {
+
+    List<CacheInvalidation> findByCreatedAtGreaterThanEqualOrderByIdAsc(LocalDateTime since);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM CacheInvalidation ci WHERE ci.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,204 @@
+package com.projectmanagement.repository;
+
+import com.projectmanagement.entity.Project;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Set-based writes that bypass the persistence context. Changing a many-to-many through the
+ * entities initializes both sides of the association, and bulk inserts skip the per-entity
+ * lifecycle work, so these paths issue JDBC batches directly. Inserted projects take their IDs
+ * from the same generator as persisted ones. All methods run in the caller's transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectBulkRepository {
+
+    private static final String INSERT_PROJECT =
+        "INSERT INTO projects (project_id, name, description, project_code, status, priority, start_date, end_date, " +
+        "estimated_end_date, budget, actual_cost, client_name, technology_stack, team_size, " +
+        "completion_percentage, created_at, updated_at, is_active, version) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private static final String SELECT_ASSIGNMENTS =
+        "SELECT project_id, pm_id FROM project_manager_assignments " +
+        "WHERE project_id IN (:projectIds) AND pm_id IN (:pmIds)";
+
+    private static final String INSERT_ASSIGNMENT =
+        "INSERT INTO project_manager_assignments (project_id, pm_id) VALUES (?, ?)";
+
+    private static final String DELETE_ASSIGNMENT =
+        "DELETE FROM project_manager_assignments WHERE project_id = ? AND pm_id = ?";
+
+    private static final String INCREMENT_VERSIONS =
+        "UPDATE projects SET version = version + 1 WHERE project_id IN (:projectIds)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final EntityManager entityManager;
+
+    /**
+     * Assigns the projects their IDs, creation and update timestamps, and inserts them.
+     */
+    public void insertAll(List<Project> projects) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        IdentifierGenerator idGenerator = (IdentifierGenerator) session.getFactory().getMappingMetamodel()
+            .getEntityDescriptor(Project.class).getGenerator();
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_PROJECT)) {
+                for (Project project : projects) {
+                    project.setId((Long) idGenerator.generate(session, project));
+                    project.setCreatedAt(now);
+                    project.setUpdatedAt(now);
+                    project.setVersion(0L);
+                    bind(statement, project);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Returns which of the project × manager pairs spanned by the given IDs are already assigned.
+     */
+    public Set<Assignment> findAssignments(Collection<Long> projectIds, Collection<Long> pmIds) {
+        Set<Assignment> assignments = new HashSet<>();
+        namedParameterJdbcTemplate.query(SELECT_ASSIGNMENTS, Map.of("projectIds", projectIds, "pmIds", pmIds),
+            row -> {
+                assignments.add(new Assignment(row.getLong("project_id"), row.getLong("pm_id")));
+            });
+        return assignments;
+    }
+
+    /**
+     * Inserts the assignments and returns the ones this call added. Another request may add
+     * some of the same pairs after the caller checked for them; if the batch hits one of those,
+     * it is rolled back to a savepoint and the pairs are inserted one at a time, skipping the
+     * ones that already exist.
+     */
+    public List<Assignment> insertAssignments(List<Assignment> assignments) {
+        return jdbcTemplate.execute((ConnectionCallback<List<Assignment>>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_ASSIGNMENT)) {
+                Savepoint savepoint = connection.setSavepoint();
+                try {
+                    for (Assignment assignment : assignments) {
+                        bind(statement, assignment);
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                    connection.releaseSavepoint(savepoint);
+                    return assignments;
+                } catch (SQLException e) {
+                    if (!isDuplicateKey(e)) {
+                        throw e;
+                    }
+                    connection.rollback(savepoint);
+                    statement.clearBatch();
+                }
+
+                List<Assignment> inserted = new ArrayList<>();
+                for (Assignment assignment : assignments) {
+                    Savepoint row = connection.setSavepoint();
+                    try {
+                        bind(statement, assignment);
+                        statement.executeUpdate();
+                        connection.releaseSavepoint(row);
+                        inserted.add(assignment);
+                    } catch (SQLException e) {
+                        if (!isDuplicateKey(e)) {
+                            throw e;
+                        }
+                        connection.rollback(row);
+                    }
+                }
+                return inserted;
+            }
+        });
+    }
+
+    /**
+     * Deletes the assignments and returns the ones this call removed; pairs a concurrent
+     * request already removed delete no row and are left out.
+     */
+    public List<Assignment> deleteAssignments(List<Assignment> assignments) {
+        int[][] counts = jdbcTemplate.batchUpdate(DELETE_ASSIGNMENT, assignments, assignments.size(),
+            (statement, assignment) -> bind(statement, assignment));
+        List<Assignment> deleted = new ArrayList<>();
+        for (int i = 0; i < assignments.size(); i++) {
+            // Drivers that rewrite batches may report SUCCESS_NO_INFO rather than a row count
+            if (counts[0][i] != 0) {
+                deleted.add(assignments.get(i));
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * Bumps the version of projects whose managers changed, as Hibernate does for an owning
+     * collection change, so their ETags change with the representation.
+     */
+    public void incrementVersions(Collection<Long> projectIds) {
+        namedParameterJdbcTemplate.update(INCREMENT_VERSIONS, Map.of("projectIds", projectIds));
+    }
+
+    private boolean isDuplicateKey(SQLException e) {
+        return jdbcTemplate.getExceptionTranslator().translate("insertAssignments", INSERT_ASSIGNMENT, e)
+            instanceof DuplicateKeyException;
+    }
+
+    private static void bind(PreparedStatement statement, Assignment assignment) throws SQLException {
+        statement.setLong(1, assignment.projectId());
+        statement.setLong(2, assignment.pmId());
+    }
+
+    private static void bind(PreparedStatement statement, Project project) throws SQLException {
+        statement.setLong(1, project.getId());
+        statement.setString(2, project.getName());
+        statement.setString(3, project.getDescription());
+        statement.setString(4, project.getProjectCode());
+        statement.setString(5, project.getStatus().name());
+        statement.setString(6, project.getPriority() != null ? project.getPriority().name() : null);
+        statement.setDate(7, Date.valueOf(project.getStartDate()));
+        statement.setObject(8, project.getEndDate() != null ? Date.valueOf(project.getEndDate()) : null, Types.DATE);
+        statement.setObject(9, project.getEstimatedEndDate() != null ? Date.valueOf(project.getEstimatedEndDate()) : null, Types.DATE);
+        statement.setBigDecimal(10, project.getBudget());
+        statement.setBigDecimal(11, project.getActualCost());
+        statement.setString(12, project.getClientName());
+        statement.setString(13, project.getTechnologyStack());
+        statement.setObject(14, project.getTeamSize(), Types.INTEGER);
+        statement.setObject(15, project.getCompletionPercentage(), Types.INTEGER);
+        statement.setTimestamp(16, Timestamp.valueOf(project.getCreatedAt()));
+        statement.setTimestamp(17, Timestamp.valueOf(project.getUpdatedAt()));
+        statement.setBoolean(18, true);
+    }
+
+    /**
+     * One row of the project_manager_assignments join table.
+     */
+    public record Assignment(long projectId, long pmId) {
+    }
+}
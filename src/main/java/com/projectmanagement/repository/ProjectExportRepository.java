@@ -0,0 +1,125 @@
+package com.projectmanagement.repository;
+
+import com.projectmanagement.config.ProjectExportProperties;
+import com.projectmanagement.entity.Project;
+import com.projectmanagement.entity.ProjectManager;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+/**
+ * Forward-only read of all active projects for the export, on a small connection pool of its own.
+ * Its MySQL connections set useCursorFetch, so the driver reads the rows through a server-side
+ * cursor, fetch size at a time, instead of buffering the whole result. That setting also makes
+ * every statement a server-side prepared statement, costing a prepare and a close round trip per
+ * query, which is why it stays off the application pool. Projects are read as read-only entities,
+ * their managers are loaded per fetch with one query, and the session is cleared after each fetch.
+ */
+@Repository
+public class ProjectExportRepository implements DisposableBean {
+
+    private static final String SELECT_ACTIVE_PROJECTS =
+        "SELECT p FROM Project p WHERE p.isActive = true ORDER BY p.id";
+
+    private static final String SELECT_PROJECT_MANAGERS =
+        "SELECT p.id, pm FROM Project p JOIN p.projectManagers pm WHERE p.id IN :projectIds";
+
+    private final SessionFactory sessionFactory;
+    private final HikariDataSource dataSource;
+    private final int fetchSize;
+
+    public ProjectExportRepository(EntityManagerFactory entityManagerFactory, DataSourceProperties dataSourceProperties,
+                                   ProjectExportProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.fetchSize = properties.fetchSize();
+        // Opens its first connection on the first export
+        this.dataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("project-export");
+        dataSource.setMaximumPoolSize(properties.maxConnections());
+        dataSource.setMinimumIdle(0);
+        if (dataSource.getJdbcUrl().startsWith("jdbc:mysql:")) {
+            dataSource.addDataSourceProperty("useCursorFetch", "true");
+        }
+        meterRegistry.ifAvailable(registry ->
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+    }
+
+    /**
+     * Passes every active project, in ID order, to the action together with its managers. Reads in
+     * one read-only transaction and returns the number of projects read.
+     */
+    public long forEachActiveProject(BiConsumer<Project, List<ProjectManager>> action) {
+        try (Connection connection = dataSource.getConnection();
+             Session session = sessionFactory.withOptions().connection(connection).openSession()) {
+            connection.setReadOnly(true);
+            // Outside a transaction the session would close the cursor after the first managers query
+            Transaction transaction = session.beginTransaction();
+            long read;
+            try (Stream<Project> projects = session.createSelectionQuery(SELECT_ACTIVE_PROJECTS, Project.class)
+                    .setFetchSize(fetchSize)
+                    .setReadOnly(true)
+                    .getResultStream()) {
+                read = readInChunks(session, projects.iterator(), action);
+            }
+            transaction.commit();
+            return read;
+        } catch (SQLException ex) {
+            throw new DataAccessResourceFailureException("Could not read the active projects for export", ex);
+        }
+    }
+
+    private long readInChunks(Session session, Iterator<Project> projects,
+                              BiConsumer<Project, List<ProjectManager>> action) {
+        long read = 0;
+        List<Project> chunk = new ArrayList<>(fetchSize);
+        while (projects.hasNext()) {
+            chunk.add(projects.next());
+            if (chunk.size() == fetchSize || !projects.hasNext()) {
+                Map<Long, List<ProjectManager>> managers = findProjectManagers(session, chunk);
+                for (Project project : chunk) {
+                    action.accept(project, managers.getOrDefault(project.getId(), List.of()));
+                }
+                read += chunk.size();
+                chunk.clear();
+                session.clear();
+            }
+        }
+        return read;
+    }
+
+    private static Map<Long, List<ProjectManager>> findProjectManagers(Session session, List<Project> projects) {
+        List<Long> projectIds = projects.stream().map(Project::getId).toList();
+        Map<Long, List<ProjectManager>> managers = new HashMap<>();
+        for (Object[] row : session.createSelectionQuery(SELECT_PROJECT_MANAGERS, Object[].class)
+                .setParameter("projectIds", projectIds)
+                .setReadOnly(true)
+                .getResultList()) {
+            managers.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((ProjectManager) row[1]);
+        }
+        return managers;
+    }
+
+    @Override
+    public void destroy() {
+        dataSource.close();
+    }
+}
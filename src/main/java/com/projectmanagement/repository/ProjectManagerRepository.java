@@ -2,10 +2,13 @@ package com.projectmanagement.repository;
 
 import com.projectmanagement.entity.ProjectManager;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,6 +30,26 @@ public interface ProjectManagerRepository extends JpaRepository<ProjectManager,
     List<ProjectManager> findWithFilters(@Param("name") String name, 
                                         @Param("department") String department);
 
+    // IDs among the given ones that belong to an existing project manager
+    @Query("SELECT pm.id FROM ProjectManager pm WHERE pm.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // Project managers matching any of the given IDs, emails or employee IDs
+    @Query("SELECT pm FROM ProjectManager pm WHERE pm.id IN :ids OR pm.email IN :emails OR pm.employeeId IN :employeeIds")
+    List<ProjectManager> findByIdOrEmailOrEmployeeId(@Param("ids") Collection<Long> ids,
+                                                     @Param("emails") Collection<String> emails,
+                                                     @Param("employeeIds") Collection<String> employeeIds);
+
+    // Version of the project manager's project lists, served as their ETag
+    @Query("SELECT pm.projectsVersion FROM ProjectManager pm WHERE pm.id = :id")
+    Optional<Long> findProjectsVersionById(@Param("id") Long id);
+
+    // Advances the project list version of each given project manager
+    @Modifying
+    @Transactional
+    @Query("UPDATE ProjectManager pm SET pm.projectsVersion = pm.projectsVersion + 1 WHERE pm.id IN :ids")
+    int incrementProjectsVersions(@Param("ids") Collection<Long> ids);
+
     boolean existsByEmailAndIsActiveTrue(String email);
 
     boolean existsByEmployeeIdAndIsActiveTrue(String employeeId);
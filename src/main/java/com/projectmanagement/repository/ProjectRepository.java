@@ -1,59 +1,223 @@
 package com.projectmanagement.repository;
 
+import com.projectmanagement.dto.ProjectSummaryDTO;
 import com.projectmanagement.entity.Project;
 import com.projectmanagement.entity.ProjectStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
+    // Constructor projection of the summary columns; the results are not managed entities
+    String SUMMARY = "new com.projectmanagement.dto.ProjectSummaryDTO(p.id, p.projectCode, p.name, " +
+        "p.status, p.priority, p.startDate, p.endDate, p.estimatedEndDate, p.completionPercentage, " +
+        "p.updatedAt, p.version) ";
+
     // Find projects by project manager ID
+    @EntityGraph(attributePaths = "projectManagers")
     @Query("SELECT DISTINCT p FROM Project p JOIN p.projectManagers pm WHERE pm.id = :pmId AND p.isActive = true")
     List<Project> findByProjectManagerId(@Param("pmId") Long pmId);
 
+    // Find projects of any of the given project managers, each once, with all their managers
+    @EntityGraph(attributePaths = "projectManagers")
+    @Query("SELECT DISTINCT p FROM Project p JOIN p.projectManagers pm WHERE pm.id IN :pmIds AND p.isActive = true")
+    List<Project> findByProjectManagerIdIn(@Param("pmIds") Collection<Long> pmIds);
+
     // Find projects by project manager ID with pagination
     @Query("SELECT DISTINCT p FROM Project p JOIN p.projectManagers pm WHERE pm.id = :pmId AND p.isActive = true")
     Page<Project> findByProjectManagerId(@Param("pmId") Long pmId, Pageable pageable);
 
+    // Keyset pagination by project manager ID: first page, ordered by (updatedAt, id) descending
+    @Query("SELECT p FROM Project p JOIN p.projectManagers pm WHERE pm.id = :pmId AND p.isActive = true " +
+           "ORDER BY p.updatedAt DESC, p.id DESC")
+    List<Project> findFirstPageByProjectManagerId(@Param("pmId") Long pmId, Limit limit);
+
+    // Keyset pagination by project manager ID: page following the given (updatedAt, id) position
+    @Query("SELECT p FROM Project p JOIN p.projectManagers pm WHERE pm.id = :pmId AND p.isActive = true " +
+           "AND (p.updatedAt < :updatedAt OR (p.updatedAt = :updatedAt AND p.id < :id)) " +
+           "ORDER BY p.updatedAt DESC, p.id DESC")
+    List<Project> findPageByProjectManagerIdAfter(@Param("pmId") Long pmId,
+                                                  @Param("updatedAt") LocalDateTime updatedAt,
+                                                  @Param("id") Long id,
+                                                  Limit limit);
+
     // Find projects by project manager email
+    @EntityGraph(attributePaths = "projectManagers")
     @Query("SELECT DISTINCT p FROM Project p JOIN p.projectManagers pm WHERE pm.email = :email AND p.isActive = true")
     List<Project> findByProjectManagerEmail(@Param("email") String email);
 
     // Find projects by project manager employee ID
+    @EntityGraph(attributePaths = "projectManagers")
     @Query("SELECT DISTINCT p FROM Project p JOIN p.projectManagers pm WHERE pm.employeeId = :employeeId AND p.isActive = true")
     List<Project> findByProjectManagerEmployeeId(@Param("employeeId") String employeeId);
 
     // Find projects by status and project manager
+    @EntityGraph(attributePaths = "projectManagers")
     @Query("SELECT DISTINCT p FROM Project p JOIN p.projectManagers pm WHERE pm.id = :pmId AND p.status = :status AND p.isActive = true")
     List<Project> findByProjectManagerIdAndStatus(@Param("pmId") Long pmId, @Param("status") ProjectStatus status);
 
     // Find active projects within date range for a PM
+    @EntityGraph(attributePaths = "projectManagers")
     @Query("SELECT DISTINCT p FROM Project p JOIN p.projectManagers pm WHERE pm.id = :pmId " +
            "AND p.startDate >= :startDate AND p.startDate <= :endDate AND p.isActive = true")
     List<Project> findByProjectManagerIdAndDateRange(@Param("pmId") Long pmId, 
                                                     @Param("startDate") LocalDate startDate, 
                                                     @Param("endDate") LocalDate endDate);
 
+    // Summaries of a project manager's active projects
+    @Query("SELECT " + SUMMARY + "FROM Project p JOIN p.projectManagers pm WHERE pm.id = :pmId AND p.isActive = true")
+    List<ProjectSummaryDTO> findSummariesByProjectManagerId(@Param("pmId") Long pmId);
+
+    // Summaries of the active projects of a project manager, by email
+    @Query("SELECT " + SUMMARY + "FROM Project p JOIN p.projectManagers pm WHERE pm.email = :email AND p.isActive = true")
+    List<ProjectSummaryDTO> findSummariesByProjectManagerEmail(@Param("email") String email);
+
+    // Summaries of the active projects of a project manager, by employee ID
+    @Query("SELECT " + SUMMARY + "FROM Project p JOIN p.projectManagers pm WHERE pm.employeeId = :employeeId AND p.isActive = true")
+    List<ProjectSummaryDTO> findSummariesByProjectManagerEmployeeId(@Param("employeeId") String employeeId);
+
+    // Summaries of a project manager's active projects with the given status
+    @Query("SELECT " + SUMMARY + "FROM Project p JOIN p.projectManagers pm WHERE pm.id = :pmId AND p.status = :status " +
+           "AND p.isActive = true")
+    List<ProjectSummaryDTO> findSummariesByProjectManagerIdAndStatus(@Param("pmId") Long pmId,
+                                                                    @Param("status") ProjectStatus status);
+
+    // Summaries of a project manager's active projects starting within the date range
+    @Query("SELECT " + SUMMARY + "FROM Project p JOIN p.projectManagers pm WHERE pm.id = :pmId " +
+           "AND p.startDate >= :startDate AND p.startDate <= :endDate AND p.isActive = true")
+    List<ProjectSummaryDTO> findSummariesByProjectManagerIdAndDateRange(@Param("pmId") Long pmId,
+                                                                       @Param("startDate") LocalDate startDate,
+                                                                       @Param("endDate") LocalDate endDate);
+
     // Count projects by PM
     @Query("SELECT COUNT(DISTINCT p) FROM Project p JOIN p.projectManagers pm WHERE pm.id = :pmId AND p.isActive = true")
     Long countProjectsByProjectManagerId(@Param("pmId") Long pmId);
 
+    // Count projects by PM in one statement; empty when the PM does not exist
+    @Query("SELECT COUNT(p) FROM ProjectManager pm LEFT JOIN pm.projects p ON p.isActive = true " +
+           "WHERE pm.id = :pmId GROUP BY pm.id")
+    Optional<Long> countActiveProjectsOfExistingProjectManager(@Param("pmId") Long pmId);
+
+    // Find by ID with project managers fetched in the same query
+    @EntityGraph(attributePaths = "projectManagers")
+    Optional<Project> findWithProjectManagersById(Long id);
+
     // Find by project code
+    @EntityGraph(attributePaths = "projectManagers")
     Optional<Project> findByProjectCodeAndIsActiveTrue(String projectCode);
 
+    // Find several projects by ID with their project managers in one query
+    @EntityGraph(attributePaths = "projectManagers")
+    List<Project> findWithProjectManagersByIdIn(Collection<Long> ids);
+
+    // Text fields of active projects for the search index, as (id, name, clientName, technologyStack, description)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT p.id, p.name, p.clientName, p.technologyStack, p.description FROM Project p " +
+           "WHERE p.isActive = true ORDER BY p.id")
+    Stream<Object[]> streamSearchableFields();
+
+    // Text fields of the given projects for the search index; missing and inactive ones are left out
+    @Query("SELECT p.id, p.name, p.clientName, p.technologyStack, p.description FROM Project p " +
+           "WHERE p.id IN :ids AND p.isActive = true")
+    List<Object[]> findSearchableFieldsByIds(@Param("ids") Collection<Long> ids);
+
+    // Aggregated fields of active projects for the stats rollups, as (id, status, clientName, budget, actualCost, completionPercentage)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT p.id, p.status, p.clientName, p.budget, p.actualCost, p.completionPercentage FROM Project p " +
+           "WHERE p.isActive = true ORDER BY p.id")
+    Stream<Object[]> streamStatsFields();
+
+    // Aggregated fields of the given active projects for the stats rollups, one row per manager (PM ID and
+    // department last, null for a project without managers); missing and inactive projects have no rows
+    @Query("SELECT p.id, p.status, p.clientName, p.budget, p.actualCost, p.completionPercentage, pm.id, pm.department " +
+           "FROM Project p LEFT JOIN p.projectManagers pm WHERE p.id IN :ids AND p.isActive = true")
+    List<Object[]> findStatsFieldsWithManagersByIds(@Param("ids") Collection<Long> ids);
+
+    // (project ID, PM ID, PM department) for every manager of an active project
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT p.id, pm.id, pm.department FROM Project p JOIN p.projectManagers pm WHERE p.isActive = true")
+    Stream<Object[]> streamActiveProjectManagerDepartments();
+
+    // (project ID, PM ID) for every manager of an active project, for the assignment graph
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT p.id, pm.id FROM Project p JOIN p.projectManagers pm WHERE p.isActive = true")
+    Stream<Object[]> streamActiveAssignments();
+
+    // (project ID, PM ID) for every manager of the given projects that are active
+    @Query("SELECT p.id, pm.id FROM Project p JOIN p.projectManagers pm WHERE p.id IN :ids AND p.isActive = true")
+    List<Object[]> findActiveAssignmentsByProjectIds(@Param("ids") Collection<Long> ids);
+
+    // Active projects assigned to both project managers, with all their managers
+    @EntityGraph(attributePaths = "projectManagers")
+    @Query("SELECT DISTINCT p FROM Project p JOIN p.projectManagers pm JOIN p.projectManagers other " +
+           "WHERE pm.id = :pmId AND other.id = :otherPmId AND p.isActive = true")
+    List<Project> findSharedByProjectManagerIds(@Param("pmId") Long pmId, @Param("otherPmId") Long otherPmId);
+
+    // Current version of a project, for telling a version conflict from a missing project
+    @Query("SELECT p.version FROM Project p WHERE p.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    // Current version of an active project, for answering conditional reads by code
+    @Query("SELECT p.version FROM Project p WHERE p.projectCode = :projectCode AND p.isActive = true")
+    Optional<Long> findVersionByProjectCode(@Param("projectCode") String projectCode);
+
+    // IDs of every manager of any of the given projects, each once
+    @Query("SELECT DISTINCT pm.id FROM Project p JOIN p.projectManagers pm WHERE p.id IN :ids")
+    List<Long> findProjectManagerIdsByProjectIds(@Param("ids") Collection<Long> ids);
+
+    // (project ID, project code) pairs for the given IDs, without loading the entities
+    @Query("SELECT p.id, p.projectCode FROM Project p WHERE p.id IN :ids")
+    List<Object[]> findProjectCodesByIds(@Param("ids") Collection<Long> ids);
+
+    // Project codes among the given ones that are already taken (active or not)
+    @Query("SELECT p.projectCode FROM Project p WHERE p.projectCode IN :codes")
+    List<String> findExistingProjectCodes(@Param("codes") Collection<String> codes);
+
+    // Active projects with any of the given codes, for bulk updates
+    List<Project> findByProjectCodeInAndIsActiveTrue(Collection<String> projectCodes);
+
     // Find all active projects
+    @EntityGraph(attributePaths = "projectManagers")
     List<Project> findByIsActiveTrueOrderByUpdatedAtDesc();
 
+    // Summaries of all active projects, most recently updated first
+    @Query("SELECT " + SUMMARY + "FROM Project p WHERE p.isActive = true ORDER BY p.updatedAt DESC")
+    List<ProjectSummaryDTO> findActiveSummaries();
+
+    // Keyset pagination over all active projects: first page
+    @Query("SELECT p FROM Project p WHERE p.isActive = true ORDER BY p.updatedAt DESC, p.id DESC")
+    List<Project> findFirstPageOfActiveProjects(Limit limit);
+
+    // Keyset pagination over all active projects: page following the given (updatedAt, id) position
+    @Query("SELECT p FROM Project p WHERE p.isActive = true " +
+           "AND (p.updatedAt < :updatedAt OR (p.updatedAt = :updatedAt AND p.id < :id)) " +
+           "ORDER BY p.updatedAt DESC, p.id DESC")
+    List<Project> findPageOfActiveProjectsAfter(@Param("updatedAt") LocalDateTime updatedAt,
+                                                @Param("id") Long id,
+                                                Limit limit);
+
+    // Count all active projects
+    long countByIsActiveTrue();
+
     // Custom query for complex filtering
+    @EntityGraph(attributePaths = "projectManagers")
     @Query("SELECT DISTINCT p FROM Project p JOIN p.projectManagers pm WHERE " +
            "(:pmId IS NULL OR pm.id = :pmId) AND " +
            "(:status IS NULL OR p.status = :status) AND " +
@@ -62,4 +226,14 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     List<Project> findProjectsWithFilters(@Param("pmId") Long pmId, 
                                          @Param("status") ProjectStatus status,
                                          @Param("clientName") String clientName);
-}
\ No newline at end of file
+
+    // Summaries for the complex filtering, with the same filters and order
+    @Query("SELECT DISTINCT " + SUMMARY + "FROM Project p JOIN p.projectManagers pm WHERE " +
+           "(:pmId IS NULL OR pm.id = :pmId) AND " +
+           "(:status IS NULL OR p.status = :status) AND " +
+           "(:clientName IS NULL OR LOWER(p.clientName) LIKE LOWER(CONCAT('%', :clientName, '%'))) AND " +
+           "p.isActive = true ORDER BY p.updatedAt DESC")
+    List<ProjectSummaryDTO> findSummariesWithFilters(@Param("pmId") Long pmId,
+                                                     @Param("status") ProjectStatus status,
+                                                     @Param("clientName") String clientName);
+}
@@ -0,0 +1,377 @@
+package com.projectmanagement.search;
+
+import com.projectmanagement.event.IncrementalRefresher;
+import com.projectmanagement.event.ProjectChangedEvent;
+import com.projectmanagement.event.RemoteProjectChangedEvent;
+import com.projectmanagement.repository.ProjectRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * In-memory inverted index over the name, client name, technology stack and description of
+ * active projects. Query terms of three or more characters match any substring through a
+ * trigram index; shorter terms match whole words. Every term must match; results are ranked
+ * by which field matched and how closely.
+ *
+ * <p>The index is built when the application is ready and kept current from
+ * {@link ProjectChangedEvent}s (and {@link RemoteProjectChangedEvent}s for writes made on
+ * other replicas) by reloading the text fields of the changed projects.
+ */
+@Component
+@Slf4j
+public class ProjectSearchIndex {
+
+    private static final int GRAM_LENGTH = 3;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // Field order of the indexed documents and their ranking weights
+    private static final double[] FIELD_WEIGHTS = {4, 3, 2, 1};
+    private static final int FIELD_COUNT = FIELD_WEIGHTS.length;
+
+    private static final Comparator<Match> RANKING =
+        Comparator.comparingDouble(Match::score).reversed().thenComparing(Match::id);
+
+    private final ProjectRepository projectRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private volatile Index index = new Index();
+    private final IncrementalRefresher refresher = new IncrementalRefresher();
+
+    public ProjectSearchIndex(ProjectRepository projectRepository, TransactionTemplate transactionTemplate) {
+        this.projectRepository = projectRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Rebuilds the index from the database. Searches keep using the previous index until the
+     * new one is complete.
+     */
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        Index rebuilt = refresher.rebuild(this::scan, scanned -> index = scanned, this::reload);
+        log.info("Built project search index with {} projects in {} ms",
+                 rebuilt.documents.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        refresh(event);
+    }
+
+    @EventListener
+    public void onRemoteProjectChanged(RemoteProjectChangedEvent event) {
+        refresh(event.change());
+    }
+
+    /**
+     * Returns the IDs of the {@code limit} best matching active projects, best match first,
+     * and how many projects match every term of the query. Only the returned matches are
+     * ordered; the rest are counted.
+     */
+    public SearchResult search(String query, int limit) {
+        List<String> terms = WHITESPACE.splitAsStream(normalize(query)).filter(term -> !term.isEmpty()).toList();
+        if (terms.isEmpty() || limit <= 0) {
+            return SearchResult.EMPTY;
+        }
+        Index current = index;
+
+        // Every posting list a match must appear in, across all terms, intersected smallest first
+        List<TermPostings> termPostings = new ArrayList<>(terms.size());
+        List<Set<Long>> required = new ArrayList<>();
+        for (String term : terms) {
+            TermPostings postings = current.postings(term);
+            if (postings == null) {
+                return SearchResult.EMPTY;
+            }
+            termPostings.add(postings);
+            postings.required().forEach(ids -> required.add(ids.keySet()));
+        }
+        required.sort(Comparator.comparingInt(Set::size));
+        Set<Long> candidates = new HashSet<>(required.get(0));
+        for (int i = 1; i < required.size(); i++) {
+            candidates.retainAll(required.get(i));
+            if (candidates.isEmpty()) {
+                return SearchResult.EMPTY;
+            }
+        }
+
+        // Bounded heap with the weakest kept match at its head
+        PriorityQueue<Match> best = new PriorityQueue<>(Math.min(limit, candidates.size()) + 1, RANKING.reversed());
+        int total = 0;
+        for (Long id : candidates) {
+            Document document = current.documents.get(id);
+            double score = document != null ? document.score(termPostings) : 0;
+            if (score > 0) {
+                total++;
+                best.add(new Match(id, score));
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+        }
+        List<Match> ranked = new ArrayList<>(best);
+        ranked.sort(RANKING);
+        return new SearchResult(ranked.stream().map(Match::id).toList(), total);
+    }
+
+    public int size() {
+        return index.documents.size();
+    }
+
+    private void refresh(ProjectChangedEvent event) {
+        switch (event.type()) {
+            case CREATED, UPDATED, DELETED -> refresher.refresh(event.projectIds(), this::reload);
+            case MANAGER_ASSIGNED, MANAGER_REMOVED -> {
+                // Assignments do not change indexed text
+            }
+        }
+    }
+
+    private Index scan() {
+        Index scanned = new Index();
+        readOnlyTransaction.executeWithoutResult(tx -> {
+            try (Stream<Object[]> rows = projectRepository.streamSearchableFields()) {
+                rows.forEach(row -> scanned.add(toDocument(row)));
+            }
+        });
+        return scanned;
+    }
+
+    // Runs under the refresher's lock
+    private void reload(Collection<Long> projectIds) {
+        List<Object[]> rows = projectRepository.findSearchableFieldsByIds(projectIds);
+        projectIds.forEach(index::remove);
+        rows.forEach(row -> index.add(toDocument(row)));
+    }
+
+    private static Document toDocument(Object[] row) {
+        String[] fields = new String[FIELD_COUNT];
+        List<Set<String>> words = new ArrayList<>(fields.length);
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = row[i + 1] != null ? normalize((String) row[i + 1]) : null;
+            words.add(fields[i] != null ? words(fields[i]) : Set.of());
+        }
+        return new Document((Long) row[0], fields, words);
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : WHITESPACE.matcher(text.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> words(String text) {
+        Set<String> words = new HashSet<>();
+        for (String word : WORD_SEPARATOR.split(text)) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    /**
+     * One page of ranked matches and the number of projects matching the query.
+     */
+    public record SearchResult(List<Long> ids, int total) {
+
+        static final SearchResult EMPTY = new SearchResult(List.of(), 0);
+    }
+
+    private record Match(Long id, double score) {
+    }
+
+    /**
+     * Normalized field texts, with the words of each field split once when the project is
+     * indexed rather than on every query.
+     */
+    private record Document(Long id, String[] fields, List<Set<String>> words) {
+
+        /**
+         * The document's posting keys, each with the fields it occurs in: bit {@code i} marks
+         * field {@code i}, and bit {@code FIELD_COUNT + i} marks the closer match in that field.
+         * For a trigram that is a word of the field starting with it; for a word key, the whole
+         * field being that text.
+         */
+        Map<String, Integer> postings() {
+            Map<String, Integer> postings = new HashMap<>();
+            for (int i = 0; i < fields.length; i++) {
+                if (fields[i] == null) {
+                    continue;
+                }
+                for (String gram : grams(fields[i])) {
+                    mark(postings, gram, in(i));
+                }
+                for (String word : words.get(i)) {
+                    mark(postings, " " + word, in(i));
+                    if (word.length() >= GRAM_LENGTH) {
+                        mark(postings, word.substring(0, GRAM_LENGTH), closer(i));
+                    }
+                }
+                if (!fields[i].isEmpty() && fields[i].indexOf(' ') < 0) {
+                    mark(postings, " " + fields[i], closer(i));
+                }
+            }
+            return postings;
+        }
+
+        /**
+         * Sums, over the query terms, the best weighted match of each term; 0 if any term does
+         * not occur in the document.
+         */
+        double score(List<TermPostings> terms) {
+            double total = 0;
+            for (TermPostings term : terms) {
+                int wordFlags = term.word().getOrDefault(id, 0);
+                int gramFlags = term.gramFlags(id);
+                int leadingFlags = term.leadingGram().getOrDefault(id, 0);
+                double best = 0;
+                for (int i = 0; i < fields.length; i++) {
+                    best = Math.max(best,
+                        FIELD_WEIGHTS[i] * matchQuality(i, term.text(), wordFlags, gramFlags, leadingFlags));
+                }
+                if (best == 0) {
+                    return 0;
+                }
+                total += best;
+            }
+            return total;
+        }
+
+        /**
+         * Decided by the posting flags, except for terms longer than a trigram: a field holding
+         * all of their trigrams may still not contain them, so that field's text is checked.
+         */
+        private double matchQuality(int field, String term, int wordFlags, int gramFlags, int leadingFlags) {
+            if ((wordFlags & closer(field)) != 0) {
+                return 3;
+            }
+            if ((wordFlags & in(field)) != 0) {
+                return 2;
+            }
+            if ((gramFlags & in(field)) == 0) {
+                return 0;
+            }
+            boolean wordStartsWithLeadingGram = (leadingFlags & closer(field)) != 0;
+            if (term.length() == GRAM_LENGTH) {
+                return wordStartsWithLeadingGram ? 1.5 : 1;
+            }
+            if (wordStartsWithLeadingGram && words.get(field).stream().anyMatch(word -> word.startsWith(term))) {
+                return 1.5;
+            }
+            return fields[field].contains(term) ? 1 : 0;
+        }
+    }
+
+    private static void mark(Map<String, Integer> postings, String key, int flag) {
+        postings.merge(key, flag, (flags, added) -> flags | added);
+    }
+
+    private static int in(int field) {
+        return 1 << field;
+    }
+
+    private static int closer(int field) {
+        return 1 << (FIELD_COUNT + field);
+    }
+
+    /**
+     * The postings of one query term: those a match must appear in (the whole word for short
+     * terms, every trigram otherwise), the whole-word postings, and those of the term's first
+     * trigram. Each maps a project ID to its {@link Document#postings()} flags.
+     */
+    private record TermPostings(String text, List<Map<Long, Integer>> required, Map<Long, Integer> word,
+                                Map<Long, Integer> leadingGram) {
+
+        // Fields holding every trigram of the term; none for short terms, which only match whole words
+        int gramFlags(Long id) {
+            if (text.length() < GRAM_LENGTH) {
+                return 0;
+            }
+            int flags = -1;
+            for (Map<Long, Integer> gram : required) {
+                flags &= gram.getOrDefault(id, 0);
+            }
+            return flags;
+        }
+    }
+
+    /**
+     * Postings keyed by trigram, or by a space followed by a whole word; a space never occurs
+     * inside a normalized word, so the two kinds of key cannot collide.
+     */
+    private static final class Index {
+
+        private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+        private final Map<String, Map<Long, Integer>> postings = new ConcurrentHashMap<>();
+
+        void add(Document document) {
+            documents.put(document.id(), document);
+            document.postings().forEach((key, flags) ->
+                postings.computeIfAbsent(key, k -> new ConcurrentHashMap<>()).put(document.id(), flags));
+        }
+
+        void remove(Long id) {
+            Document document = documents.remove(id);
+            if (document == null) {
+                return;
+            }
+            for (String key : document.postings().keySet()) {
+                postings.computeIfPresent(key, (k, ids) -> {
+                    ids.remove(id);
+                    return ids.isEmpty() ? null : ids;
+                });
+            }
+        }
+
+        /**
+         * The term's postings, or null if no project can contain it.
+         */
+        TermPostings postings(String term) {
+            Map<Long, Integer> word = postings.getOrDefault(" " + term, Map.of());
+            if (term.length() < GRAM_LENGTH) {
+                return word.isEmpty() ? null : new TermPostings(term, List.of(word), word, Map.of());
+            }
+            List<Map<Long, Integer>> grams = new ArrayList<>();
+            for (String gram : grams(term)) {
+                Map<Long, Integer> ids = postings.get(gram);
+                if (ids == null) {
+                    return null;
+                }
+                grams.add(ids);
+            }
+            return new TermPostings(term, grams, word, postings.getOrDefault(term.substring(0, GRAM_LENGTH), Map.of()));
+        }
+    }
+}
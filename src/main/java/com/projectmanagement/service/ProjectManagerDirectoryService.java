@@ -0,0 +1,23 @@
+package com.projectmanagement.service;
+
+import com.projectmanagement.dto.ProjectManagerDTO;
+
+import java.util.List;
+
+/**
+ * Project manager lookups, answered from the in-memory directory without querying the database.
+ */
+public interface ProjectManagerDirectoryService {
+
+    /**
+     * Active project managers ordered by name, optionally narrowed to a department and to names
+     * with a word starting with each word of {@code name}.
+     */
+    List<ProjectManagerDTO> getActiveProjectManagers(String name, String department);
+
+    ProjectManagerDTO getProjectManagerById(Long pmId);
+
+    ProjectManagerDTO getProjectManagerByEmail(String email);
+
+    ProjectManagerDTO getProjectManagerByEmployeeId(String employeeId);
+}
@@ -1,12 +1,26 @@
 package com.projectmanagement.service;
 
+import com.projectmanagement.dto.BulkProjectResultDTO;
+import com.projectmanagement.dto.CursorPageDTO;
+import com.projectmanagement.dto.PortfolioStatsDTO;
+import com.projectmanagement.dto.ProjectAssignmentRequestDTO;
+import com.projectmanagement.dto.ProjectAssignmentResultDTO;
 import com.projectmanagement.dto.ProjectDTO;
+import com.projectmanagement.dto.ProjectManagerBatchRequestDTO;
+import com.projectmanagement.dto.ProjectManagerBatchResultDTO;
+import com.projectmanagement.dto.ProjectStatsDTO;
+import com.projectmanagement.dto.ProjectSummaryDTO;
 import com.projectmanagement.entity.ProjectStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 public interface ProjectService {
 
@@ -14,6 +28,8 @@ public interface ProjectService {
 
     Page<ProjectDTO> getProjectsByProjectManagerId(Long pmId, Pageable pageable);
 
+    CursorPageDTO<ProjectDTO> getProjectsByProjectManagerIdAfter(Long pmId, String cursor, int size, boolean includeTotal);
+
     List<ProjectDTO> getProjectsByProjectManagerEmail(String email);
 
     List<ProjectDTO> getProjectsByProjectManagerEmployeeId(String employeeId);
@@ -28,17 +44,108 @@ public interface ProjectService {
 
     ProjectDTO getProjectByCode(String projectCode);
 
+    /**
+     * Current version of a project, from the cache when possible, without loading the project.
+     */
+    Long getProjectVersion(Long projectId);
+
+    Long getProjectVersionByCode(String projectCode);
+
+    /**
+     * Version of a project manager's project lists, or null when it cannot be vouched for.
+     */
+    String getProjectManagerProjectsVersion(Long pmId);
+
     List<ProjectDTO> getAllActiveProjects();
 
+    CursorPageDTO<ProjectDTO> getActiveProjectsAfter(String cursor, int size, boolean includeTotal);
+
+    long exportActiveProjects(Consumer<ProjectDTO> consumer);
+
+    /**
+     * Writes all active projects as compact JSON straight from the entities, each project
+     * manager once, after the transaction reading them has ended. Returns the number of projects
+     * written.
+     */
+    int writeAllActiveProjectsCompact(OutputStream outputStream) throws IOException;
+
     List<ProjectDTO> getProjectsWithFilters(Long pmId, ProjectStatus status, String clientName);
 
+    /**
+     * Summaries of the same project lists as the methods above, read as projections without
+     * loading the projects or their managers.
+     */
+    List<ProjectSummaryDTO> getProjectSummariesByProjectManagerId(Long pmId);
+
+    List<ProjectSummaryDTO> getProjectSummariesByProjectManagerEmail(String email);
+
+    List<ProjectSummaryDTO> getProjectSummariesByProjectManagerEmployeeId(String employeeId);
+
+    List<ProjectSummaryDTO> getProjectSummariesByProjectManagerIdAndStatus(Long pmId, ProjectStatus status);
+
+    List<ProjectSummaryDTO> getProjectSummariesByProjectManagerIdAndDateRange(Long pmId, LocalDate startDate,
+                                                                            LocalDate endDate);
+
+    List<ProjectSummaryDTO> getAllActiveProjectSummaries();
+
+    List<ProjectSummaryDTO> getProjectSummariesWithFilters(Long pmId, ProjectStatus status, String clientName);
+
+    Page<ProjectDTO> searchProjects(String query, Pageable pageable);
+
+    PortfolioStatsDTO getPortfolioStats();
+
+    ProjectStatsDTO getProjectManagerStats(Long pmId);
+
+    PortfolioStatsDTO rebuildPortfolioStats();
+
     ProjectDTO createProject(ProjectDTO projectDTO);
 
+    /**
+     * Creates projects in batches, reporting an outcome per item instead of failing the whole
+     * request. An item the iterator cannot produce should surface as an InvalidRequestException
+     * from {@code next()}; it is reported as invalid and processing continues.
+     */
+    BulkProjectResultDTO createProjects(Iterator<ProjectDTO> projects);
+
+    /**
+     * Updates existing active projects, matched by project code, in batches. Each item replaces
+     * the same fields as {@link #updateProject(Long, ProjectDTO)}; codes with no active project
+     * are reported as not found, and the rest of the batch is still applied.
+     */
+    BulkProjectResultDTO updateProjects(Iterator<ProjectDTO> projects);
+
     ProjectDTO updateProject(Long projectId, ProjectDTO projectDTO);
 
+    /**
+     * Replaces the project's editable fields, provided its version still equals
+     * {@code expectedVersion} (ignored when null).
+     */
+    ProjectDTO updateProject(Long projectId, ProjectDTO projectDTO, Long expectedVersion);
+
+    /**
+     * Updates only the given fields, keyed by ProjectDTO property name, with a single UPDATE
+     * statement, provided the version still equals {@code expectedVersion} (ignored when null).
+     */
+    ProjectDTO patchProject(Long projectId, Map<String, Object> changes, Long expectedVersion);
+
     void deleteProject(Long projectId);
 
     void assignProjectManagerToProject(Long projectId, Long pmId);
 
     void removeProjectManagerFromProject(Long projectId, Long pmId);
+
+    /**
+     * Active projects of every project manager matching one of the given IDs, emails or
+     * employee IDs, with a fixed number of statements however many are requested.
+     */
+    /**
+     * Active projects assigned to both project managers, ordered by ID.
+     */
+    List<ProjectDTO> getProjectsSharedByProjectManagers(Long pmId, Long otherPmId);
+
+    ProjectManagerBatchResultDTO getProjectsByProjectManagers(ProjectManagerBatchRequestDTO request);
+
+    ProjectAssignmentResultDTO assignProjectManagers(ProjectAssignmentRequestDTO request);
+
+    ProjectAssignmentResultDTO removeProjectManagers(ProjectAssignmentRequestDTO request);
 }
\ No newline at end of file
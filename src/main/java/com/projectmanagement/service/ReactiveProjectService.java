@@ -0,0 +1,36 @@
+package com.projectmanagement.service;
+
+import com.projectmanagement.dto.ProjectDTO;
+import com.projectmanagement.entity.ProjectStatus;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * Non-blocking view of the project reads of {@link ProjectService}. The blocking calls run on
+ * a bounded offload scheduler, and nothing is read until a subscriber asks for it. Lists that
+ * support keyset pagination are fetched one page at a time as the subscriber requests more.
+ */
+public interface ReactiveProjectService {
+
+    Flux<ProjectDTO> getProjectsByProjectManagerId(Long pmId);
+
+    Flux<ProjectDTO> getProjectsByProjectManagerEmail(String email);
+
+    Flux<ProjectDTO> getProjectsByProjectManagerEmployeeId(String employeeId);
+
+    Flux<ProjectDTO> getProjectsByProjectManagerIdAndStatus(Long pmId, ProjectStatus status);
+
+    Flux<ProjectDTO> getProjectsByProjectManagerIdAndDateRange(Long pmId, LocalDate startDate, LocalDate endDate);
+
+    Mono<Long> countProjectsByProjectManagerId(Long pmId);
+
+    Mono<ProjectDTO> getProjectById(Long projectId);
+
+    Mono<ProjectDTO> getProjectByCode(String projectCode);
+
+    Flux<ProjectDTO> getAllActiveProjects();
+
+    Flux<ProjectDTO> getProjectsWithFilters(Long pmId, ProjectStatus status, String clientName);
+}
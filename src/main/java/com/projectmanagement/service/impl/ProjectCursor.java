@@ -0,0 +1,41 @@
+package com.projectmanagement.service.impl;
+
+import com.projectmanagement.entity.Project;
+import com.projectmanagement.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last row of a keyset page, ordered by (updatedAt, id) descending.
+ * Encoded as an opaque URL-safe token so clients cannot depend on its layout.
+ */
+record ProjectCursor(LocalDateTime updatedAt, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    static ProjectCursor of(Project project) {
+        return new ProjectCursor(project.getUpdatedAt(), project.getId());
+    }
+
+    static ProjectCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidRequestException("Invalid pagination cursor: " + token);
+            }
+            return new ProjectCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                                     Long.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new InvalidRequestException("Invalid pagination cursor: " + token);
+        }
+    }
+
+    String encode() {
+        String raw = updatedAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
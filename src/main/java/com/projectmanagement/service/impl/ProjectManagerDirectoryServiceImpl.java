@@ -0,0 +1,86 @@
+package com.projectmanagement.service.impl;
+
+import com.projectmanagement.directory.ProjectManagerRegistry;
+import com.projectmanagement.dto.ProjectManagerDTO;
+import com.projectmanagement.entity.ProjectManager;
+import com.projectmanagement.exception.ResourceNotFoundException;
+import com.projectmanagement.mapper.ProjectMapper;
+import com.projectmanagement.repository.ProjectManagerRepository;
+import com.projectmanagement.service.ProjectManagerDirectoryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Lists are served from the registry alone. Single lookups that miss it fall back to the
+ * database, since a manager created on another replica may not have been loaded yet.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectManagerDirectoryServiceImpl implements ProjectManagerDirectoryService {
+
+    private final ProjectManagerRegistry projectManagerRegistry;
+    private final ProjectManagerRepository projectManagerRepository;
+    private final ProjectMapper projectMapper;
+
+    @Override
+    public List<ProjectManagerDTO> getActiveProjectManagers(String name, String department) {
+        log.debug("Fetching active project managers with name: {}, department: {}", name, department);
+
+        List<ProjectManagerDTO> managers = name != null && !name.isBlank()
+            ? projectManagerRegistry.findActiveByNamePrefix(name)
+            : department != null ? projectManagerRegistry.findActiveByDepartment(department)
+            : projectManagerRegistry.findActive();
+        if (name != null && !name.isBlank() && department != null) {
+            managers = managers.stream()
+                .filter(pm -> department.equalsIgnoreCase(pm.getDepartment()))
+                .toList();
+        }
+
+        log.debug("Found {} active project managers", managers.size());
+        return managers;
+    }
+
+    @Override
+    public ProjectManagerDTO getProjectManagerById(Long pmId) {
+        log.debug("Fetching project manager with ID: {}", pmId);
+
+        ProjectManagerDTO pm = projectManagerRegistry.findById(pmId);
+        return pm != null ? pm : orNotFound(() -> projectManagerRepository.findById(pmId),
+                                            "Project Manager not found with ID: " + pmId);
+    }
+
+    @Override
+    public ProjectManagerDTO getProjectManagerByEmail(String email) {
+        log.debug("Fetching project manager with email: {}", email);
+
+        ProjectManagerDTO pm = active(projectManagerRegistry.findIdByEmail(email));
+        return pm != null ? pm : orNotFound(() -> projectManagerRepository.findByEmailAndIsActiveTrue(email),
+                                            "Project Manager not found with email: " + email);
+    }
+
+    @Override
+    public ProjectManagerDTO getProjectManagerByEmployeeId(String employeeId) {
+        log.debug("Fetching project manager with employee ID: {}", employeeId);
+
+        ProjectManagerDTO pm = active(projectManagerRegistry.findIdByEmployeeId(employeeId));
+        return pm != null ? pm : orNotFound(() -> projectManagerRepository.findByEmployeeIdAndIsActiveTrue(employeeId),
+                                            "Project Manager not found with employee ID: " + employeeId);
+    }
+
+    private ProjectManagerDTO active(Long pmId) {
+        ProjectManagerDTO pm = pmId != null ? projectManagerRegistry.findById(pmId) : null;
+        return pm != null && Boolean.TRUE.equals(pm.getIsActive()) ? pm : null;
+    }
+
+    private ProjectManagerDTO orNotFound(Supplier<Optional<ProjectManager>> query,
+                                        String message) {
+        return query.get().map(projectMapper::toProjectManagerDTO)
+            .orElseThrow(() -> new ResourceNotFoundException(message));
+    }
+}
@@ -1,23 +1,87 @@
 package com.projectmanagement.service.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanagement.assignment.ProjectAssignmentGraph;
+import com.projectmanagement.cache.ProjectCache;
+import com.projectmanagement.cache.ProjectListVersions;
+import com.projectmanagement.config.ProjectBulkProperties;
+import com.projectmanagement.directory.ProjectManagerRegistry;
+import com.projectmanagement.dto.BulkProjectItemResultDTO;
+import com.projectmanagement.dto.BulkProjectItemResultDTO.Outcome;
+import com.projectmanagement.dto.BulkProjectResultDTO;
+import com.projectmanagement.dto.CursorPageDTO;
+import com.projectmanagement.dto.PortfolioStatsDTO;
+import com.projectmanagement.dto.ProjectAssignmentRequestDTO;
+import com.projectmanagement.dto.ProjectAssignmentResultDTO;
 import com.projectmanagement.dto.ProjectDTO;
+import com.projectmanagement.dto.ProjectManagerBatchRequestDTO;
+import com.projectmanagement.dto.ProjectManagerBatchResultDTO;
+import com.projectmanagement.dto.ProjectManagerProjectsDTO;
+import com.projectmanagement.dto.ProjectStatsDTO;
+import com.projectmanagement.dto.ProjectSummaryDTO;
 import com.projectmanagement.entity.Project;
 import com.projectmanagement.entity.ProjectManager;
+import com.projectmanagement.entity.ProjectPriority;
 import com.projectmanagement.entity.ProjectStatus;
+import com.projectmanagement.event.ProjectChangedEvent;
+import com.projectmanagement.event.ProjectChangedEvent.ChangeType;
+import com.projectmanagement.event.ProjectChangedEvent.ChangedProject;
+import com.projectmanagement.exception.InvalidRequestException;
+import com.projectmanagement.exception.PreconditionFailedException;
 import com.projectmanagement.exception.ResourceNotFoundException;
+import com.projectmanagement.mapper.ProjectJsonWriter;
 import com.projectmanagement.mapper.ProjectMapper;
+import com.projectmanagement.repository.ProjectBulkRepository;
+import com.projectmanagement.repository.ProjectBulkRepository.Assignment;
+import com.projectmanagement.repository.ProjectExportRepository;
 import com.projectmanagement.repository.ProjectManagerRepository;
 import com.projectmanagement.repository.ProjectRepository;
+import com.projectmanagement.search.ProjectSearchIndex;
 import com.projectmanagement.service.ProjectService;
+import com.projectmanagement.stats.ProjectStatsRollups;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
@@ -25,22 +89,51 @@ import java.util.List;
 @Transactional
 public class ProjectServiceImpl implements ProjectService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_PROJECT_CODE_LENGTH = 20;
+
+    private static final Map<String, Class<?>> PATCHABLE_FIELDS = Map.ofEntries(
+        Map.entry("name", String.class),
+        Map.entry("description", String.class),
+        Map.entry("status", ProjectStatus.class),
+        Map.entry("priority", ProjectPriority.class),
+        Map.entry("startDate", LocalDate.class),
+        Map.entry("endDate", LocalDate.class),
+        Map.entry("estimatedEndDate", LocalDate.class),
+        Map.entry("budget", BigDecimal.class),
+        Map.entry("actualCost", BigDecimal.class),
+        Map.entry("clientName", String.class),
+        Map.entry("technologyStack", String.class),
+        Map.entry("teamSize", Integer.class),
+        Map.entry("completionPercentage", Integer.class));
+
     private final ProjectRepository projectRepository;
     private final ProjectManagerRepository projectManagerRepository;
     private final ProjectMapper projectMapper;
+    private final ProjectJsonWriter projectJsonWriter;
+    private final EntityManager entityManager;
+    private final ProjectCache projectCache;
+    private final ProjectListVersions projectListVersions;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProjectBulkRepository projectBulkRepository;
+    private final ProjectExportRepository projectExportRepository;
+    private final ProjectBulkProperties bulkProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ProjectSearchIndex projectSearchIndex;
+    private final ProjectStatsRollups projectStatsRollups;
+    private final ProjectManagerRegistry projectManagerRegistry;
+    private final ProjectAssignmentGraph assignmentGraph;
+    private final ObjectMapper objectMapper;
 
     @Override
     @Transactional(readOnly = true)
     public List<ProjectDTO> getProjectsByProjectManagerId(Long pmId) {
-        log.info("Fetching projects for project manager with ID: {}", pmId);
-
-        // Validate if PM exists
-        if (!projectManagerRepository.existsById(pmId)) {
-            throw new ResourceNotFoundException("Project Manager not found with ID: " + pmId);
-        }
+        log.debug("Fetching projects for project manager with ID: {}", pmId);
 
         List<Project> projects = projectRepository.findByProjectManagerId(pmId);
-        log.info("Found {} projects for project manager ID: {}", projects.size(), pmId);
+        requireProjectManagerIfEmpty(pmId, projects.isEmpty());
+        log.debug("Found {} projects for project manager ID: {}", projects.size(), pmId);
 
         return projectMapper.toProjectDTOList(projects);
     }
@@ -48,23 +141,40 @@ public class ProjectServiceImpl implements ProjectService {
     @Override
     @Transactional(readOnly = true)
     public Page<ProjectDTO> getProjectsByProjectManagerId(Long pmId, Pageable pageable) {
-        log.info("Fetching projects for project manager with ID: {} with pagination", pmId);
-
-        if (!projectManagerRepository.existsById(pmId)) {
-            throw new ResourceNotFoundException("Project Manager not found with ID: " + pmId);
-        }
+        log.debug("Fetching projects for project manager with ID: {} with pagination", pmId);
 
         Page<Project> projectPage = projectRepository.findByProjectManagerId(pmId, pageable);
+        requireProjectManagerIfEmpty(pmId, projectPage.isEmpty());
+
         return projectPage.map(projectMapper::toProjectDTO);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ProjectDTO> getProjectsByProjectManagerIdAfter(Long pmId, String cursor, int size,
+                                                                        boolean includeTotal) {
+        log.debug("Fetching projects for project manager with ID: {} after cursor: {}", pmId, cursor);
+
+        CursorPageDTO<ProjectDTO> page = toCursorPage(cursor, size,
+            limit -> projectRepository.findFirstPageByProjectManagerId(pmId, limit),
+            (position, limit) -> projectRepository.findPageByProjectManagerIdAfter(
+                pmId, position.updatedAt(), position.id(), limit),
+            includeTotal ? () -> projectRepository.countProjectsByProjectManagerId(pmId) : null);
+        requireProjectManagerIfEmpty(pmId, page.getContent().isEmpty());
+
+        return page;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<ProjectDTO> getProjectsByProjectManagerEmail(String email) {
-        log.info("Fetching projects for project manager with email: {}", email);
+        log.debug("Fetching projects for project manager with email: {}", email);
 
-        List<Project> projects = projectRepository.findByProjectManagerEmail(email);
-        log.info("Found {} projects for project manager email: {}", projects.size(), email);
+        Long pmId = projectManagerRegistry.findIdByEmail(email);
+        List<Project> projects = pmId != null
+            ? projectRepository.findByProjectManagerId(pmId)
+            : projectRepository.findByProjectManagerEmail(email);
+        log.debug("Found {} projects for project manager email: {}", projects.size(), email);
 
         return projectMapper.toProjectDTOList(projects);
     }
@@ -72,109 +182,431 @@ public class ProjectServiceImpl implements ProjectService {
     @Override
     @Transactional(readOnly = true)
     public List<ProjectDTO> getProjectsByProjectManagerEmployeeId(String employeeId) {
-        log.info("Fetching projects for project manager with employee ID: {}", employeeId);
+        log.debug("Fetching projects for project manager with employee ID: {}", employeeId);
 
-        List<Project> projects = projectRepository.findByProjectManagerEmployeeId(employeeId);
-        log.info("Found {} projects for project manager employee ID: {}", projects.size(), employeeId);
+        Long pmId = projectManagerRegistry.findIdByEmployeeId(employeeId);
+        List<Project> projects = pmId != null
+            ? projectRepository.findByProjectManagerId(pmId)
+            : projectRepository.findByProjectManagerEmployeeId(employeeId);
+        log.debug("Found {} projects for project manager employee ID: {}", projects.size(), employeeId);
 
         return projectMapper.toProjectDTOList(projects);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<ProjectDTO> getProjectsByProjectManagerIdAndStatus(Long pmId, ProjectStatus status) {
-        log.info("Fetching projects for project manager ID: {} with status: {}", pmId, status);
+    public ProjectManagerBatchResultDTO getProjectsByProjectManagers(ProjectManagerBatchRequestDTO request) {
+        Set<Long> pmIds = identifiers(request.getPmIds(), "pmIds");
+        Set<String> emails = identifiers(request.getEmails(), "emails");
+        Set<String> employeeIds = identifiers(request.getEmployeeIds(), "employeeIds");
+        int requested = pmIds.size() + emails.size() + employeeIds.size();
+        if (requested == 0) {
+            throw new InvalidRequestException("At least one of pmIds, emails or employeeIds is required");
+        }
+        if (requested > bulkProperties.maxItems()) {
+            throw new InvalidRequestException("Batch lookups are limited to " + bulkProperties.maxItems() +
+                " project managers, got " + requested);
+        }
+        log.debug("Fetching projects for {} project manager identifiers", requested);
 
-        if (!projectManagerRepository.existsById(pmId)) {
-            throw new ResourceNotFoundException("Project Manager not found with ID: " + pmId);
+        // Emails and employee IDs are matched case-insensitively, as the database collation compares them
+        Map<Long, ProjectManager> managers = new HashMap<>();
+        Map<String, ProjectManager> byEmail = new HashMap<>();
+        Map<String, ProjectManager> byEmployeeId = new HashMap<>();
+        for (ProjectManager pm : projectManagerRepository.findByIdOrEmailOrEmployeeId(
+                pmIds, normalize(emails), normalize(employeeIds))) {
+            managers.put(pm.getId(), pm);
+            byEmail.put(normalize(pm.getEmail()), pm);
+            if (pm.getEmployeeId() != null) {
+                byEmployeeId.put(normalize(pm.getEmployeeId()), pm);
+            }
+        }
+
+        // Managers in request order, each once even when matched by several identifiers
+        Map<Long, ProjectManager> resolved = new LinkedHashMap<>();
+        ProjectManagerBatchRequestDTO notFound = new ProjectManagerBatchRequestDTO(
+            resolve(pmIds, Function.identity(), managers, resolved),
+            resolve(emails, ProjectServiceImpl::normalize, byEmail, resolved),
+            resolve(employeeIds, ProjectServiceImpl::normalize, byEmployeeId, resolved));
+
+        Map<Long, List<Long>> projectIdsByManager = new HashMap<>();
+        Map<Long, ProjectDTO> projects = new LinkedHashMap<>();
+        if (!resolved.isEmpty()) {
+            List<Project> found = new ArrayList<>(projectRepository.findByProjectManagerIdIn(resolved.keySet()));
+            found.sort(Comparator.comparing(Project::getId));
+            for (Project project : found) {
+                projects.put(project.getId(), projectMapper.toProjectDTO(project));
+                for (ProjectManager pm : project.getProjectManagers()) {
+                    if (resolved.containsKey(pm.getId())) {
+                        projectIdsByManager.computeIfAbsent(pm.getId(), id -> new ArrayList<>()).add(project.getId());
+                    }
+                }
+            }
         }
 
+        List<ProjectManagerProjectsDTO> result = resolved.values().stream()
+            .map(pm -> new ProjectManagerProjectsDTO(pm.getId(), pm.getEmail(), pm.getEmployeeId(),
+                projectIdsByManager.getOrDefault(pm.getId(), List.of())))
+            .toList();
+        log.debug("Found {} projects for {} project managers", projects.size(), result.size());
+
+        return new ProjectManagerBatchResultDTO(result, projects, notFound);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProjectDTO> getProjectsByProjectManagerIdAndStatus(Long pmId, ProjectStatus status) {
+        log.debug("Fetching projects for project manager ID: {} with status: {}", pmId, status);
+
         List<Project> projects = projectRepository.findByProjectManagerIdAndStatus(pmId, status);
+        requireProjectManagerIfEmpty(pmId, projects.isEmpty());
         return projectMapper.toProjectDTOList(projects);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ProjectDTO> getProjectsByProjectManagerIdAndDateRange(Long pmId, LocalDate startDate, LocalDate endDate) {
-        log.info("Fetching projects for project manager ID: {} between {} and {}", pmId, startDate, endDate);
-
-        if (!projectManagerRepository.existsById(pmId)) {
-            throw new ResourceNotFoundException("Project Manager not found with ID: " + pmId);
-        }
+        log.debug("Fetching projects for project manager ID: {} between {} and {}", pmId, startDate, endDate);
 
         List<Project> projects = projectRepository.findByProjectManagerIdAndDateRange(pmId, startDate, endDate);
+        requireProjectManagerIfEmpty(pmId, projects.isEmpty());
         return projectMapper.toProjectDTOList(projects);
     }
 
+    // Like the cached reads, answered from memory without starting a transaction when possible
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Long countProjectsByProjectManagerId(Long pmId) {
-        log.info("Counting projects for project manager ID: {}", pmId);
+        log.debug("Counting projects for project manager ID: {}", pmId);
 
-        if (!projectManagerRepository.existsById(pmId)) {
-            throw new ResourceNotFoundException("Project Manager not found with ID: " + pmId);
+        if (assignmentGraph.isAvailable() && projectManagerRegistry.findById(pmId) != null) {
+            return (long) assignmentGraph.projectCount(pmId);
         }
-
-        return projectRepository.countProjectsByProjectManagerId(pmId);
+        // Empty only when the PM does not exist; an existing PM without projects counts 0
+        return projectRepository.countActiveProjectsOfExistingProjectManager(pmId)
+            .orElseThrow(() -> new ResourceNotFoundException("Project Manager not found with ID: " + pmId));
     }
 
     @Override
     @Transactional(readOnly = true)
+    public List<ProjectDTO> getProjectsSharedByProjectManagers(Long pmId, Long otherPmId) {
+        log.debug("Fetching projects shared by project managers {} and {}", pmId, otherPmId);
+
+        List<Project> projects;
+        if (assignmentGraph.isAvailable()) {
+            long[] ids = assignmentGraph.sharedProjectIds(pmId, otherPmId);
+            projects = new ArrayList<>(ids.length == 0 ? List.of()
+                : projectRepository.findWithProjectManagersByIdIn(Arrays.stream(ids).boxed().toList()));
+        } else {
+            projects = new ArrayList<>(projectRepository.findSharedByProjectManagerIds(pmId, otherPmId));
+        }
+        if (projects.isEmpty()) {
+            requireProjectManager(pmId);
+            requireProjectManager(otherPmId);
+        }
+        projects.sort(Comparator.comparing(Project::getId));
+        log.debug("Found {} projects shared by project managers {} and {}", projects.size(), pmId, otherPmId);
+
+        return projectMapper.toProjectDTOList(projects);
+    }
+
+    // Cached reads join an existing transaction but do not start one, so cache hits never
+    // borrow a pooled connection; misses run the repository query in its own transaction.
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public ProjectDTO getProjectById(Long projectId) {
-        log.info("Fetching project with ID: {}", projectId);
+        log.debug("Fetching project with ID: {}", projectId);
 
-        Project project = projectRepository.findById(projectId)
-            .orElseThrow(() -> new ResourceNotFoundException("Project not found with ID: " + projectId));
+        return projectCache.getById(projectId, () -> {
+            Project project = projectRepository.findWithProjectManagersById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found with ID: " + projectId));
 
-        return projectMapper.toProjectDTO(project);
+            return projectMapper.toProjectDTO(project);
+        });
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public ProjectDTO getProjectByCode(String projectCode) {
-        log.info("Fetching project with code: {}", projectCode);
+        log.debug("Fetching project with code: {}", projectCode);
+
+        return projectCache.getByCode(projectCode, () -> {
+            Project project = projectRepository.findByProjectCodeAndIsActiveTrue(projectCode)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found with code: " + projectCode));
+
+            return projectMapper.toProjectDTO(project);
+        });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Long getProjectVersion(Long projectId) {
+        ProjectDTO cached = projectCache.peekById(projectId);
+        if (cached != null) {
+            return cached.getVersion();
+        }
+        return projectRepository.findVersionById(projectId)
+            .orElseThrow(() -> new ResourceNotFoundException("Project not found with ID: " + projectId));
+    }
 
-        Project project = projectRepository.findByProjectCodeAndIsActiveTrue(projectCode)
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Long getProjectVersionByCode(String projectCode) {
+        ProjectDTO cached = projectCache.peekByCode(projectCode);
+        if (cached != null) {
+            return cached.getVersion();
+        }
+        return projectRepository.findVersionByProjectCode(projectCode)
             .orElseThrow(() -> new ResourceNotFoundException("Project not found with code: " + projectCode));
+    }
 
-        return projectMapper.toProjectDTO(project);
+    @Override
+    public String getProjectManagerProjectsVersion(Long pmId) {
+        return projectListVersions.projectManagerVersion(pmId);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ProjectDTO> getAllActiveProjects() {
-        log.info("Fetching all active projects");
+        log.debug("Fetching all active projects");
 
         List<Project> projects = projectRepository.findByIsActiveTrueOrderByUpdatedAtDesc();
         return projectMapper.toProjectDTOList(projects);
     }
 
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int writeAllActiveProjectsCompact(OutputStream outputStream) throws IOException {
+        log.debug("Writing all active projects in compact form");
+
+        // Load the projects with their managers, then serialize once the transaction has ended so a
+        // slow client holds up its response but not a pooled connection
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnlyTransaction.setReadOnly(true);
+        List<Project> projects = readOnlyTransaction.execute(
+            tx -> projectRepository.findByIsActiveTrueOrderByUpdatedAtDesc());
+        int projectManagers = projectJsonWriter.writeCompact(projects, outputStream);
+
+        log.debug("Wrote {} active projects with {} distinct project managers", projects.size(), projectManagers);
+        return projects.size();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ProjectDTO> getActiveProjectsAfter(String cursor, int size, boolean includeTotal) {
+        log.debug("Fetching active projects after cursor: {}", cursor);
+
+        return toCursorPage(cursor, size,
+            projectRepository::findFirstPageOfActiveProjects,
+            (position, limit) -> projectRepository.findPageOfActiveProjectsAfter(
+                position.updatedAt(), position.id(), limit),
+            includeTotal ? projectRepository::countByIsActiveTrue : null);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long exportActiveProjects(Consumer<ProjectDTO> consumer) {
+        log.debug("Exporting all active projects");
+
+        long exported = projectExportRepository.forEachActiveProject(
+            (project, managers) -> consumer.accept(projectMapper.toProjectDTO(project, managers)));
+
+        log.debug("Exported {} active projects", exported);
+        return exported;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<ProjectDTO> getProjectsWithFilters(Long pmId, ProjectStatus status, String clientName) {
-        log.info("Fetching projects with filters - PM ID: {}, Status: {}, Client: {}", pmId, status, clientName);
+        log.debug("Fetching projects with filters - PM ID: {}, Status: {}, Client: {}", pmId, status, clientName);
 
         List<Project> projects = projectRepository.findProjectsWithFilters(pmId, status, clientName);
         return projectMapper.toProjectDTOList(projects);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProjectSummaryDTO> getProjectSummariesByProjectManagerId(Long pmId) {
+        log.debug("Fetching project summaries for project manager with ID: {}", pmId);
+
+        List<ProjectSummaryDTO> summaries = projectRepository.findSummariesByProjectManagerId(pmId);
+        requireProjectManagerIfEmpty(pmId, summaries.isEmpty());
+        return summaries;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProjectSummaryDTO> getProjectSummariesByProjectManagerEmail(String email) {
+        log.debug("Fetching project summaries for project manager with email: {}", email);
+
+        Long pmId = projectManagerRegistry.findIdByEmail(email);
+        return pmId != null
+            ? projectRepository.findSummariesByProjectManagerId(pmId)
+            : projectRepository.findSummariesByProjectManagerEmail(email);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProjectSummaryDTO> getProjectSummariesByProjectManagerEmployeeId(String employeeId) {
+        log.debug("Fetching project summaries for project manager with employee ID: {}", employeeId);
+
+        Long pmId = projectManagerRegistry.findIdByEmployeeId(employeeId);
+        return pmId != null
+            ? projectRepository.findSummariesByProjectManagerId(pmId)
+            : projectRepository.findSummariesByProjectManagerEmployeeId(employeeId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProjectSummaryDTO> getProjectSummariesByProjectManagerIdAndStatus(Long pmId, ProjectStatus status) {
+        log.debug("Fetching project summaries for project manager ID: {} with status: {}", pmId, status);
+
+        List<ProjectSummaryDTO> summaries = projectRepository.findSummariesByProjectManagerIdAndStatus(pmId, status);
+        requireProjectManagerIfEmpty(pmId, summaries.isEmpty());
+        return summaries;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProjectSummaryDTO> getProjectSummariesByProjectManagerIdAndDateRange(Long pmId, LocalDate startDate,
+                                                                                   LocalDate endDate) {
+        log.debug("Fetching project summaries for project manager ID: {} between {} and {}", pmId, startDate, endDate);
+
+        List<ProjectSummaryDTO> summaries =
+            projectRepository.findSummariesByProjectManagerIdAndDateRange(pmId, startDate, endDate);
+        requireProjectManagerIfEmpty(pmId, summaries.isEmpty());
+        return summaries;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProjectSummaryDTO> getAllActiveProjectSummaries() {
+        log.debug("Fetching summaries of all active projects");
+
+        return projectRepository.findActiveSummaries();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProjectSummaryDTO> getProjectSummariesWithFilters(Long pmId, ProjectStatus status, String clientName) {
+        log.debug("Fetching project summaries with filters - PM ID: {}, Status: {}, Client: {}", pmId, status, clientName);
+
+        return projectRepository.findSummariesWithFilters(pmId, status, clientName);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ProjectDTO> searchProjects(String query, Pageable pageable) {
+        log.debug("Searching projects for: {}", query);
+
+        if (query == null || query.isBlank()) {
+            throw new InvalidRequestException("Search query must not be blank");
+        }
+        if (pageable.getPageSize() > MAX_CURSOR_PAGE_SIZE) {
+            throw new InvalidRequestException("Page size must not exceed " + MAX_CURSOR_PAGE_SIZE);
+        }
+
+        // Ranking happens in the index, which orders only the matches up to the end of the page;
+        // only the requested page is read from the database
+        int limit = (int) Math.min(Integer.MAX_VALUE, pageable.getOffset() + pageable.getPageSize());
+        ProjectSearchIndex.SearchResult result = projectSearchIndex.search(query, limit);
+        List<Long> rankedIds = result.ids();
+        int from = (int) Math.min(pageable.getOffset(), rankedIds.size());
+        List<Long> pageIds = rankedIds.subList(from, rankedIds.size());
+
+        Map<Long, Project> projects = new HashMap<>();
+        if (!pageIds.isEmpty()) {
+            projectRepository.findWithProjectManagersByIdIn(pageIds).forEach(p -> projects.put(p.getId(), p));
+        }
+        List<ProjectDTO> content = pageIds.stream()
+            .map(projects::get)
+            .filter(Objects::nonNull)
+            .map(projectMapper::toProjectDTO)
+            .toList();
+
+        log.debug("Found {} projects matching: {}", result.total(), query);
+        return new PageImpl<>(content, pageable, result.total());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public PortfolioStatsDTO getPortfolioStats() {
+        log.debug("Fetching portfolio stats");
+        return projectStatsRollups.getPortfolioStats();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public ProjectStatsDTO getProjectManagerStats(Long pmId) {
+        log.debug("Fetching stats for project manager ID: {}", pmId);
+
+        ProjectStatsDTO stats = projectStatsRollups.getProjectManagerStats(pmId);
+        if (stats != null) {
+            return stats;
+        }
+        requireProjectManagerIfEmpty(pmId, true);
+        return new ProjectStatsDTO(0, BigDecimal.ZERO, BigDecimal.ZERO, null);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PortfolioStatsDTO rebuildPortfolioStats() {
+        log.debug("Rebuilding portfolio stats");
+
+        projectStatsRollups.rebuild();
+        return projectStatsRollups.getPortfolioStats();
+    }
+
     @Override
     public ProjectDTO createProject(ProjectDTO projectDTO) {
-        log.info("Creating new project: {}", projectDTO.getName());
+        log.debug("Creating new project: {}", projectDTO.getName());
 
         Project project = projectMapper.toProject(projectDTO);
         Project savedProject = projectRepository.save(project);
 
-        log.info("Created project with ID: {}", savedProject.getId());
+        eventPublisher.publishEvent(
+            ProjectChangedEvent.of(ChangeType.CREATED, savedProject.getId(), savedProject.getProjectCode()));
+
+        log.debug("Created project with ID: {}", savedProject.getId());
         return projectMapper.toProjectDTO(savedProject);
     }
 
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkProjectResultDTO createProjects(Iterator<ProjectDTO> projects) {
+        log.debug("Creating projects in bulk with batch size: {}", bulkProperties.batchSize());
+
+        List<BulkProjectItemResultDTO> results = processInBatches(projects, this::validateForInsert, this::insertBatch);
+        int created = count(results, Outcome.CREATED);
+        log.debug("Bulk create finished: {} received, {} created", results.size(), created);
+
+        return new BulkProjectResultDTO(results.size(), created, 0, results.size() - created, results);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkProjectResultDTO updateProjects(Iterator<ProjectDTO> projects) {
+        log.debug("Updating projects in bulk with batch size: {}", bulkProperties.batchSize());
+
+        List<BulkProjectItemResultDTO> results = processInBatches(projects, this::validateForUpdate, this::updateBatch);
+        int updated = count(results, Outcome.UPDATED);
+        log.debug("Bulk update finished: {} received, {} updated", results.size(), updated);
+
+        return new BulkProjectResultDTO(results.size(), 0, updated, results.size() - updated, results);
+    }
+
     @Override
     public ProjectDTO updateProject(Long projectId, ProjectDTO projectDTO) {
-        log.info("Updating project with ID: {}", projectId);
+        return updateProject(projectId, projectDTO, null);
+    }
+
+    @Override
+    public ProjectDTO updateProject(Long projectId, ProjectDTO projectDTO, Long expectedVersion) {
+        log.debug("Updating project with ID: {}", projectId);
 
         Project existingProject = projectRepository.findById(projectId)
             .orElseThrow(() -> new ResourceNotFoundException("Project not found with ID: " + projectId));
+        requireVersion(projectId, existingProject.getVersion(), expectedVersion);
 
         // Update fields
         existingProject.setName(projectDTO.getName());
@@ -186,13 +618,47 @@ public class ProjectServiceImpl implements ProjectService {
         existingProject.setActualCost(projectDTO.getActualCost());
         existingProject.setCompletionPercentage(projectDTO.getCompletionPercentage());
 
-        Project updatedProject = projectRepository.save(existingProject);
+        Project updatedProject = projectRepository.saveAndFlush(existingProject);
+        eventPublisher.publishEvent(
+            ProjectChangedEvent.of(ChangeType.UPDATED, projectId, updatedProject.getProjectCode()));
         return projectMapper.toProjectDTO(updatedProject);
     }
 
+    @Override
+    public ProjectDTO patchProject(Long projectId, Map<String, Object> changes, Long expectedVersion) {
+        log.debug("Patching fields {} of project with ID: {}", changes.keySet(), projectId);
+
+        Map<String, Object> values = toPatchValues(changes);
+
+        // Targeted UPDATE of the supplied columns; the version check is part of the statement
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Project> update = cb.createCriteriaUpdate(Project.class);
+        Root<Project> project = update.from(Project.class);
+        values.forEach((field, value) -> update.set(project.get(field), value));
+        update.set(project.<LocalDateTime>get("updatedAt"), LocalDateTime.now());
+        update.set(project.<Long>get("version"), cb.sum(project.<Long>get("version"), 1L));
+        update.where(expectedVersion == null
+            ? cb.equal(project.get("id"), projectId)
+            : cb.and(cb.equal(project.get("id"), projectId), cb.equal(project.get("version"), expectedVersion)));
+
+        if (entityManager.createQuery(update).executeUpdate() == 0) {
+            Long currentVersion = projectRepository.findVersionById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found with ID: " + projectId));
+            requireVersion(projectId, currentVersion, expectedVersion);
+        }
+
+        Project patchedProject = projectRepository.findWithProjectManagersById(projectId)
+            .orElseThrow(() -> new ResourceNotFoundException("Project not found with ID: " + projectId));
+        eventPublisher.publishEvent(
+            ProjectChangedEvent.of(ChangeType.UPDATED, projectId, patchedProject.getProjectCode()));
+
+        log.debug("Patched project with ID: {} to version {}", projectId, patchedProject.getVersion());
+        return projectMapper.toProjectDTO(patchedProject);
+    }
+
     @Override
     public void deleteProject(Long projectId) {
-        log.info("Deleting project with ID: {}", projectId);
+        log.debug("Deleting project with ID: {}", projectId);
 
         Project project = projectRepository.findById(projectId)
             .orElseThrow(() -> new ResourceNotFoundException("Project not found with ID: " + projectId));
@@ -200,39 +666,472 @@ public class ProjectServiceImpl implements ProjectService {
         // Soft delete
         project.setIsActive(false);
         projectRepository.save(project);
+        eventPublisher.publishEvent(ProjectChangedEvent.of(ChangeType.DELETED, projectId, project.getProjectCode()));
 
-        log.info("Project with ID: {} has been soft deleted", projectId);
+        log.debug("Project with ID: {} has been soft deleted", projectId);
     }
 
     @Override
     public void assignProjectManagerToProject(Long projectId, Long pmId) {
-        log.info("Assigning project manager ID: {} to project ID: {}", pmId, projectId);
+        log.debug("Assigning project manager ID: {} to project ID: {}", pmId, projectId);
 
-        Project project = projectRepository.findById(projectId)
-            .orElseThrow(() -> new ResourceNotFoundException("Project not found with ID: " + projectId));
+        changeAssignments(List.of(projectId), List.of(pmId), true);
 
-        ProjectManager pm = projectManagerRepository.findById(pmId)
-            .orElseThrow(() -> new ResourceNotFoundException("Project Manager not found with ID: " + pmId));
+        log.debug("Successfully assigned PM ID: {} to project ID: {}", pmId, projectId);
+    }
 
-        project.addProjectManager(pm);
-        projectRepository.save(project);
+    @Override
+    public void removeProjectManagerFromProject(Long projectId, Long pmId) {
+        log.debug("Removing project manager ID: {} from project ID: {}", pmId, projectId);
 
-        log.info("Successfully assigned PM ID: {} to project ID: {}", pmId, projectId);
+        changeAssignments(List.of(projectId), List.of(pmId), false);
+
+        log.debug("Successfully removed PM ID: {} from project ID: {}", pmId, projectId);
     }
 
     @Override
-    public void removeProjectManagerFromProject(Long projectId, Long pmId) {
-        log.info("Removing project manager ID: {} from project ID: {}", pmId, projectId);
+    public ProjectAssignmentResultDTO assignProjectManagers(ProjectAssignmentRequestDTO request) {
+        log.debug("Assigning project managers {} to projects {}", request.getPmIds(), request.getProjectIds());
 
-        Project project = projectRepository.findById(projectId)
-            .orElseThrow(() -> new ResourceNotFoundException("Project not found with ID: " + projectId));
+        ProjectAssignmentResultDTO result = changeAssignments(request.getProjectIds(), request.getPmIds(), true);
 
-        ProjectManager pm = projectManagerRepository.findById(pmId)
-            .orElseThrow(() -> new ResourceNotFoundException("Project Manager not found with ID: " + pmId));
+        log.debug("Assigned {} of {} requested project manager pairs", result.getChanged(), result.getRequested());
+        return result;
+    }
 
-        project.removeProjectManager(pm);
-        projectRepository.save(project);
+    @Override
+    public ProjectAssignmentResultDTO removeProjectManagers(ProjectAssignmentRequestDTO request) {
+        log.debug("Removing project managers {} from projects {}", request.getPmIds(), request.getProjectIds());
+
+        ProjectAssignmentResultDTO result = changeAssignments(request.getProjectIds(), request.getPmIds(), false);
+
+        log.debug("Removed {} of {} requested project manager pairs", result.getChanged(), result.getRequested());
+        return result;
+    }
+
+    /**
+     * Assigns or removes every project × manager pair by writing the join table directly.
+     * Going through {@code Project.addProjectManager} would initialize the manager's whole
+     * project collection; here the work is a handful of statements plus one row per changed
+     * pair. Pairs already in the requested state, including ones a concurrent request changed
+     * first, are left alone and reported as unchanged, so repeating a call is harmless.
+     */
+    private ProjectAssignmentResultDTO changeAssignments(Collection<Long> requestedProjectIds,
+                                                         Collection<Long> requestedPmIds, boolean assign) {
+        Set<Long> projectIds = requireIds(requestedProjectIds, "projectIds");
+        Set<Long> pmIds = requireIds(requestedPmIds, "pmIds");
+        long requested = (long) projectIds.size() * pmIds.size();
+        if (requested > bulkProperties.maxItems()) {
+            throw new InvalidRequestException("Assignment requests are limited to " + bulkProperties.maxItems() +
+                " project manager pairs, got " + requested);
+        }
+
+        Map<Long, String> projectCodes = new HashMap<>();
+        for (Object[] row : projectRepository.findProjectCodesByIds(projectIds)) {
+            projectCodes.put((Long) row[0], (String) row[1]);
+        }
+        requireAllFound("Project", projectIds, projectCodes.keySet());
+        requireAllFound("Project Manager", pmIds, new HashSet<>(projectManagerRepository.findExistingIds(pmIds)));
+
+        Set<Assignment> existing = projectBulkRepository.findAssignments(projectIds, pmIds);
+        List<Assignment> changes = new ArrayList<>();
+        for (Long projectId : projectIds) {
+            for (Long pmId : pmIds) {
+                Assignment assignment = new Assignment(projectId, pmId);
+                if (existing.contains(assignment) != assign) {
+                    changes.add(assignment);
+                }
+            }
+        }
+
+        List<Assignment> changed = List.of();
+        if (!changes.isEmpty()) {
+            changed = assign
+                ? projectBulkRepository.insertAssignments(changes)
+                : projectBulkRepository.deleteAssignments(changes);
+        }
+        if (!changed.isEmpty()) {
+            projectBulkRepository.incrementVersions(changed.stream().map(Assignment::projectId).distinct().toList());
+        }
+
+        // One event per distinct set of changed managers, normally a single event for the whole request
+        Map<Long, Set<Long>> pmIdsByProject = new LinkedHashMap<>();
+        for (Assignment change : changed) {
+            pmIdsByProject.computeIfAbsent(change.projectId(), id -> new LinkedHashSet<>()).add(change.pmId());
+        }
+        Map<Set<Long>, List<ChangedProject>> projectsByPmIds = new LinkedHashMap<>();
+        pmIdsByProject.forEach((projectId, changedPmIds) -> projectsByPmIds
+            .computeIfAbsent(changedPmIds, ids -> new ArrayList<>())
+            .add(new ChangedProject(projectId, projectCodes.get(projectId))));
+        ChangeType changeType = assign ? ChangeType.MANAGER_ASSIGNED : ChangeType.MANAGER_REMOVED;
+        projectsByPmIds.forEach((changedPmIds, changedProjects) ->
+            eventPublisher.publishEvent(new ProjectChangedEvent(changeType, changedProjects, changedPmIds)));
+        return new ProjectAssignmentResultDTO((int) requested, changed.size(), (int) requested - changed.size());
+    }
+
+    private static <T> Set<T> identifiers(Collection<T> values, String name) {
+        if (values == null) {
+            return Set.of();
+        }
+        if (values.stream().anyMatch(Objects::isNull)) {
+            throw new InvalidRequestException(name + " must not contain null values");
+        }
+        return new LinkedHashSet<>(values);
+    }
+
+    // Adds the managers found for the given identifiers to resolved; returns the identifiers not found
+    private static <T> List<T> resolve(Set<T> identifiers, Function<T, T> key, Map<T, ProjectManager> found,
+                                       Map<Long, ProjectManager> resolved) {
+        List<T> missing = new ArrayList<>();
+        for (T identifier : identifiers) {
+            ProjectManager pm = found.get(key.apply(identifier));
+            if (pm != null) {
+                resolved.putIfAbsent(pm.getId(), pm);
+            } else {
+                missing.add(identifier);
+            }
+        }
+        return missing;
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> normalize(Set<String> values) {
+        Set<String> normalized = new HashSet<>();
+        values.forEach(value -> normalized.add(normalize(value)));
+        return normalized;
+    }
+
+    private static Set<Long> requireIds(Collection<Long> ids, String name) {
+        if (ids == null || ids.isEmpty() || ids.stream().anyMatch(Objects::isNull)) {
+            throw new InvalidRequestException(name + " must be a non-empty list of IDs");
+        }
+        return new LinkedHashSet<>(ids);
+    }
+
+    private static void requireAllFound(String resource, Set<Long> requested, Set<Long> found) {
+        List<Long> missing = requested.stream().filter(id -> !found.contains(id)).toList();
+        if (missing.size() == 1) {
+            throw new ResourceNotFoundException(resource + " not found with ID: " + missing.get(0));
+        }
+        if (!missing.isEmpty()) {
+            throw new ResourceNotFoundException(resource + "s not found with IDs: " + missing);
+        }
+    }
+
+    private static void requireVersion(Long projectId, Long currentVersion, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(currentVersion)) {
+            throw new PreconditionFailedException("Project with ID: " + projectId + " is at version " +
+                currentVersion + ", not " + expectedVersion);
+        }
+    }
+
+    /**
+     * Converts and validates patch values against the entity's constraints. Only plain project
+     * attributes can be patched; the code, timestamps, version and managers cannot.
+     */
+    private Map<String, Object> toPatchValues(Map<String, Object> changes) {
+        if (changes == null || changes.isEmpty()) {
+            throw new InvalidRequestException("Patch must contain at least one field");
+        }
+
+        Map<String, Object> values = new LinkedHashMap<>();
+        Map<String, String> errors = new LinkedHashMap<>();
+        changes.forEach((field, raw) -> {
+            Class<?> type = PATCHABLE_FIELDS.get(field);
+            if (type == null) {
+                errors.put(field, "Field cannot be patched");
+                return;
+            }
+            Object value;
+            try {
+                value = objectMapper.convertValue(raw, type);
+            } catch (IllegalArgumentException e) {
+                errors.put(field, "Invalid value: " + raw);
+                return;
+            }
+            validator.validateValue(Project.class, field, value)
+                .forEach(violation -> errors.putIfAbsent(field, violation.getMessage()));
+            if (value == null && field.equals("status")) {
+                errors.putIfAbsent(field, "Project status is required");
+            }
+            values.put(field, value);
+        });
+
+        if (!errors.isEmpty()) {
+            throw new InvalidRequestException("Invalid patch: " + errors);
+        }
+        return values;
+    }
+
+    /**
+     * Reads the bulk items one at a time, rejects the ones that fail validation or repeat an
+     * earlier code of the request, and hands the rest to {@code writeBatch} in batches of the
+     * configured size. Returns one result per item read, in request order.
+     */
+    private List<BulkProjectItemResultDTO> processInBatches(
+            Iterator<ProjectDTO> projects, Function<Project, Map<String, String>> validate,
+            Function<List<BulkItem>, List<BulkProjectItemResultDTO>> writeBatch) {
+        List<BulkProjectItemResultDTO> results = new ArrayList<>();
+        List<BulkItem> batch = new ArrayList<>(bulkProperties.batchSize());
+        Set<String> requestCodes = new HashSet<>();
+        int index = 0;
+
+        while (projects.hasNext()) {
+            if (index == bulkProperties.maxItems()) {
+                // The rest of the body is not read; one result stands for every item past the limit
+                results.add(rejected(index, null, Outcome.INVALID, "Bulk requests are limited to " +
+                    bulkProperties.maxItems() + " projects; this and any later items were not read"));
+                break;
+            }
+            int itemIndex = index++;
+            ProjectDTO projectDTO;
+            try {
+                projectDTO = projects.next();
+            } catch (InvalidRequestException e) {
+                results.add(rejected(itemIndex, null, Outcome.INVALID, e.getMessage()));
+                continue;
+            }
+
+            Project project = projectMapper.toProject(projectDTO);
+            project.setId(null);
+            Map<String, String> errors = validate.apply(project);
+            if (!errors.isEmpty()) {
+                BulkProjectItemResultDTO result = rejected(itemIndex, project.getProjectCode(), Outcome.INVALID,
+                    "Validation failed");
+                result.setValidationErrors(errors);
+                results.add(result);
+                continue;
+            }
+            if (!requestCodes.add(project.getProjectCode())) {
+                results.add(rejected(itemIndex, project.getProjectCode(), Outcome.DUPLICATE,
+                    "Project code appears earlier in this request: " + project.getProjectCode()));
+                continue;
+            }
+
+            batch.add(new BulkItem(itemIndex, project));
+            if (batch.size() == bulkProperties.batchSize()) {
+                results.addAll(writeBatch.apply(batch));
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            results.addAll(writeBatch.apply(batch));
+        }
+
+        results.sort(Comparator.comparingInt(BulkProjectItemResultDTO::getIndex));
+        return results;
+    }
+
+    private static int count(List<BulkProjectItemResultDTO> results, Outcome outcome) {
+        return (int) results.stream().filter(result -> result.getOutcome() == outcome).count();
+    }
+
+    /**
+     * Inserts one batch in its own transaction. Codes already taken are filtered out with a
+     * single query up front; if the batch still fails (e.g. a concurrent insert claimed a
+     * code), its rows are retried one by one so only the offending rows are rejected.
+     */
+    private List<BulkProjectItemResultDTO> insertBatch(List<BulkItem> batch) {
+        Set<String> existingCodes = new HashSet<>(projectRepository.findExistingProjectCodes(
+            batch.stream().map(item -> item.project().getProjectCode()).toList()));
+
+        List<BulkProjectItemResultDTO> results = new ArrayList<>(batch.size());
+        List<BulkItem> pending = new ArrayList<>(batch.size());
+        for (BulkItem item : batch) {
+            if (existingCodes.contains(item.project().getProjectCode())) {
+                results.add(duplicateCode(item));
+            } else {
+                pending.add(item);
+            }
+        }
+        if (pending.isEmpty()) {
+            return results;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(tx -> insertAndPublish(pending));
+            pending.forEach(item -> results.add(created(item)));
+        } catch (DataAccessException e) {
+            log.warn("Bulk insert of {} projects failed, retrying individually: {}", pending.size(), e.getMessage());
+            for (BulkItem item : pending) {
+                try {
+                    transactionTemplate.executeWithoutResult(tx -> insertAndPublish(List.of(item)));
+                    results.add(created(item));
+                } catch (DuplicateKeyException duplicate) {
+                    results.add(duplicateCode(item));
+                } catch (DataAccessException failure) {
+                    results.add(rejected(item.index(), item.project().getProjectCode(), Outcome.FAILED,
+                        failure.getMostSpecificCause().getMessage()));
+                }
+            }
+        }
+        return results;
+    }
+
+    private void insertAndPublish(List<BulkItem> items) {
+        List<Project> projects = items.stream().map(BulkItem::project).toList();
+        projectBulkRepository.insertAll(projects);
+        // One event for the batch, so listeners and the outbox handle it in a few statements
+        eventPublisher.publishEvent(new ProjectChangedEvent(ChangeType.CREATED,
+            projects.stream().map(project -> new ChangedProject(project.getId(), project.getProjectCode())).toList(),
+            Set.of()));
+    }
+
+    /**
+     * Updates one batch in its own transaction, matching its items to active projects by code
+     * with a single query. If the batch fails (e.g. one of its projects was changed concurrently),
+     * its items are retried one by one so only the offending ones are rejected.
+     */
+    private List<BulkProjectItemResultDTO> updateBatch(List<BulkItem> batch) {
+        try {
+            return transactionTemplate.execute(tx -> updateAndPublish(batch));
+        } catch (DataAccessException e) {
+            log.warn("Bulk update of {} projects failed, retrying individually: {}", batch.size(), e.getMessage());
+            List<BulkProjectItemResultDTO> results = new ArrayList<>(batch.size());
+            for (BulkItem item : batch) {
+                try {
+                    results.addAll(transactionTemplate.execute(tx -> updateAndPublish(List.of(item))));
+                } catch (DataAccessException failure) {
+                    results.add(rejected(item.index(), item.project().getProjectCode(), Outcome.FAILED,
+                        failure.getMostSpecificCause().getMessage()));
+                }
+            }
+            return results;
+        }
+    }
+
+    /**
+     * Copies the fields a single update replaces onto the matching projects; the changes are
+     * flushed as one batch of versioned UPDATEs when the transaction commits.
+     */
+    private List<BulkProjectItemResultDTO> updateAndPublish(List<BulkItem> items) {
+        Map<String, Project> existingProjects = new HashMap<>();
+        for (Project project : projectRepository.findByProjectCodeInAndIsActiveTrue(
+                items.stream().map(item -> item.project().getProjectCode()).toList())) {
+            existingProjects.put(project.getProjectCode(), project);
+        }
+
+        List<BulkProjectItemResultDTO> results = new ArrayList<>(items.size());
+        List<ChangedProject> changed = new ArrayList<>(items.size());
+        for (BulkItem item : items) {
+            Project source = item.project();
+            Project existingProject = existingProjects.get(source.getProjectCode());
+            if (existingProject == null) {
+                results.add(rejected(item.index(), source.getProjectCode(), Outcome.NOT_FOUND,
+                    "Project not found with code: " + source.getProjectCode()));
+                continue;
+            }
+            existingProject.setName(source.getName());
+            existingProject.setDescription(source.getDescription());
+            existingProject.setStatus(source.getStatus());
+            existingProject.setPriority(source.getPriority());
+            existingProject.setEndDate(source.getEndDate());
+            existingProject.setBudget(source.getBudget());
+            existingProject.setActualCost(source.getActualCost());
+            existingProject.setCompletionPercentage(source.getCompletionPercentage());
+            results.add(new BulkProjectItemResultDTO(item.index(), source.getProjectCode(), Outcome.UPDATED,
+                existingProject.getId(), null, null));
+            changed.add(new ChangedProject(existingProject.getId(), existingProject.getProjectCode()));
+        }
+        if (!changed.isEmpty()) {
+            eventPublisher.publishEvent(new ProjectChangedEvent(ChangeType.UPDATED, changed, Set.of()));
+        }
+        return results;
+    }
+
+    /**
+     * Runs the entity's bean validation plus the column constraints the bulk insert would
+     * otherwise only discover in the database.
+     */
+    private Map<String, String> validateForInsert(Project project) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        for (ConstraintViolation<Project> violation : validator.validate(project)) {
+            errors.putIfAbsent(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        if (project.getStatus() == null) {
+            errors.put("status", "Project status is required");
+        }
+        if (project.getProjectCode() != null && project.getProjectCode().length() > MAX_PROJECT_CODE_LENGTH) {
+            errors.put("projectCode", "Project code must be at most " + MAX_PROJECT_CODE_LENGTH + " characters");
+        }
+        return errors;
+    }
+
+    /**
+     * Checks the fields a bulk update matches on or writes that the database would reject.
+     */
+    private Map<String, String> validateForUpdate(Project project) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        for (String property : List.of("projectCode", "name")) {
+            for (ConstraintViolation<Project> violation : validator.validateProperty(project, property)) {
+                errors.putIfAbsent(property, violation.getMessage());
+            }
+        }
+        if (project.getStatus() == null) {
+            errors.put("status", "Project status is required");
+        }
+        return errors;
+    }
+
+    private static BulkProjectItemResultDTO created(BulkItem item) {
+        return new BulkProjectItemResultDTO(item.index(), item.project().getProjectCode(), Outcome.CREATED,
+            item.project().getId(), null, null);
+    }
+
+    private static BulkProjectItemResultDTO duplicateCode(BulkItem item) {
+        return rejected(item.index(), item.project().getProjectCode(), Outcome.DUPLICATE,
+            "Project already exists with code: " + item.project().getProjectCode());
+    }
+
+    private static BulkProjectItemResultDTO rejected(int index, String projectCode, Outcome outcome, String message) {
+        return new BulkProjectItemResultDTO(index, projectCode, outcome, null, message, null);
+    }
+
+    private record BulkItem(int index, Project project) {
+    }
+
+    /**
+     * PM-scoped queries return nothing for an unknown PM, so existence only needs checking
+     * when a query came back empty; the common case costs a single statement.
+     */
+    private void requireProjectManagerIfEmpty(Long pmId, boolean empty) {
+        if (empty) {
+            requireProjectManager(pmId);
+        }
+    }
+
+    private void requireProjectManager(Long pmId) {
+        if (projectManagerRegistry.findById(pmId) == null && !projectManagerRepository.existsById(pmId)) {
+            throw new ResourceNotFoundException("Project Manager not found with ID: " + pmId);
+        }
+    }
+
+    /**
+     * Loads one keyset page. One extra row is requested to learn whether another page exists,
+     * so no count query is needed unless {@code totalQuery} is given.
+     */
+    private CursorPageDTO<ProjectDTO> toCursorPage(String cursor, int size,
+                                                   Function<Limit, List<Project>> firstPageQuery,
+                                                   BiFunction<ProjectCursor, Limit, List<Project>> nextPageQuery,
+                                                   Supplier<? extends Number> totalQuery) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new InvalidRequestException("Page size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        }
+
+        Limit limit = Limit.of(size + 1);
+        List<Project> projects = (cursor == null || cursor.isBlank())
+            ? firstPageQuery.apply(limit)
+            : nextPageQuery.apply(ProjectCursor.decode(cursor), limit);
+
+        boolean hasNext = projects.size() > size;
+        List<Project> pageContent = hasNext ? projects.subList(0, size) : projects;
+        String nextCursor = hasNext ? ProjectCursor.of(pageContent.get(size - 1)).encode() : null;
+        Long total = totalQuery != null ? totalQuery.get().longValue() : null;
 
-        log.info("Successfully removed PM ID: {} from project ID: {}", pmId, projectId);
+        return new CursorPageDTO<>(projectMapper.toProjectDTOList(pageContent), pageContent.size(),
+                                   hasNext, nextCursor, total);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,100 @@
+package com.projectmanagement.service.impl;
+
+import com.projectmanagement.config.ProjectReactiveProperties;
+import com.projectmanagement.dto.CursorPageDTO;
+import com.projectmanagement.dto.ProjectDTO;
+import com.projectmanagement.entity.ProjectStatus;
+import com.projectmanagement.service.ProjectService;
+import com.projectmanagement.service.ReactiveProjectService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+
+@Service
+@RequiredArgsConstructor
+public class ReactiveProjectServiceImpl implements ReactiveProjectService {
+
+    private final ProjectService projectService;
+    private final Scheduler projectReadScheduler;
+    private final ProjectReactiveProperties properties;
+
+    @Override
+    public Flux<ProjectDTO> getProjectsByProjectManagerId(Long pmId) {
+        return pages(cursor -> projectService.getProjectsByProjectManagerIdAfter(pmId, cursor, properties.pageSize(), false));
+    }
+
+    @Override
+    public Flux<ProjectDTO> getProjectsByProjectManagerEmail(String email) {
+        return list(() -> projectService.getProjectsByProjectManagerEmail(email));
+    }
+
+    @Override
+    public Flux<ProjectDTO> getProjectsByProjectManagerEmployeeId(String employeeId) {
+        return list(() -> projectService.getProjectsByProjectManagerEmployeeId(employeeId));
+    }
+
+    @Override
+    public Flux<ProjectDTO> getProjectsByProjectManagerIdAndStatus(Long pmId, ProjectStatus status) {
+        return list(() -> projectService.getProjectsByProjectManagerIdAndStatus(pmId, status));
+    }
+
+    @Override
+    public Flux<ProjectDTO> getProjectsByProjectManagerIdAndDateRange(Long pmId, LocalDate startDate,
+                                                                      LocalDate endDate) {
+        return list(() -> projectService.getProjectsByProjectManagerIdAndDateRange(pmId, startDate, endDate));
+    }
+
+    @Override
+    public Mono<Long> countProjectsByProjectManagerId(Long pmId) {
+        return read(() -> projectService.countProjectsByProjectManagerId(pmId));
+    }
+
+    @Override
+    public Mono<ProjectDTO> getProjectById(Long projectId) {
+        return read(() -> projectService.getProjectById(projectId));
+    }
+
+    @Override
+    public Mono<ProjectDTO> getProjectByCode(String projectCode) {
+        return read(() -> projectService.getProjectByCode(projectCode));
+    }
+
+    @Override
+    public Flux<ProjectDTO> getAllActiveProjects() {
+        return pages(cursor -> projectService.getActiveProjectsAfter(cursor, properties.pageSize(), false));
+    }
+
+    @Override
+    public Flux<ProjectDTO> getProjectsWithFilters(Long pmId, ProjectStatus status, String clientName) {
+        return list(() -> projectService.getProjectsWithFilters(pmId, status, clientName));
+    }
+
+    private <T> Mono<T> read(Callable<T> blockingRead) {
+        return Mono.fromCallable(blockingRead).subscribeOn(projectReadScheduler);
+    }
+
+    private <T> Flux<T> list(Callable<List<T>> blockingRead) {
+        return read(blockingRead).flatMapIterable(Function.identity());
+    }
+
+    // Each page is only queried once the subscriber has consumed the previous one: the next page's
+    // read is deferred until the current page's items have all been emitted
+    private Flux<ProjectDTO> pages(Function<String, CursorPageDTO<ProjectDTO>> pageAfter) {
+        return pageFrom(null, pageAfter);
+    }
+
+    private Flux<ProjectDTO> pageFrom(String cursor, Function<String, CursorPageDTO<ProjectDTO>> pageAfter) {
+        return read(() -> pageAfter.apply(cursor))
+            .flatMapMany(page -> Flux.fromIterable(page.getContent())
+                .concatWith(page.getNextCursor() != null
+                    ? Flux.defer(() -> pageFrom(page.getNextCursor(), pageAfter))
+                    : Flux.empty()));
+    }
+}
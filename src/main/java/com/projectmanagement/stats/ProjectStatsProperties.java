@@ -0,0 +1,18 @@
+package com.projectmanagement.stats;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * In-memory portfolio stats.
+ *
+ * @param rebuildInterval how often the rollups are recomputed from the database, bounding how long
+ *                        project manager changes made on other replicas (or outside the application)
+ *                        stay invisible in the department totals
+ */
+@ConfigurationProperties(prefix = "project.stats")
+public record ProjectStatsProperties(
+        @DefaultValue("15m") Duration rebuildInterval) {
+}
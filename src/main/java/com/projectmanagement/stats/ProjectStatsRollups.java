@@ -0,0 +1,274 @@
+package com.projectmanagement.stats;
+
+import com.projectmanagement.dto.PortfolioStatsDTO;
+import com.projectmanagement.dto.ProjectStatsDTO;
+import com.projectmanagement.entity.ProjectStatus;
+import com.projectmanagement.event.IncrementalRefresher;
+import com.projectmanagement.event.ProjectChangedEvent;
+import com.projectmanagement.event.ProjectManagerChangedEvent;
+import com.projectmanagement.event.RemoteProjectChangedEvent;
+import com.projectmanagement.repository.ProjectRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Portfolio rollups (totals per status, client, department and project manager) kept in memory.
+ *
+ * <p>Each active project's last seen contribution is remembered, so a {@link ProjectChangedEvent}
+ * (or a {@link RemoteProjectChangedEvent} for writes on other replicas) reloads the changed
+ * projects and applies the difference, instead of re-aggregating the table. A
+ * {@link ProjectManagerChangedEvent} reloads the projects of that manager, whose department may
+ * have changed. {@link #rebuild()} recomputes everything from the database to repair drift, and runs
+ * every {@code project.stats.rebuild-interval} to pick up manager changes made on other replicas.
+ */
+@Component
+@Slf4j
+public class ProjectStatsRollups {
+
+    private final ProjectRepository projectRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ProjectStatsProperties properties;
+
+    private final IncrementalRefresher refresher = new IncrementalRefresher();
+    // Guarded by the refresher's lock
+    private Rollups rollups = new Rollups();
+    private ScheduledExecutorService rebuilder;
+
+    public ProjectStatsRollups(ProjectRepository projectRepository, TransactionTemplate transactionTemplate,
+                               ProjectStatsProperties properties) {
+        this.projectRepository = projectRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransaction.setReadOnly(true);
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+        long interval = properties.rebuildInterval().toMillis();
+        rebuilder = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "project-stats");
+            thread.setDaemon(true);
+            return thread;
+        });
+        rebuilder.scheduleWithFixedDelay(this::rebuildQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (rebuilder != null) {
+            rebuilder.shutdownNow();
+        }
+    }
+
+    /**
+     * Recomputes every rollup from the database. Reads keep seeing the previous rollups until
+     * the new ones are complete. A rebuild requested while another runs waits for it, then scans
+     * again.
+     */
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        Rollups rebuilt = refresher.rebuild(this::scan, scanned -> rollups = scanned, this::reload);
+        log.info("Rebuilt portfolio stats for {} projects in {} ms",
+                 rebuilt.snapshots.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        refresh(event.projectIds());
+    }
+
+    @EventListener
+    public void onRemoteProjectChanged(RemoteProjectChangedEvent event) {
+        refresh(event.change().projectIds());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectManagerChanged(ProjectManagerChangedEvent event) {
+        refresher.withLock(() -> {
+            List<Long> projectIds = rollups.snapshots.values().stream()
+                .filter(snapshot -> snapshot.managers().containsKey(event.projectManagerId()))
+                .map(Snapshot::id)
+                .toList();
+            if (!projectIds.isEmpty()) {
+                refresh(projectIds);
+            }
+            return null;
+        });
+    }
+
+    public PortfolioStatsDTO getPortfolioStats() {
+        return refresher.withLock(() -> new PortfolioStatsDTO(
+            rollups.total.toDTO(),
+            toDTOs(rollups.byStatus, () -> new EnumMap<>(ProjectStatus.class)),
+            toDTOs(rollups.byClient, TreeMap::new),
+            toDTOs(rollups.byDepartment, TreeMap::new),
+            toDTOs(rollups.byProjectManager, TreeMap::new)));
+    }
+
+    /**
+     * Stats for one project manager, or null when no active project is assigned to them.
+     */
+    public ProjectStatsDTO getProjectManagerStats(Long pmId) {
+        return refresher.withLock(() -> {
+            Rollup rollup = rollups.byProjectManager.get(pmId);
+            return rollup != null ? rollup.toDTO() : null;
+        });
+    }
+
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("Could not rebuild the portfolio stats", e);
+        }
+    }
+
+    private void refresh(List<Long> projectIds) {
+        refresher.refresh(projectIds, this::reload);
+    }
+
+    private Rollups scan() {
+        Rollups scanned = new Rollups();
+        readOnlyTransaction.executeWithoutResult(tx -> {
+            Map<Long, Map<Long, String>> managers = new HashMap<>();
+            try (Stream<Object[]> rows = projectRepository.streamActiveProjectManagerDepartments()) {
+                rows.forEach(row -> managers.computeIfAbsent((Long) row[0], id -> new HashMap<>())
+                    .put((Long) row[1], (String) row[2]));
+            }
+            try (Stream<Object[]> rows = projectRepository.streamStatsFields()) {
+                rows.forEach(row -> scanned.add(toSnapshot(row, managers.getOrDefault((Long) row[0], Map.of()))));
+            }
+        });
+        return scanned;
+    }
+
+    // Runs under the refresher's lock, so the removed contribution is always the one that was added
+    private void reload(Collection<Long> projectIds) {
+        Map<Long, Object[]> fields = new LinkedHashMap<>();
+        Map<Long, Map<Long, String>> managers = new HashMap<>();
+        for (Object[] row : projectRepository.findStatsFieldsWithManagersByIds(projectIds)) {
+            Long projectId = (Long) row[0];
+            fields.putIfAbsent(projectId, row);
+            Map<Long, String> projectManagers = managers.computeIfAbsent(projectId, id -> new HashMap<>());
+            if (row[6] != null) {
+                projectManagers.put((Long) row[6], (String) row[7]);
+            }
+        }
+        projectIds.forEach(rollups::remove);
+        fields.forEach((projectId, row) -> rollups.add(toSnapshot(row, managers.get(projectId))));
+    }
+
+    private static Snapshot toSnapshot(Object[] row, Map<Long, String> managers) {
+        return new Snapshot((Long) row[0], (ProjectStatus) row[1], (String) row[2], (BigDecimal) row[3],
+                            (BigDecimal) row[4], (Integer) row[5], Collections.unmodifiableMap(managers));
+    }
+
+    private static <K> Map<K, ProjectStatsDTO> toDTOs(Map<K, Rollup> rollups,
+                                                      Supplier<Map<K, ProjectStatsDTO>> factory) {
+        Map<K, ProjectStatsDTO> result = factory.get();
+        rollups.forEach((key, rollup) -> result.put(key, rollup.toDTO()));
+        return result;
+    }
+
+    private record Snapshot(Long id, ProjectStatus status, String clientName, BigDecimal budget,
+                            BigDecimal actualCost, Integer completionPercentage, Map<Long, String> managers) {
+
+        Set<String> departments() {
+            Set<String> departments = new HashSet<>(managers.values());
+            departments.remove(null);
+            return departments;
+        }
+    }
+
+    private static final class Rollups {
+
+        private final Map<Long, Snapshot> snapshots = new HashMap<>();
+        private final Rollup total = new Rollup();
+        private final Map<ProjectStatus, Rollup> byStatus = new HashMap<>();
+        private final Map<String, Rollup> byClient = new HashMap<>();
+        private final Map<String, Rollup> byDepartment = new HashMap<>();
+        private final Map<Long, Rollup> byProjectManager = new HashMap<>();
+
+        void add(Snapshot snapshot) {
+            snapshots.put(snapshot.id(), snapshot);
+            apply(snapshot, 1);
+        }
+
+        void remove(Long projectId) {
+            Snapshot snapshot = snapshots.remove(projectId);
+            if (snapshot != null) {
+                apply(snapshot, -1);
+            }
+        }
+
+        private void apply(Snapshot snapshot, int sign) {
+            total.apply(snapshot, sign);
+            apply(byStatus, snapshot.status(), snapshot, sign);
+            apply(byClient, snapshot.clientName(), snapshot, sign);
+            snapshot.departments().forEach(department -> apply(byDepartment, department, snapshot, sign));
+            snapshot.managers().keySet().forEach(pmId -> apply(byProjectManager, pmId, snapshot, sign));
+        }
+
+        private static <K> void apply(Map<K, Rollup> rollups, K key, Snapshot snapshot, int sign) {
+            if (key == null) {
+                return;
+            }
+            Rollup rollup = rollups.computeIfAbsent(key, k -> new Rollup());
+            rollup.apply(snapshot, sign);
+            if (rollup.projectCount == 0) {
+                rollups.remove(key);
+            }
+        }
+    }
+
+    private static final class Rollup {
+
+        private long projectCount;
+        private BigDecimal totalBudget = BigDecimal.ZERO;
+        private BigDecimal totalActualCost = BigDecimal.ZERO;
+        private long completionSum;
+        private long completionCount;
+
+        void apply(Snapshot snapshot, int sign) {
+            projectCount += sign;
+            totalBudget = add(totalBudget, snapshot.budget(), sign);
+            totalActualCost = add(totalActualCost, snapshot.actualCost(), sign);
+            if (snapshot.completionPercentage() != null) {
+                completionSum += (long) sign * snapshot.completionPercentage();
+                completionCount += sign;
+            }
+        }
+
+        ProjectStatsDTO toDTO() {
+            Double averageCompletion = completionCount > 0 ? (double) completionSum / completionCount : null;
+            return new ProjectStatsDTO(projectCount, totalBudget, totalActualCost, averageCompletion);
+        }
+
+        private static BigDecimal add(BigDecimal total, BigDecimal value, int sign) {
+            return value == null ? total : sign > 0 ? total.add(value) : total.subtract(value);
+        }
+    }
+}
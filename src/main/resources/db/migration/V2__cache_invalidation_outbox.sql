@@ -0,0 +1,11 @@
+-- CACHE_INVALIDATION_OUTBOX: project changes polled by every replica to evict its caches
+CREATE TABLE cache_invalidation_outbox (
+    invalidation_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    change_type VARCHAR(32) NOT NULL,
+    project_id BIGINT,
+    project_code VARCHAR(20),
+    pm_id BIGINT,
+    created_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_cache_invalidation_created_at ON cache_invalidation_outbox(created_at);
@@ -0,0 +1,18 @@
+-- Composite indexes for the ProjectRepository query shapes. InnoDB secondary indexes carry the
+-- primary key, so project_id is only listed where it is part of a sort order.
+
+-- Active listings and keyset pages: WHERE is_active ORDER BY updated_at DESC, project_id DESC
+CREATE INDEX idx_projects_active_updated ON projects(is_active, updated_at, project_id);
+
+-- Status filters: WHERE is_active AND status = ? ORDER BY updated_at
+CREATE INDEX idx_projects_active_status ON projects(is_active, status, updated_at);
+
+-- Date-range filters: WHERE is_active AND start_date BETWEEN ? AND ?
+CREATE INDEX idx_projects_active_start_date ON projects(is_active, start_date);
+
+-- Manager-scoped queries start from the join table by pm_id; (pm_id, project_id) covers them.
+-- It also backs the pm_id foreign key, replacing idx_assignments_pm_id; idx_assignments_project_id
+-- duplicates the leading column of the primary key.
+CREATE INDEX idx_assignments_pm_project ON project_manager_assignments(pm_id, project_id);
+DROP INDEX idx_assignments_pm_id ON project_manager_assignments;
+DROP INDEX idx_assignments_project_id ON project_manager_assignments;
@@ -0,0 +1,2 @@
+-- Optimistic locking version for projects; incremented by every update and served as the ETag
+ALTER TABLE projects ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,22 @@
+-- Next unallocated ID per entity, handed out in blocks by PooledIdGenerator so inserts can be batched.
+-- Seeded past the current maximum so existing rows keep their IDs.
+CREATE TABLE id_generators (
+    sequence_name VARCHAR(255) NOT NULL PRIMARY KEY,
+    next_val BIGINT NOT NULL
+);
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'projects', COALESCE(MAX(project_id), 0) + 1 FROM projects;
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'project_managers', COALESCE(MAX(pm_id), 0) + 1 FROM project_managers;
+
+-- Rows must take their ID from id_generators from here on. AUTO_INCREMENT would hand out IDs inside
+-- blocks a node has already reserved, so it is dropped and an insert without an ID now fails instead
+-- of colliding later. That includes inserts from the previous release: stop every instance before
+-- running this migration and do not run old and new versions side by side.
+-- Foreign key checks are off only while the referenced columns change; the primary keys are kept.
+SET FOREIGN_KEY_CHECKS = 0;
+ALTER TABLE projects MODIFY project_id BIGINT NOT NULL;
+ALTER TABLE project_managers MODIFY pm_id BIGINT NOT NULL;
+SET FOREIGN_KEY_CHECKS = 1;
@@ -0,0 +1,3 @@
+-- Version of each manager's project lists, advanced in the transaction that changes them and served
+-- as the list ETag, so every replica agrees on it
+ALTER TABLE project_managers ADD COLUMN projects_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,56 @@
+package com.projectmanagement;
+
+import com.projectmanagement.cache.ProjectCache;
+import com.projectmanagement.entity.Project;
+import com.projectmanagement.entity.ProjectManager;
+import com.projectmanagement.entity.ProjectStatus;
+import com.projectmanagement.repository.ProjectManagerRepository;
+import com.projectmanagement.repository.ProjectRepository;
+
+import java.time.LocalDate;
+
+/**
+ * Seed data shared by the tests. The factories return unsaved entities with just the required
+ * fields filled in; tests set whatever else they depend on.
+ */
+public final class TestData {
+
+    private TestData() {
+    }
+
+    /**
+     * An in-progress project named after its code, starting 2024-01-01.
+     */
+    public static Project project(String code) {
+        Project project = new Project();
+        project.setName("Project " + code);
+        project.setProjectCode(code);
+        project.setStatus(ProjectStatus.IN_PROGRESS);
+        project.setStartDate(LocalDate.of(2024, 1, 1));
+        return project;
+    }
+
+    public static ProjectManager manager(String name, String email) {
+        return manager(name, email, null, null);
+    }
+
+    public static ProjectManager manager(String name, String email, String employeeId, String department) {
+        ProjectManager pm = new ProjectManager();
+        pm.setName(name);
+        pm.setEmail(email);
+        pm.setEmployeeId(employeeId);
+        pm.setDepartment(department);
+        return pm;
+    }
+
+    /**
+     * Removes everything a test seeded, projects first so their assignments go with them, and
+     * drops the cached copies.
+     */
+    public static void deleteAll(ProjectRepository projectRepository,
+                                 ProjectManagerRepository projectManagerRepository, ProjectCache projectCache) {
+        projectRepository.deleteAll();
+        projectManagerRepository.deleteAll();
+        projectCache.evictAll();
+    }
+}
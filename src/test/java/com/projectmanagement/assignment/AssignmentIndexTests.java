@@ -0,0 +1,102 @@
+package com.projectmanagement.assignment;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AssignmentIndexTests {
+
+    @Test
+    void answersBothDirectionsFromTheBuiltAssignments() {
+        AssignmentIndex index = AssignmentIndex.builder()
+            .add(10, 1).add(11, 1).add(12, 1)
+            .add(11, 2).add(12, 2).add(13, 2)
+            .add(10, 1)
+            .build();
+
+        assertThat(index.projectIds(1)).containsExactly(10, 11, 12);
+        assertThat(index.projectManagerIds(11)).containsExactly(1, 2);
+        assertThat(index.projectCount(2)).isEqualTo(3);
+        assertThat(index.projectCount(3)).isZero();
+        assertThat(index.sharedProjectIds(1, 2)).containsExactly(11, 12);
+        assertThat(index.sharedProjectIds(1, 3)).isEmpty();
+        assertThat(index.assignmentCount()).isEqualTo(6);
+    }
+
+    @Test
+    void settingAProjectsManagersUpdatesTheManagersSide() {
+        AssignmentIndex index = AssignmentIndex.builder().add(10, 1).add(10, 2).add(11, 2).build();
+
+        index.setProjectManagers(10, new long[]{3, 2});
+        assertThat(index.projectIds(1)).isEmpty();
+        assertThat(index.projectIds(2)).containsExactly(10, 11);
+        assertThat(index.projectIds(3)).containsExactly(10);
+        assertThat(index.projectManagerIds(10)).containsExactly(2, 3);
+
+        index.setProjectManagers(10, new long[0]);
+        assertThat(index.projectManagerIds(10)).isEmpty();
+        assertThat(index.projectIds(2)).containsExactly(11);
+        assertThat(index.assignmentCount()).isEqualTo(1);
+        assertThat(index.projectCount()).isEqualTo(1);
+        assertThat(index.projectManagerCount()).isEqualTo(1);
+    }
+
+    @Test
+    void staysConsistentWithAReferenceModelUnderRandomChanges() {
+        Random random = new Random(42);
+        AssignmentIndex index = AssignmentIndex.builder().build();
+        Map<Long, Set<Long>> managersByProject = new HashMap<>();
+
+        for (int i = 0; i < 20_000; i++) {
+            long projectId = random.nextInt(2_000);
+            Set<Long> pmIds = new HashSet<>();
+            for (int m = random.nextInt(4); m > 0; m--) {
+                pmIds.add((long) random.nextInt(50));
+            }
+            index.setProjectManagers(projectId, pmIds.stream().mapToLong(Long::longValue).toArray());
+            managersByProject.put(projectId, pmIds);
+        }
+
+        Map<Long, Set<Long>> projectsByManager = new HashMap<>();
+        managersByProject.forEach((projectId, pmIds) -> pmIds.forEach(pmId ->
+            projectsByManager.computeIfAbsent(pmId, id -> new HashSet<>()).add(projectId)));
+        for (long pmId = 0; pmId < 50; pmId++) {
+            assertThat(index.projectIds(pmId)).as("projects of %s", pmId)
+                .containsExactly(sorted(projectsByManager.getOrDefault(pmId, Set.of())));
+        }
+        for (long projectId = 0; projectId < 2_000; projectId++) {
+            assertThat(index.projectManagerIds(projectId)).as("managers of %s", projectId)
+                .containsExactly(sorted(managersByProject.getOrDefault(projectId, Set.of())));
+        }
+        assertThat(index.assignmentCount())
+            .isEqualTo(managersByProject.values().stream().mapToLong(Set::size).sum());
+    }
+
+    @Test
+    void oneMillionAssignmentsFitInUnderFiftyBytesEach() {
+        // 500k projects with two of 10k managers each
+        int projects = 500_000;
+        int managers = 10_000;
+        AssignmentIndex.Builder builder = AssignmentIndex.builder();
+        Random random = new Random(7);
+        for (long projectId = 1; projectId <= projects; projectId++) {
+            long first = 1 + random.nextInt(managers);
+            long second = 1 + (first + random.nextInt(managers - 1)) % managers;
+            builder.add(projectId, first).add(projectId, second);
+        }
+        AssignmentIndex index = builder.build();
+
+        assertThat(index.assignmentCount()).isEqualTo(1_000_000);
+        assertThat(index.memoryBytes() / index.assignmentCount()).isLessThan(50);
+    }
+
+    private static long[] sorted(Set<Long> ids) {
+        return ids.stream().mapToLong(Long::longValue).sorted().toArray();
+    }
+}
@@ -0,0 +1,158 @@
+package com.projectmanagement.assignment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanagement.cache.ProjectCache;
+import com.projectmanagement.entity.ProjectManager;
+import com.projectmanagement.repository.ProjectManagerRepository;
+import com.projectmanagement.repository.ProjectRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.projectmanagement.TestData.deleteAll;
+import static com.projectmanagement.TestData.manager;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProjectAssignmentGraphTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectManagerRepository projectManagerRepository;
+
+    @Autowired
+    private ProjectAssignmentGraph assignmentGraph;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ProjectCache projectCache;
+
+    private ProjectManager alice;
+    private ProjectManager bob;
+    private List<Long> projectIds;
+
+    @BeforeEach
+    void seed() throws Exception {
+        alice = projectManagerRepository.save(manager("Alice Smith", "alice@company.com", "EMP1", null));
+        bob = projectManagerRepository.save(manager("Bob Johnson", "bob@company.com", "EMP2", null));
+        projectIds = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            String created = mockMvc.perform(post("/projects").contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"name\":\"Graph " + i + "\",\"projectCode\":\"GRAPH" + i + "\"," +
+                             "\"status\":\"PLANNING\",\"startDate\":\"2024-01-01\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+            projectIds.add(objectMapper.readTree(created).get("id").asLong());
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        deleteAll(projectRepository, projectManagerRepository, projectCache);
+    }
+
+    @Test
+    void followsAssignmentsMadeThroughTheService() throws Exception {
+        assign(projectIds, alice.getId());
+        assign(projectIds.subList(2, 4), bob.getId());
+
+        assertThat(assignmentGraph.projectIds(alice.getId())).hasSize(4);
+        assertThat(assignmentGraph.projectManagerIds(projectIds.get(3))).containsExactly(alice.getId(), bob.getId());
+        assertCount(alice.getId(), 4);
+        assertCount(bob.getId(), 2);
+
+        mockMvc.perform(delete("/projects/{projectId}/pm/{pmId}", projectIds.get(0), alice.getId()))
+            .andExpect(status().isOk());
+        mockMvc.perform(delete("/projects/{projectId}", projectIds.get(3))).andExpect(status().isNoContent());
+
+        assertCount(alice.getId(), 2);
+        assertCount(bob.getId(), 1);
+        assertThat(assignmentGraph.projectManagerIds(projectIds.get(3))).isEmpty();
+    }
+
+    @Test
+    void sharedProjectsAreTheIntersectionOfBothManagers() throws Exception {
+        assign(projectIds.subList(0, 3), alice.getId());
+        assign(projectIds.subList(1, 4), bob.getId());
+
+        mockMvc.perform(get("/projects/pm/{pmId}/shared/{otherPmId}", alice.getId(), bob.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$[0].id").value(projectIds.get(1)))
+            .andExpect(jsonPath("$[1].id").value(projectIds.get(2)))
+            .andExpect(jsonPath("$[0].projectManagers.length()").value(2));
+
+        ProjectManager idle = projectManagerRepository.save(manager("Idle Manager", "idle@company.com", "EMP3", null));
+        mockMvc.perform(get("/projects/pm/{pmId}/shared/{otherPmId}", alice.getId(), idle.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(0));
+        mockMvc.perform(get("/projects/pm/{pmId}/shared/{otherPmId}", alice.getId(), idle.getId() + 1000))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void rebuildMatchesIncrementalState() throws Exception {
+        assign(projectIds, alice.getId());
+        assign(projectIds.subList(0, 1), bob.getId());
+        long assignments = assignmentGraph.assignmentCount();
+
+        assignmentGraph.rebuild();
+
+        assertThat(assignmentGraph.assignmentCount()).isEqualTo(assignments);
+        assertThat(assignmentGraph.sharedProjectIds(alice.getId(), bob.getId())).containsExactly(projectIds.get(0));
+    }
+
+    @Test
+    void unknownProjectManagerCountIsStillNotFound() throws Exception {
+        mockMvc.perform(get("/projects/pm/{pmId}/count", bob.getId() + 1000)).andExpect(status().isNotFound());
+    }
+
+    private void assign(List<Long> projects, Long pmId) throws Exception {
+        mockMvc.perform(post("/projects/assignments").contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new AssignmentRequest(projects, List.of(pmId)))))
+            .andExpect(status().isOk());
+    }
+
+    private void assertCount(Long pmId, long expected) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/projects/pm/{pmId}/count", pmId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$").value(expected));
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    private record AssignmentRequest(List<Long> projectIds, List<Long> pmIds) {
+    }
+}
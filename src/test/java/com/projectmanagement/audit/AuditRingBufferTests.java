@@ -0,0 +1,186 @@
+package com.projectmanagement.audit;
+
+import com.projectmanagement.event.ProjectChangedEvent;
+import com.projectmanagement.event.ProjectChangedEvent.ChangeType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AuditRingBufferTests {
+
+    @Test
+    void rejectsOffersWhenFullAndKeepsOfferOrder() {
+        AuditRingBuffer buffer = new AuditRingBuffer(3);
+        assertThat(buffer.capacity()).isEqualTo(4);
+
+        for (long id = 1; id <= 4; id++) {
+            assertThat(buffer.offer(event(id), id)).isTrue();
+        }
+        assertThat(buffer.offer(event(5L), 5)).isFalse();
+
+        List<Long> drained = new ArrayList<>();
+        assertThat(buffer.drain((event, timestamp) -> drained.add(event.projectIds().get(0)), 3)).isEqualTo(3);
+        assertThat(buffer.offer(event(5L), 5)).isTrue();
+        buffer.drain((event, timestamp) -> drained.add(event.projectIds().get(0)), 10);
+
+        assertThat(drained).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    void deliversEveryEntryOfConcurrentProducersOnce() throws Exception {
+        int producers = 4;
+        int perProducer = 20_000;
+        AuditRingBuffer buffer = new AuditRingBuffer(256);
+        boolean[] seen = new boolean[producers * perProducer];
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        for (int p = 0; p < producers; p++) {
+            long first = (long) p * perProducer;
+            executor.submit(() -> {
+                start.await();
+                for (long id = first; id < first + perProducer; id++) {
+                    while (!buffer.offer(event(id), id)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+
+        int received = 0;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (received < seen.length && System.nanoTime() < deadline) {
+            received += buffer.drain((event, timestamp) -> {
+                assertThat(seen[event.projectIds().get(0).intValue()]).isFalse();
+                seen[event.projectIds().get(0).intValue()] = true;
+            }, 64);
+        }
+        executor.shutdown();
+
+        assertThat(received).isEqualTo(seen.length);
+    }
+
+    @Test
+    void countsDroppedEventsWhenTheBufferIsFull() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ProjectAuditLog auditLog = new ProjectAuditLog(new AuditProperties(false, "target/audit", 2,
+            AuditProperties.Overflow.WAIT, Duration.ofMillis(1), 512, Duration.ofMillis(200),
+            DataSize.ofMegabytes(1), 1), meterRegistry);
+
+        for (long id = 1; id <= 3; id++) {
+            auditLog.record(event(id));
+        }
+
+        assertThat(meterRegistry.get("project.audit.events").tag("outcome", "dropped").counter().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get("project.audit.buffered").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void entryWhoseConsumerThrowsIsNotDeliveredAgain() {
+        AuditRingBuffer buffer = new AuditRingBuffer(4);
+        for (long id = 1; id <= 3; id++) {
+            buffer.offer(event(id), id);
+        }
+
+        List<Long> drained = new ArrayList<>();
+        assertThatThrownBy(() -> buffer.drain((event, timestamp) -> {
+            if (event.projectIds().get(0) == 2L) {
+                throw new IllegalStateException("write failed");
+            }
+            drained.add(event.projectIds().get(0));
+        }, 10)).isInstanceOf(IllegalStateException.class);
+        assertThat(buffer.size()).isEqualTo(1);
+
+        for (long id = 4; id <= 6; id++) {
+            assertThat(buffer.offer(event(id), id)).isTrue();
+        }
+        buffer.drain((event, timestamp) -> drained.add(event.projectIds().get(0)), 10);
+        assertThat(drained).containsExactly(1L, 3L, 4L, 5L, 6L);
+    }
+
+    @Test
+    void failedWritesAreCountedAndLaterEventsStillWritten(@TempDir Path directory) throws Exception {
+        // A non-empty directory in place of the rolled file makes every roll-over fail
+        Path blocker = Files.createDirectories(directory.resolve("project-audit.1.jsonl").resolve("blocker"));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ProjectAuditLog auditLog = new ProjectAuditLog(new AuditProperties(true, directory.toString(), 16,
+            AuditProperties.Overflow.DROP, Duration.ZERO, 512, Duration.ofHours(1),
+            DataSize.ofBytes(150), 1), meterRegistry);
+        auditLog.start();
+        try {
+            for (long id = 1; id <= 3; id++) {
+                auditLog.record(event(id));
+            }
+            auditLog.flush();
+            assertThat(auditEvents(meterRegistry, "written")).isEqualTo(1);
+            assertThat(auditEvents(meterRegistry, "failed")).isEqualTo(2);
+
+            Files.delete(blocker);
+            Files.delete(blocker.getParent());
+            auditLog.record(event(4L));
+            auditLog.flush();
+            assertThat(auditEvents(meterRegistry, "written")).isEqualTo(2);
+        } finally {
+            auditLog.stop();
+        }
+
+        assertThat(Files.readAllLines(directory.resolve("project-audit.1.jsonl")))
+            .singleElement().asString().contains("\"projectId\":1,");
+        assertThat(Files.readAllLines(AuditFileWriter.currentFile(directory)))
+            .singleElement().asString().contains("\"projectId\":4,");
+    }
+
+    @Test
+    void unavailableDirectoryIsCountedWithoutFailingStartup(@TempDir Path parent) throws Exception {
+        // A file where the directory should be, so it can neither be created nor written to
+        Path directory = Files.createFile(parent.resolve("audit"));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ProjectAuditLog auditLog = new ProjectAuditLog(new AuditProperties(true, directory.toString(), 16,
+            AuditProperties.Overflow.DROP, Duration.ZERO, 512, Duration.ofHours(1),
+            DataSize.ofMegabytes(1), 1), meterRegistry);
+        auditLog.start();
+        try {
+            assertThat(meterRegistry.get("project.audit.open.failures").counter().count()).isEqualTo(1);
+            auditLog.record(event(1L));
+            auditLog.flush();
+            assertThat(auditEvents(meterRegistry, "failed")).isEqualTo(1);
+
+            // Once the directory can be created, the next entry opens the file
+            Files.delete(directory);
+            auditLog.record(event(2L));
+            auditLog.flush();
+            assertThat(auditEvents(meterRegistry, "written")).isEqualTo(1);
+        } finally {
+            auditLog.stop();
+        }
+
+        assertThat(Files.readAllLines(AuditFileWriter.currentFile(directory)))
+            .singleElement().asString().contains("\"projectId\":2,");
+    }
+
+    private static double auditEvents(SimpleMeterRegistry meterRegistry, String outcome) {
+        return meterRegistry.get("project.audit.events").tag("outcome", outcome).counter().count();
+    }
+
+    private static ProjectChangedEvent event(Long projectId) {
+        return ProjectChangedEvent.of(ChangeType.UPDATED, projectId, "PRJ" + projectId);
+    }
+}
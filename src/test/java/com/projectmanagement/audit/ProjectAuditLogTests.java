@@ -0,0 +1,109 @@
+package com.projectmanagement.audit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanagement.cache.ProjectCache;
+import com.projectmanagement.entity.ProjectManager;
+import com.projectmanagement.repository.ProjectManagerRepository;
+import com.projectmanagement.repository.ProjectRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.projectmanagement.TestData.deleteAll;
+import static com.projectmanagement.TestData.manager;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProjectAuditLogTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProjectAuditLog auditLog;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectManagerRepository projectManagerRepository;
+
+    @Autowired
+    private ProjectCache projectCache;
+
+    @Value("${project.audit.directory}")
+    private String auditDirectory;
+
+    @AfterEach
+    void cleanUp() {
+        deleteAll(projectRepository, projectManagerRepository, projectCache);
+    }
+
+    @Test
+    void committedWritesAreAppendedToTheAuditFile() throws Exception {
+        ProjectManager pm = projectManagerRepository.save(manager("Alice Smith", "alice@company.com"));
+
+        // The file outlives this test, and other test contexts may append to it as well
+        Path auditFile = AuditFileWriter.currentFile(Path.of(auditDirectory));
+        auditLog.flush();
+        int linesBefore = Files.readAllLines(auditFile).size();
+
+        String created = mockMvc.perform(post("/projects").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Audit \\\"Trail\\\"\",\"projectCode\":\"AUDIT1\",\"status\":\"PLANNING\",\"startDate\":\"2024-01-01\"}"))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        long projectId = objectMapper.readTree(created).get("id").asLong();
+
+        mockMvc.perform(patch("/projects/{projectId}", projectId).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"completionPercentage\":50}"))
+            .andExpect(status().isOk());
+        mockMvc.perform(post("/projects/{projectId}/pm/{pmId}", projectId, pm.getId()))
+            .andExpect(status().isOk());
+        mockMvc.perform(delete("/projects/{projectId}/pm/{pmId}", projectId, pm.getId()))
+            .andExpect(status().isOk());
+        mockMvc.perform(delete("/projects/{projectId}", projectId))
+            .andExpect(status().isNoContent());
+        // Rejected writes are not audited
+        mockMvc.perform(patch("/projects/{projectId}", projectId).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"projectCode\":\"AUDIT2\"}"))
+            .andExpect(status().isBadRequest());
+
+        auditLog.flush();
+
+        List<JsonNode> entries = new ArrayList<>();
+        List<String> lines = Files.readAllLines(auditFile);
+        for (String line : lines.subList(linesBefore, lines.size())) {
+            JsonNode entry = objectMapper.readTree(line);
+            if (entry.get("projectId").asLong() == projectId) {
+                entries.add(entry);
+            }
+        }
+        assertThat(entries).extracting(entry -> entry.get("type").asText())
+            .containsExactly("CREATED", "UPDATED", "MANAGER_ASSIGNED", "MANAGER_REMOVED", "DELETED");
+        assertThat(entries.get(0).get("projectCode").asText()).isEqualTo("AUDIT1");
+        assertThat(entries.get(2).get("projectManagerId").asLong()).isEqualTo(pm.getId());
+        assertThat(entries.get(0).get("projectManagerId").isNull()).isTrue();
+        assertThat(entries.get(0).get("timestamp").asText()).endsWith("Z");
+    }
+}
@@ -0,0 +1,178 @@
+package com.projectmanagement.cache;
+
+import com.projectmanagement.ProjectManagementServiceApplication;
+import com.projectmanagement.dto.ProjectDTO;
+import com.projectmanagement.entity.ProjectManager;
+import com.projectmanagement.entity.ProjectStatus;
+import com.projectmanagement.exception.ResourceNotFoundException;
+import com.projectmanagement.repository.ProjectManagerRepository;
+import com.projectmanagement.service.ProjectService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.projectmanagement.TestData.manager;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Runs several application contexts against one shared database, the way the deployment runs
+ * several replicas, and checks that a write on one replica evicts the cached project on the
+ * others within the configured staleness bound and reaches their search indexes.
+ */
+class ProjectCacheReplicaCoherenceTests {
+
+    private static final Duration MAX_STALENESS = Duration.ofSeconds(1);
+
+    private final List<ConfigurableApplicationContext> replicas = new ArrayList<>();
+
+    @AfterEach
+    void stopReplicas() {
+        // The first replica owns the schema (create-drop), so it is closed last
+        for (int i = replicas.size() - 1; i >= 0; i--) {
+            replicas.get(i).close();
+        }
+    }
+
+    @Test
+    void outboxPropagatesWritesToOtherReplicas() {
+        startReplicas("outbox", 3);
+        assertWritesPropagate();
+    }
+
+    @Test
+    void inMemoryBusPropagatesWritesToOtherReplicas() {
+        startReplicas("in-memory", 3);
+        assertWritesPropagate();
+    }
+
+    @Test
+    void busIsSelectedFromTheBoundValueWhateverItsSpelling() {
+        startReplicas("IN_MEMORY", 2);
+        assertThat(replicas).allSatisfy(replica ->
+            assertThat(replica.getBean(InvalidationBus.class)).isInstanceOf(InMemoryInvalidationBus.class));
+        assertWritesPropagate();
+    }
+
+    @Test
+    void replicaThatCannotSynchronizeStopsServingCachedProjects() {
+        startReplicas("outbox", 2);
+        Long projectId = service(0).createProject(newProject()).getId();
+        awaitCoherent();
+        service(1).getProjectById(projectId);
+
+        replicas.get(1).getBean(ProjectCacheSynchronizer.class).stop();
+        ProjectDTO update = new ProjectDTO();
+        update.setName("Renamed While Partitioned");
+        update.setStatus(ProjectStatus.PLANNING);
+        service(0).updateProject(projectId, update);
+
+        await().atMost(MAX_STALENESS.multipliedBy(2)).untilAsserted(() ->
+            assertThat(service(1).getProjectById(projectId).getName()).isEqualTo("Renamed While Partitioned"));
+        assertThat(replicas.get(1).getBean(ProjectCache.class).isCoherent()).isFalse();
+    }
+
+    @Test
+    void replicasHandOutTheSameListVersions() {
+        startReplicas("outbox", 2);
+        ProjectManager pm = manager("Shared Manager", "shared@company.com");
+        Long pmId = replicas.get(0).getBean(ProjectManagerRepository.class).save(pm).getId();
+        Long projectId = service(0).createProject(newProject()).getId();
+        service(0).assignProjectManagerToProject(projectId, pmId);
+        awaitCoherent();
+
+        String assigned = service(0).getProjectManagerProjectsVersion(pmId);
+        assertThat(service(1).getProjectManagerProjectsVersion(pmId)).isEqualTo(assigned);
+
+        ProjectDTO update = new ProjectDTO();
+        update.setName("Renamed On Replica 1");
+        update.setStatus(ProjectStatus.IN_PROGRESS);
+        service(1).updateProject(projectId, update);
+
+        String updated = service(1).getProjectManagerProjectsVersion(pmId);
+        assertThat(updated).isNotEqualTo(assigned);
+        await().atMost(MAX_STALENESS).untilAsserted(() ->
+            assertThat(service(0).getProjectManagerProjectsVersion(pmId)).isEqualTo(updated));
+    }
+
+    private void assertWritesPropagate() {
+        ProjectService writer = service(0);
+        ProjectDTO created = writer.createProject(newProject());
+        Long projectId = created.getId();
+
+        // Every replica caches the project by ID and by code
+        awaitCoherent();
+        for (int i = 0; i < replicas.size(); i++) {
+            assertThat(service(i).getProjectById(projectId).getName()).isEqualTo("Replicated Project");
+            service(i).getProjectByCode("REPL1");
+        }
+
+        ProjectDTO update = new ProjectDTO();
+        update.setName("Renamed On Replica 0");
+        update.setStatus(ProjectStatus.IN_PROGRESS);
+        writer.updateProject(projectId, update);
+
+        await().atMost(MAX_STALENESS).untilAsserted(() -> {
+            for (int i = 1; i < replicas.size(); i++) {
+                assertThat(service(i).getProjectById(projectId).getName()).isEqualTo("Renamed On Replica 0");
+                assertThat(service(i).getProjectByCode("REPL1").getStatus()).isEqualTo(ProjectStatus.IN_PROGRESS);
+                assertThat(service(i).searchProjects("renamed", PageRequest.of(0, 10)).getContent())
+                    .extracting(ProjectDTO::getId).containsExactly(projectId);
+            }
+        });
+
+        service(1).deleteProject(projectId);
+
+        await().atMost(MAX_STALENESS).untilAsserted(() -> {
+            for (int i = 0; i < replicas.size(); i++) {
+                ProjectService replica = service(i);
+                assertThatThrownBy(() -> replica.getProjectByCode("REPL1"))
+                    .isInstanceOf(ResourceNotFoundException.class);
+            }
+        });
+    }
+
+    private void startReplicas(String bus, int count) {
+        String database = "replicas-" + UUID.randomUUID();
+        for (int i = 0; i < count; i++) {
+            replicas.add(new SpringApplicationBuilder(ProjectManagementServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run("--spring.datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1",
+                     "--spring.jpa.hibernate.ddl-auto=" + (i == 0 ? "create-drop" : "none"),
+                     "--spring.jpa.show-sql=false",
+                     "--project.cache.invalidation.bus=" + bus,
+                     "--project.cache.invalidation.channel=" + database,
+                     "--project.cache.invalidation.poll-interval=100ms",
+                     "--project.cache.invalidation.max-staleness=" + MAX_STALENESS.toMillis() + "ms"));
+        }
+    }
+
+    private void awaitCoherent() {
+        await().atMost(Duration.ofSeconds(5)).until(() ->
+            replicas.stream().allMatch(replica -> replica.getBean(ProjectCache.class).isCoherent()));
+    }
+
+    private ProjectService service(int replica) {
+        return replicas.get(replica).getBean(ProjectService.class);
+    }
+
+    private static ProjectDTO newProject() {
+        ProjectDTO dto = new ProjectDTO();
+        dto.setName("Replicated Project");
+        dto.setProjectCode("REPL1");
+        dto.setStatus(ProjectStatus.PLANNING);
+        dto.setStartDate(LocalDate.of(2024, 1, 1));
+        return dto;
+    }
+}
@@ -0,0 +1,210 @@
+package com.projectmanagement.controller;
+
+import com.projectmanagement.cache.ProjectCache;
+import com.projectmanagement.entity.Project;
+import com.projectmanagement.entity.ProjectManager;
+import com.projectmanagement.event.ProjectChangedEvent;
+import com.projectmanagement.event.ProjectChangedEvent.ChangeType;
+import com.projectmanagement.repository.ProjectBulkRepository;
+import com.projectmanagement.repository.ProjectBulkRepository.Assignment;
+import com.projectmanagement.repository.ProjectManagerRepository;
+import com.projectmanagement.repository.ProjectRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.projectmanagement.TestData.deleteAll;
+import static com.projectmanagement.TestData.manager;
+import static com.projectmanagement.TestData.project;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@RecordApplicationEvents
+class ProjectAssignmentTests {
+
+    private static final int OWNED_PROJECT_COUNT = 200;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectManagerRepository projectManagerRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProjectCache projectCache;
+
+    @Autowired
+    private ProjectBulkRepository projectBulkRepository;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    private ProjectManager busy;
+    private ProjectManager other;
+    private List<Project> unassigned;
+
+    @BeforeEach
+    void seed() {
+        transactionTemplate.executeWithoutResult(tx -> {
+            busy = projectManagerRepository.save(manager("Busy Manager", "busy@company.com", "EMP1", "Engineering"));
+            other = projectManagerRepository.save(manager("Other Manager", "other@company.com", "EMP2", "Engineering"));
+
+            List<Project> owned = new ArrayList<>();
+            for (int i = 0; i < OWNED_PROJECT_COUNT; i++) {
+                Project project = project("OWN" + i);
+                project.getProjectManagers().add(busy);
+                owned.add(project);
+            }
+            projectRepository.saveAll(owned);
+            unassigned = projectRepository.saveAll(List.of(project("NEW0"), project("NEW1"), project("NEW2")));
+        });
+    }
+
+    @AfterEach
+    void cleanUp() {
+        deleteAll(projectRepository, projectManagerRepository, projectCache);
+    }
+
+    @Test
+    void singleAssignmentDoesNotLoadTheManagersExistingProjects() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(post("/projects/{projectId}/pm/{pmId}", unassigned.get(0).getId(), busy.getId()))
+            .andExpect(status().isOk());
+
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+        assertThat(assignmentCount(busy)).isEqualTo(OWNED_PROJECT_COUNT + 1);
+
+        mockMvc.perform(get("/projects/{projectId}", unassigned.get(0).getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.projectManagers[0].id").value(busy.getId()));
+    }
+
+    @Test
+    void singleAssignAndRemoveAreIdempotent() throws Exception {
+        Long projectId = unassigned.get(0).getId();
+
+        mockMvc.perform(post("/projects/{projectId}/pm/{pmId}", projectId, other.getId())).andExpect(status().isOk());
+        mockMvc.perform(post("/projects/{projectId}/pm/{pmId}", projectId, other.getId())).andExpect(status().isOk());
+        assertThat(assignmentCount(other)).isEqualTo(1);
+
+        mockMvc.perform(delete("/projects/{projectId}/pm/{pmId}", projectId, other.getId())).andExpect(status().isOk());
+        mockMvc.perform(delete("/projects/{projectId}/pm/{pmId}", projectId, other.getId())).andExpect(status().isOk());
+        assertThat(assignmentCount(other)).isZero();
+    }
+
+    @Test
+    void bulkAssignmentWritesOnlyMissingPairs() throws Exception {
+        String request = "{\"projectIds\":[" + unassigned.get(0).getId() + "," + unassigned.get(1).getId() + "]," +
+            "\"pmIds\":[" + busy.getId() + "," + other.getId() + "]}";
+
+        mockMvc.perform(post("/projects/{projectId}/pm/{pmId}", unassigned.get(0).getId(), other.getId()))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(post("/projects/assignments").contentType(MediaType.APPLICATION_JSON).content(request))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.requested").value(4))
+            .andExpect(jsonPath("$.changed").value(3))
+            .andExpect(jsonPath("$.unchanged").value(1));
+        mockMvc.perform(post("/projects/assignments").contentType(MediaType.APPLICATION_JSON).content(request))
+            .andExpect(jsonPath("$.changed").value(0));
+        assertThat(assignmentCount(other)).isEqualTo(2);
+
+        mockMvc.perform(post("/projects/assignments/remove").contentType(MediaType.APPLICATION_JSON).content(request))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.changed").value(4));
+        assertThat(assignmentCount(busy)).isEqualTo(OWNED_PROJECT_COUNT);
+        assertThat(assignmentCount(other)).isZero();
+    }
+
+    @Test
+    void bulkAssignmentPublishesOneEventForTheRequest() throws Exception {
+        String request = "{\"projectIds\":[" + unassigned.get(0).getId() + "," + unassigned.get(1).getId() + "]," +
+            "\"pmIds\":[" + busy.getId() + "," + other.getId() + "]}";
+
+        mockMvc.perform(post("/projects/assignments").contentType(MediaType.APPLICATION_JSON).content(request))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.changed").value(4));
+
+        assertThat(events.stream(ProjectChangedEvent.class)).singleElement().satisfies(event -> {
+            assertThat(event.type()).isEqualTo(ChangeType.MANAGER_ASSIGNED);
+            assertThat(event.projectIds()).containsExactly(unassigned.get(0).getId(), unassigned.get(1).getId());
+            assertThat(event.projectManagerIds()).containsExactlyInAnyOrder(busy.getId(), other.getId());
+        });
+    }
+
+    @Test
+    void pairInsertedConcurrentlyIsReportedAsUnchanged() {
+        Assignment raced = new Assignment(unassigned.get(0).getId(), other.getId());
+        Assignment added = new Assignment(unassigned.get(1).getId(), other.getId());
+
+        // Another request added the first pair after this one checked for it
+        List<Assignment> inserted = transactionTemplate.execute(tx -> {
+            jdbcTemplate.update("INSERT INTO project_manager_assignments (project_id, pm_id) VALUES (?, ?)",
+                raced.projectId(), raced.pmId());
+            return projectBulkRepository.insertAssignments(List.of(raced, added));
+        });
+
+        assertThat(inserted).containsExactly(added);
+        assertThat(assignmentCount(other)).isEqualTo(2);
+    }
+
+    @Test
+    void unknownIdsRejectTheWholeRequest() throws Exception {
+        long unknownPmId = other.getId() + 1000;
+        String request = "{\"projectIds\":[" + unassigned.get(0).getId() + "]," +
+            "\"pmIds\":[" + busy.getId() + "," + unknownPmId + "]}";
+
+        mockMvc.perform(post("/projects/assignments").contentType(MediaType.APPLICATION_JSON).content(request))
+            .andExpect(status().isNotFound());
+        mockMvc.perform(post("/projects/{projectId}/pm/{pmId}", unassigned.get(0).getId(), unknownPmId))
+            .andExpect(status().isNotFound());
+        assertThat(assignmentCount(busy)).isEqualTo(OWNED_PROJECT_COUNT);
+
+        mockMvc.perform(post("/projects/assignments").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"projectIds\":[],\"pmIds\":[" + busy.getId() + "]}"))
+            .andExpect(status().isBadRequest());
+    }
+
+    private int assignmentCount(ProjectManager pm) {
+        return jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM project_manager_assignments WHERE pm_id = ?", Integer.class, pm.getId());
+    }
+}
@@ -0,0 +1,139 @@
+package com.projectmanagement.controller;
+
+import com.projectmanagement.TestData;
+import com.projectmanagement.cache.ProjectCache;
+import com.projectmanagement.entity.Project;
+import com.projectmanagement.entity.ProjectStatus;
+import com.projectmanagement.repository.ProjectManagerRepository;
+import com.projectmanagement.repository.ProjectRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.StringJoiner;
+
+import static com.projectmanagement.TestData.deleteAll;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {"project.bulk.batch-size=3", "project.bulk.max-items=50"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProjectBulkCreateTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectManagerRepository projectManagerRepository;
+
+    @Autowired
+    private ProjectCache projectCache;
+
+    @AfterEach
+    void cleanUp() {
+        deleteAll(projectRepository, projectManagerRepository, projectCache);
+    }
+
+    @Test
+    void createsValidItemsAcrossBatchesAndReportsEveryRejection() throws Exception {
+        Project existing = TestData.project("BULK-OLD");
+        existing.setStatus(ProjectStatus.PLANNING);
+        projectRepository.save(existing);
+
+        String body = "[" +
+            project("Bulk project 0", "BULK-0") + "," +
+            project("Bulk project 1", "BULK-1") + "," +
+            "{\"name\":\"x\",\"projectCode\":\"BULK-2\",\"status\":\"PLANNING\"}," +
+            project("Bulk project 3", "BULK-0") + "," +
+            project("Bulk project 4", "BULK-OLD") + "," +
+            "{\"name\":\"Bulk project 5\",\"projectCode\":\"BULK-5\",\"status\":\"PLANNING\",\"startDate\":\"soon\"}," +
+            project("Bulk project 6", "BULK-6") + "," +
+            project("Bulk project 7", "BULK-7") +
+            "]";
+
+        mockMvc.perform(post("/projects/bulk").contentType(MediaType.APPLICATION_JSON).content(body))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.received").value(8))
+            .andExpect(jsonPath("$.created").value(4))
+            .andExpect(jsonPath("$.rejected").value(4))
+            .andExpect(jsonPath("$.items[0].outcome").value("CREATED"))
+            .andExpect(jsonPath("$.items[1].outcome").value("CREATED"))
+            .andExpect(jsonPath("$.items[2].outcome").value("INVALID"))
+            .andExpect(jsonPath("$.items[2].validationErrors.name").exists())
+            .andExpect(jsonPath("$.items[2].validationErrors.startDate").exists())
+            .andExpect(jsonPath("$.items[3].outcome").value("DUPLICATE"))
+            .andExpect(jsonPath("$.items[4].outcome").value("DUPLICATE"))
+            .andExpect(jsonPath("$.items[5].outcome").value("INVALID"))
+            .andExpect(jsonPath("$.items[6].outcome").value("CREATED"))
+            .andExpect(jsonPath("$.items[7].outcome").value("CREATED"))
+            .andExpect(jsonPath("$.items[7].id").isNumber());
+
+        assertThat(projectRepository.count()).isEqualTo(5);
+        mockMvc.perform(get("/projects/code/{projectCode}", "BULK-7"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.name").value("Bulk project 7"))
+            .andExpect(jsonPath("$.clientName").value("Acme Corp"));
+    }
+
+    @Test
+    void largeRequestIsInsertedInBatches() throws Exception {
+        StringJoiner body = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < 50; i++) {
+            body.add(project("Bulk project " + i, "BULK-" + i));
+        }
+
+        mockMvc.perform(post("/projects/bulk").contentType(MediaType.APPLICATION_JSON).content(body.toString()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.created").value(50));
+
+        assertThat(projectRepository.count()).isEqualTo(50);
+    }
+
+    @Test
+    void itemsPastMaxItemsAreNotReadAndReportedOnce() throws Exception {
+        StringJoiner body = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < 50; i++) {
+            body.add(project("Bulk project " + i, "BULK-" + i));
+        }
+        // Items past the limit are never parsed, so even a malformed tail does not fail the request
+        body.add(project("Bulk project 50", "BULK-50")).add("{\"name\": 51}").add(project("Bulk project 52", "BULK-52"));
+
+        mockMvc.perform(post("/projects/bulk").contentType(MediaType.APPLICATION_JSON).content(body.toString()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.created").value(50))
+            .andExpect(jsonPath("$.rejected").value(1))
+            .andExpect(jsonPath("$.items.length()").value(51))
+            .andExpect(jsonPath("$.items[50].index").value(50))
+            .andExpect(jsonPath("$.items[50].outcome").value("INVALID"));
+
+        assertThat(projectRepository.count()).isEqualTo(50);
+    }
+
+    @Test
+    void bodyMustBeWellFormedJsonArray() throws Exception {
+        mockMvc.perform(post("/projects/bulk").contentType(MediaType.APPLICATION_JSON)
+                .content(project("Single project", "BULK-1")))
+            .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/projects/bulk").contentType(MediaType.APPLICATION_JSON)
+                .content("[" + project("Bulk project 0", "BULK-0") + ", {\"name\": "))
+            .andExpect(status().isBadRequest());
+    }
+
+    private static String project(String name, String code) {
+        return "{\"name\":\"" + name + "\",\"projectCode\":\"" + code + "\",\"status\":\"IN_PROGRESS\"," +
+            "\"priority\":\"HIGH\",\"startDate\":\"2024-03-01\",\"budget\":1000.50,\"clientName\":\"Acme Corp\"}";
+    }
+}
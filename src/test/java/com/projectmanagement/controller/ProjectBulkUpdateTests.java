@@ -0,0 +1,125 @@
+package com.projectmanagement.controller;
+
+import com.projectmanagement.cache.ProjectCache;
+import com.projectmanagement.entity.Project;
+import com.projectmanagement.entity.ProjectStatus;
+import com.projectmanagement.repository.ProjectManagerRepository;
+import com.projectmanagement.repository.ProjectRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.StringJoiner;
+
+import static com.projectmanagement.TestData.deleteAll;
+import static com.projectmanagement.TestData.project;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {"project.bulk.batch-size=3", "project.bulk.max-items=50"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProjectBulkUpdateTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectManagerRepository projectManagerRepository;
+
+    @Autowired
+    private ProjectCache projectCache;
+
+    @AfterEach
+    void cleanUp() {
+        deleteAll(projectRepository, projectManagerRepository, projectCache);
+    }
+
+    @Test
+    void updatesProjectsByCodeAcrossBatchesAndReportsEveryRejection() throws Exception {
+        Project first = projectRepository.save(project("BULK-A"));
+        projectRepository.save(project("BULK-B"));
+        Project deleted = project("BULK-C");
+        deleted.setIsActive(false);
+        projectRepository.save(deleted);
+
+        // Cached before the update, so the response below shows the update reached the cache
+        mockMvc.perform(get("/projects/code/{projectCode}", "BULK-A"))
+            .andExpect(jsonPath("$.name").value("Project BULK-A"));
+
+        String body = "[" +
+            projectJson("Renamed A", "BULK-A") + "," +
+            projectJson("Renamed missing", "BULK-MISSING") + "," +
+            "{\"name\":\"x\",\"projectCode\":\"BULK-B\",\"status\":\"COMPLETED\"}," +
+            projectJson("Renamed A again", "BULK-A") + "," +
+            projectJson("Renamed C", "BULK-C") + "," +
+            projectJson("Renamed B", "BULK-B") +
+            "]";
+
+        mockMvc.perform(put("/projects/bulk").contentType(MediaType.APPLICATION_JSON).content(body))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.received").value(6))
+            .andExpect(jsonPath("$.created").value(0))
+            .andExpect(jsonPath("$.updated").value(2))
+            .andExpect(jsonPath("$.rejected").value(4))
+            .andExpect(jsonPath("$.items[0].outcome").value("UPDATED"))
+            .andExpect(jsonPath("$.items[0].id").value(first.getId()))
+            .andExpect(jsonPath("$.items[1].outcome").value("NOT_FOUND"))
+            .andExpect(jsonPath("$.items[2].outcome").value("INVALID"))
+            .andExpect(jsonPath("$.items[2].validationErrors.name").exists())
+            .andExpect(jsonPath("$.items[3].outcome").value("DUPLICATE"))
+            .andExpect(jsonPath("$.items[4].outcome").value("NOT_FOUND"))
+            .andExpect(jsonPath("$.items[5].outcome").value("UPDATED"));
+
+        mockMvc.perform(get("/projects/code/{projectCode}", "BULK-A"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.name").value("Renamed A"))
+            .andExpect(jsonPath("$.status").value("COMPLETED"))
+            .andExpect(jsonPath("$.budget").value(2500.0))
+            .andExpect(jsonPath("$.version").value(first.getVersion() + 1));
+        assertThat(projectRepository.findByProjectCodeAndIsActiveTrue("BULK-B"))
+            .hasValueSatisfying(project -> assertThat(project.getName()).isEqualTo("Renamed B"));
+        assertThat(projectRepository.findById(deleted.getId()))
+            .hasValueSatisfying(project -> assertThat(project.getName()).isEqualTo("Project BULK-C"));
+    }
+
+    @Test
+    void largeRequestIsUpdatedInBatches() throws Exception {
+        StringJoiner body = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < 20; i++) {
+            projectRepository.save(project("BULK-" + i));
+            body.add(projectJson("Renamed " + i, "BULK-" + i));
+        }
+
+        mockMvc.perform(put("/projects/bulk").contentType(MediaType.APPLICATION_JSON).content(body.toString()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.updated").value(20));
+
+        assertThat(projectRepository.findAll())
+            .extracting(Project::getStatus)
+            .containsOnly(ProjectStatus.COMPLETED);
+    }
+
+    @Test
+    void bodyMustBeWellFormedJsonArray() throws Exception {
+        mockMvc.perform(put("/projects/bulk").contentType(MediaType.APPLICATION_JSON)
+                .content(projectJson("Single project", "BULK-1")))
+            .andExpect(status().isBadRequest());
+    }
+
+    private static String projectJson(String name, String code) {
+        return "{\"name\":\"" + name + "\",\"projectCode\":\"" + code + "\",\"status\":\"COMPLETED\"," +
+            "\"priority\":\"HIGH\",\"budget\":2500.00,\"completionPercentage\":100}";
+    }
+}
@@ -0,0 +1,182 @@
+package com.projectmanagement.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.projectmanagement.cache.ProjectCache;
+import com.projectmanagement.entity.Project;
+import com.projectmanagement.entity.ProjectManager;
+import com.projectmanagement.repository.ProjectManagerRepository;
+import com.projectmanagement.repository.ProjectRepository;
+import com.projectmanagement.service.ProjectService;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.projectmanagement.TestData.deleteAll;
+import static com.projectmanagement.TestData.manager;
+import static com.projectmanagement.TestData.project;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProjectCompactViewTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectManagerRepository projectManagerRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ProjectCache projectCache;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void seed() {
+        transactionTemplate.executeWithoutResult(tx -> {
+            ProjectManager alice = projectManagerRepository.save(manager("Alice Smith", "alice@company.com", null, "Engineering"));
+            ProjectManager bob = projectManagerRepository.save(manager("Bob Johnson", "bob@company.com"));
+
+            for (int i = 0; i < 5; i++) {
+                Project project = project("CMP" + i);
+                project.setStartDate(LocalDate.of(2024, 1, 1).plusDays(i));
+                if (i % 2 == 0) {
+                    project.setDescription("Project \"" + i + "\" with quotes");
+                    project.setEndDate(LocalDate.of(2024, 12, 31));
+                    project.setBudget(new BigDecimal("15000.50"));
+                    project.setTeamSize(4);
+                }
+                project.getProjectManagers().add(alice);
+                if (i > 2) {
+                    project.getProjectManagers().add(bob);
+                }
+                projectRepository.save(project);
+            }
+        });
+    }
+
+    @AfterEach
+    void cleanUp() {
+        deleteAll(projectRepository, projectManagerRepository, projectCache);
+    }
+
+    @Test
+    void listsEachManagerOnceAndMatchesTheDefaultView() throws Exception {
+        JsonNode compact = objectMapper.readTree(compactView());
+        JsonNode full = objectMapper.readTree(mockMvc.perform(get("/projects"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString());
+
+        JsonNode managers = compact.get("projectManagers");
+        assertThat(managers.size()).isEqualTo(2);
+        assertThat(compact.get("projects").size()).isEqualTo(full.size()).isEqualTo(5);
+
+        Map<Long, JsonNode> fullManagers = new HashMap<>();
+        for (int i = 0; i < full.size(); i++) {
+            ObjectNode expected = ((ObjectNode) full.get(i)).deepCopy();
+            ObjectNode actual = ((ObjectNode) compact.get("projects").get(i)).deepCopy();
+
+            List<Long> expectedManagerIds = new ArrayList<>();
+            expected.remove("projectManagers").forEach(pm -> {
+                expectedManagerIds.add(pm.get("id").asLong());
+                fullManagers.put(pm.get("id").asLong(), pm);
+            });
+            List<Long> actualManagerIds = new ArrayList<>();
+            actual.remove("projectManagerIds").forEach(id -> actualManagerIds.add(id.asLong()));
+
+            assertThat(actual).isEqualTo(expected);
+            assertThat(actualManagerIds).containsExactlyInAnyOrderElementsOf(expectedManagerIds);
+        }
+        fullManagers.forEach((id, pm) -> assertThat(managers.get(String.valueOf(id))).isEqualTo(pm));
+    }
+
+    @Test
+    void writesAnEmptyListWhenThereAreNoActiveProjects() throws Exception {
+        projectRepository.deleteAll();
+
+        JsonNode compact = objectMapper.readTree(compactView());
+
+        assertThat(compact.get("projects").isEmpty()).isTrue();
+        assertThat(compact.get("projectManagers").isEmpty()).isTrue();
+        assertThat(fieldNames(compact)).containsExactly("projects", "projectManagers");
+    }
+
+    @Test
+    void writesAfterTheReadTransactionHasEndedAndItsConnectionIsReturned() throws Exception {
+        HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+        List<Boolean> transactionActive = new ArrayList<>();
+        List<Integer> connectionsInUse = new ArrayList<>();
+        OutputStream client = new ByteArrayOutputStream() {
+            @Override
+            public void write(byte[] bytes, int offset, int length) {
+                transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+                connectionsInUse.add(pool.getActiveConnections());
+                super.write(bytes, offset, length);
+            }
+        };
+
+        assertThat(projectService.writeAllActiveProjectsCompact(client)).isEqualTo(5);
+
+        assertThat(transactionActive).isNotEmpty().containsOnly(false);
+        assertThat(connectionsInUse).containsOnly(0);
+        assertThat(objectMapper.readTree(client.toString()).get("projects").size()).isEqualTo(5);
+    }
+
+    private String compactView() throws Exception {
+        MvcResult started = mockMvc.perform(get("/projects").param("view", "compact"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andReturn().getResponse().getContentAsString();
+    }
+
+    private static List<String> fieldNames(JsonNode node) {
+        List<String> names = new ArrayList<>();
+        node.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+}
@@ -0,0 +1,286 @@
+package com.projectmanagement.controller;
+
+import com.projectmanagement.cache.ProjectCache;
+import com.projectmanagement.entity.Project;
+import com.projectmanagement.entity.ProjectManager;
+import com.projectmanagement.repository.ProjectManagerRepository;
+import com.projectmanagement.repository.ProjectRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.math.BigDecimal;
+
+import static com.projectmanagement.TestData.deleteAll;
+import static com.projectmanagement.TestData.manager;
+import static com.projectmanagement.TestData.project;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProjectConditionalRequestTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectManagerRepository projectManagerRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ProjectCache projectCache;
+
+    private Project project;
+
+    @BeforeEach
+    void seed() {
+        project = project("ETAG1");
+        project.setName("Customer Portal");
+        project.setBudget(new BigDecimal("1000.00"));
+        project.setClientName("Acme Corp");
+        project.setCompletionPercentage(10);
+        project = projectRepository.save(project);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        deleteAll(projectRepository, projectManagerRepository, projectCache);
+    }
+
+    @Test
+    void conditionalGetReturnsNotModifiedUntilTheProjectChanges() throws Exception {
+        mockMvc.perform(get("/projects/{projectId}", project.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+            .andExpect(jsonPath("$.version").value(0));
+        mockMvc.perform(get("/projects/{projectId}", project.getId()).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+            .andExpect(status().isNotModified());
+        mockMvc.perform(get("/projects/code/{projectCode}", "ETAG1").header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+            .andExpect(status().isNotModified());
+
+        patchCompletion(60, null);
+
+        mockMvc.perform(get("/projects/{projectId}", project.getId()).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+    }
+
+    @Test
+    void patchUpdatesOnlySuppliedFieldsWithoutLoadingTheProject() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        patchCompletion(60, null)
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+            .andExpect(jsonPath("$.completionPercentage").value(60))
+            .andExpect(jsonPath("$.name").value("Customer Portal"))
+            .andExpect(jsonPath("$.budget").value(1000.00))
+            .andExpect(jsonPath("$.clientName").value("Acme Corp"));
+
+        // A targeted UPDATE: the project is only loaded once, to return the result
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+
+        mockMvc.perform(patch("/projects/{projectId}", project.getId()).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"clientName\":null,\"endDate\":\"2024-06-30\"}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.clientName").doesNotExist())
+            .andExpect(jsonPath("$.endDate").value("2024-06-30"))
+            .andExpect(jsonPath("$.completionPercentage").value(60));
+    }
+
+    @Test
+    void ifMatchRejectsStaleWrites() throws Exception {
+        patchCompletion(20, "\"0\"").andExpect(status().isOk());
+        patchCompletion(30, "\"0\"").andExpect(status().isPreconditionFailed());
+        patchCompletion(30, "W/\"1\"").andExpect(status().isPreconditionFailed());
+        patchCompletion(30, "\"1\"").andExpect(status().isOk());
+
+        mockMvc.perform(put("/projects/{projectId}", project.getId()).contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_MATCH, "\"1\"")
+                .content("{\"name\":\"Renamed Portal\",\"status\":\"PLANNING\"}"))
+            .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(put("/projects/{projectId}", project.getId()).contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_MATCH, "\"2\"")
+                .content("{\"name\":\"Renamed Portal\",\"status\":\"PLANNING\"}"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+    }
+
+    @Test
+    void managerAssignmentChangesTheETag() throws Exception {
+        ProjectManager pm = projectManagerRepository.save(manager("Alice Smith", "alice@company.com"));
+
+        mockMvc.perform(post("/projects/{projectId}/pm/{pmId}", project.getId(), pm.getId()))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(get("/projects/{projectId}", project.getId()).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+            .andExpect(jsonPath("$.projectManagers.length()").value(1));
+    }
+
+    @Test
+    void revalidationDoesNotLoadTheProject() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/projects/{projectId}", project.getId()).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+            .andExpect(status().isNotModified())
+            .andExpect(header().stringValues(HttpHeaders.ETAG, "\"0\""))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "private, no-cache"));
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        // Once cached, the version comes from the cache
+        mockMvc.perform(get("/projects/{projectId}", project.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().stringValues(HttpHeaders.ETAG, "\"0\""))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "private, no-cache"));
+        statistics.clear();
+        mockMvc.perform(get("/projects/{projectId}", project.getId()).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+            .andExpect(status().isNotModified());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        mockMvc.perform(get("/projects/{projectId}", project.getId() + 1000).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void projectManagerListsRevalidateUntilOneOfTheirProjectsChanges() throws Exception {
+        ProjectManager alice = projectManagerRepository.save(manager("Alice Smith", "alice@company.com"));
+        ProjectManager bob = projectManagerRepository.save(manager("Bob Johnson", "bob@company.com"));
+        mockMvc.perform(post("/projects/{projectId}/pm/{pmId}", project.getId(), alice.getId()))
+            .andExpect(status().isOk());
+
+        String aliceTag = listETag(alice.getId());
+        String bobTag = mockMvc.perform(get("/projects/pm/{pmId}/status/{status}", bob.getId(), "IN_PROGRESS"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get("/projects/pm/{pmId}", alice.getId()).header(HttpHeaders.IF_NONE_MATCH, aliceTag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "private, no-cache"));
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        patchCompletion(70, null).andExpect(status().isOk());
+
+        String changedTag = mockMvc.perform(get("/projects/pm/{pmId}", alice.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, aliceTag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].completionPercentage").value(70))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(changedTag).isNotEqualTo(aliceTag);
+        mockMvc.perform(get("/projects/pm/{pmId}/status/{status}", bob.getId(), "IN_PROGRESS")
+                .header(HttpHeaders.IF_NONE_MATCH, bobTag))
+            .andExpect(status().isNotModified());
+
+        mockMvc.perform(post("/projects/{projectId}/pm/{pmId}", project.getId(), bob.getId()))
+            .andExpect(status().isOk());
+        mockMvc.perform(get("/projects/pm/{pmId}/status/{status}", bob.getId(), "IN_PROGRESS")
+                .header(HttpHeaders.IF_NONE_MATCH, bobTag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1));
+
+        // Versions are stored with the managers, so they survive a cache reset (and are the same on every replica)
+        String sharedTag = listETag(alice.getId());
+        assertThat(sharedTag).isNotEqualTo(changedTag);
+        projectCache.evictAll();
+        mockMvc.perform(get("/projects/pm/{pmId}", alice.getId()).header(HttpHeaders.IF_NONE_MATCH, sharedTag))
+            .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void assignmentChangesOnASharedProjectChangeEveryManagersListETag() throws Exception {
+        ProjectManager alice = projectManagerRepository.save(manager("Alice Smith", "alice@company.com"));
+        ProjectManager bob = projectManagerRepository.save(manager("Bob Johnson", "bob@company.com"));
+        ProjectManager carol = projectManagerRepository.save(manager("Carol White", "carol@company.com"));
+        mockMvc.perform(post("/projects/{projectId}/pm/{pmId}", project.getId(), alice.getId()))
+            .andExpect(status().isOk());
+        mockMvc.perform(post("/projects/{projectId}/pm/{pmId}", project.getId(), bob.getId()))
+            .andExpect(status().isOk());
+
+        // Bob's list embeds the project with all its managers, so Carol joining it changes the list
+        String bobTag = listETag(bob.getId());
+        mockMvc.perform(post("/projects/{projectId}/pm/{pmId}", project.getId(), carol.getId()))
+            .andExpect(status().isOk());
+        String assignedTag = mockMvc.perform(get("/projects/pm/{pmId}", bob.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, bobTag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].projectManagers.length()").value(3))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        String aliceTag = listETag(alice.getId());
+        mockMvc.perform(delete("/projects/{projectId}/pm/{pmId}", project.getId(), bob.getId()))
+            .andExpect(status().isOk());
+        mockMvc.perform(get("/projects/pm/{pmId}", alice.getId()).header(HttpHeaders.IF_NONE_MATCH, aliceTag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].projectManagers.length()").value(2));
+        mockMvc.perform(get("/projects/pm/{pmId}", bob.getId()).header(HttpHeaders.IF_NONE_MATCH, assignedTag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    void invalidPatchesAreRejected() throws Exception {
+        mockMvc.perform(patch("/projects/{projectId}", project.getId()).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"projectCode\":\"OTHER\"}"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(patch("/projects/{projectId}", project.getId()).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"x\"}"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(patch("/projects/{projectId}", project.getId()).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"SOMEDAY\"}"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(patch("/projects/{projectId}", project.getId() + 1000).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"completionPercentage\":5}"))
+            .andExpect(status().isNotFound());
+    }
+
+    private String listETag(Long pmId) throws Exception {
+        return mockMvc.perform(get("/projects/pm/{pmId}", pmId))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "private, no-cache"))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private ResultActions patchCompletion(int completion, String ifMatch)
+            throws Exception {
+        var request = patch("/projects/{projectId}", project.getId())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"completionPercentage\":" + completion + "}");
+        if (ifMatch != null) {
+            request.header(HttpHeaders.IF_MATCH, ifMatch);
+        }
+        return mockMvc.perform(request);
+    }
+}
@@ -0,0 +1,182 @@
+package com.projectmanagement.controller;
+
+import com.projectmanagement.assignment.ProjectAssignmentGraph;
+import com.projectmanagement.cache.ProjectCache;
+import com.projectmanagement.entity.Project;
+import com.projectmanagement.entity.ProjectManager;
+import com.projectmanagement.repository.ProjectManagerRepository;
+import com.projectmanagement.repository.ProjectRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.projectmanagement.TestData.deleteAll;
+import static com.projectmanagement.TestData.manager;
+import static com.projectmanagement.TestData.project;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Guards the fetch plans of the read endpoints: the number of JDBC statements per request
+ * must not grow with the number of projects returned.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProjectControllerStatementCountTests {
+
+    private static final int PROJECT_COUNT = 30;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectManagerRepository projectManagerRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ProjectCache projectCache;
+
+    @Autowired
+    private ProjectAssignmentGraph assignmentGraph;
+
+    private ProjectManager alice;
+    private Project firstProject;
+
+    @BeforeEach
+    void seed() {
+        transactionTemplate.executeWithoutResult(tx -> seedProjects());
+        assignmentGraph.rebuild();
+    }
+
+    private void seedProjects() {
+        alice = projectManagerRepository.save(manager("Alice Smith", "alice@company.com", "EMP1", "Engineering"));
+        ProjectManager bob = projectManagerRepository.save(manager("Bob Johnson", "bob@company.com", "EMP2", "Engineering"));
+
+        List<Project> projects = new ArrayList<>();
+        for (int i = 0; i < PROJECT_COUNT; i++) {
+            Project project = project("PRJ" + i);
+            project.setStartDate(project.getStartDate().plusDays(i));
+            project.setBudget(BigDecimal.valueOf(1000));
+            project.setClientName("Acme Corp");
+            project.getProjectManagers().add(alice);
+            project.getProjectManagers().add(bob);
+            projects.add(project);
+        }
+        firstProject = projectRepository.saveAll(projects).get(0);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        deleteAll(projectRepository, projectManagerRepository, projectCache);
+    }
+
+    @Test
+    void listEndpointsUseConstantNumberOfStatements() throws Exception {
+        long pmId = alice.getId();
+
+        // The first list of a manager also reads their list version, which later requests reuse
+        assertStatements(get("/projects/pm/{pmId}", pmId), 2);
+        assertStatements(get("/projects/pm/{pmId}", pmId), 1);
+        assertStatements(get("/projects/pm/email/{email}", "alice@company.com"), 1);
+        assertStatements(get("/projects/pm/employee/{employeeId}", "EMP1"), 1);
+        assertStatements(get("/projects/pm/{pmId}/status/{status}", pmId, "IN_PROGRESS"), 1);
+        assertStatements(get("/projects/pm/{pmId}/daterange", pmId)
+                .param("startDate", "2024-01-01")
+                .param("endDate", "2024-12-31"), 1);
+        // Answered from the in-memory assignment graph
+        assertStatements(get("/projects/pm/{pmId}/count", pmId), 0);
+        assertStatements(get("/projects"), 1);
+        assertStatements(get("/projects/search").param("clientName", "acme"), 1);
+    }
+
+    @Test
+    void managerScopedQueriesStillReturnEveryManagerOfAProject() throws Exception {
+        mockMvc.perform(get("/projects/pm/{pmId}", alice.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(PROJECT_COUNT))
+            .andExpect(jsonPath("$[0].projectManagers.length()").value(2));
+
+        mockMvc.perform(get("/projects/search").param("pmId", String.valueOf(alice.getId())))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(PROJECT_COUNT))
+            .andExpect(jsonPath("$[0].projectManagers.length()").value(2));
+    }
+
+    @Test
+    void paginatedEndpointBatchesManagerLoading() throws Exception {
+        // page query + count query + one batched manager load
+        assertStatements(get("/projects/pm/{pmId}/paginated", alice.getId()).param("size", "20"), 3);
+    }
+
+    @Test
+    void unknownProjectManagerIsStillNotFound() throws Exception {
+        long unknownPmId = alice.getId() + 1000;
+
+        for (String path : List.of("/projects/pm/{pmId}", "/projects/pm/{pmId}/paginated",
+                                   "/projects/pm/{pmId}/keyset", "/projects/pm/{pmId}/status/PLANNING",
+                                   "/projects/pm/{pmId}/count")) {
+            mockMvc.perform(get(path, unknownPmId)).andExpect(status().isNotFound());
+        }
+        mockMvc.perform(get("/projects/pm/{pmId}/daterange", unknownPmId)
+                .param("startDate", "2024-01-01")
+                .param("endDate", "2024-12-31"))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void projectManagerWithoutMatchingProjectsIsNotAnError() throws Exception {
+        ProjectManager idle = projectManagerRepository.save(manager("Idle Manager", "idle@company.com", "EMP3", "Engineering"));
+
+        mockMvc.perform(get("/projects/pm/{pmId}", idle.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(0));
+        mockMvc.perform(get("/projects/pm/{pmId}/count", idle.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$").value(0));
+        mockMvc.perform(get("/projects/pm/{pmId}/status/{status}", alice.getId(), "COMPLETED"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    void singleProjectEndpointsFetchManagersWithProject() throws Exception {
+        assertStatements(get("/projects/{projectId}", firstProject.getId()), 1);
+        assertStatements(get("/projects/code/{projectCode}", "PRJ0"), 1);
+    }
+
+    private void assertStatements(RequestBuilder request, long expected) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(request).andExpect(status().isOk());
+
+        assertThat(statistics.getPrepareStatementCount())
+            .as("statements for %s", request)
+            .isEqualTo(expected);
+    }
+}
@@ -0,0 +1,136 @@
+package com.projectmanagement.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanagement.cache.ProjectCache;
+import com.projectmanagement.entity.Project;
+import com.projectmanagement.entity.ProjectManager;
+import com.projectmanagement.repository.ProjectManagerRepository;
+import com.projectmanagement.repository.ProjectRepository;
+import com.projectmanagement.service.ProjectService;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.projectmanagement.TestData.deleteAll;
+import static com.projectmanagement.TestData.manager;
+import static com.projectmanagement.TestData.project;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProjectExportTests {
+
+    private static final int PROJECT_COUNT = 1201;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectManagerRepository projectManagerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ProjectCache projectCache;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void seed() {
+        transactionTemplate.executeWithoutResult(tx -> {
+            ProjectManager pm = projectManagerRepository.save(manager("Alice Smith", "alice@company.com"));
+
+            for (int i = 0; i < PROJECT_COUNT; i++) {
+                Project project = project("EXP" + i);
+                if (i % 2 == 0) {
+                    project.getProjectManagers().add(pm);
+                }
+                projectRepository.save(project);
+            }
+        });
+        jdbcTemplate.update("UPDATE projects SET is_active = FALSE WHERE project_code = 'EXP0'");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        deleteAll(projectRepository, projectManagerRepository, projectCache);
+    }
+
+    @Test
+    void streamsEveryActiveProjectAsOneJsonLine() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        MvcResult started = mockMvc.perform(get("/projects/export"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.strip().split("\n");
+        assertThat(lines).hasSize(PROJECT_COUNT - 1);
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("projectCode").asText()).isEqualTo("EXP1");
+        assertThat(first.get("projectManagers")).isEmpty();
+        assertThat(objectMapper.readTree(lines[1]).get("projectManagers")).hasSize(1);
+
+        // one streaming query plus one manager query per chunk of 500
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+    }
+
+    @Test
+    void readsOnItsOwnPoolWithoutHoldingAnApplicationConnection() throws Exception {
+        HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+        List<Integer> connectionsInUse = new ArrayList<>();
+
+        long exported = projectService.exportActiveProjects(project -> connectionsInUse.add(pool.getActiveConnections()));
+
+        assertThat(exported).isEqualTo(PROJECT_COUNT - 1);
+        assertThat(connectionsInUse).hasSize(PROJECT_COUNT - 1).containsOnly(0);
+    }
+}
@@ -0,0 +1,139 @@
+package com.projectmanagement.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanagement.cache.ProjectCache;
+import com.projectmanagement.entity.Project;
+import com.projectmanagement.entity.ProjectManager;
+import com.projectmanagement.repository.ProjectManagerRepository;
+import com.projectmanagement.repository.ProjectRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.projectmanagement.TestData.deleteAll;
+import static com.projectmanagement.TestData.manager;
+import static com.projectmanagement.TestData.project;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProjectKeysetPaginationTests {
+
+    private static final int PROJECT_COUNT = 23;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectManagerRepository projectManagerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ProjectCache projectCache;
+
+    private Long pmId;
+
+    @BeforeEach
+    void seed() {
+        transactionTemplate.executeWithoutResult(tx -> {
+            ProjectManager pm = projectManagerRepository.save(manager("Alice Smith", "alice@company.com"));
+            pmId = pm.getId();
+
+            for (int i = 0; i < PROJECT_COUNT; i++) {
+                Project project = project("KEY" + i);
+                project.getProjectManagers().add(pm);
+                projectRepository.save(project);
+            }
+        });
+        // Force ties on updated_at so the id tie-breaker is exercised
+        jdbcTemplate.update("UPDATE projects SET updated_at = TIMESTAMP '2024-05-01 10:00:00' WHERE MOD(project_id, 2) = 0");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        deleteAll(projectRepository, projectManagerRepository, projectCache);
+    }
+
+    @Test
+    void walksEveryProjectManagerProjectExactlyOnceInOrder() throws Exception {
+        List<Long> expected = jdbcTemplate.queryForList(
+            "SELECT project_id FROM projects ORDER BY updated_at DESC, project_id DESC", Long.class);
+
+        assertThat(walk("/projects/pm/" + pmId + "/keyset", 5)).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void walksEveryActiveProjectExactlyOnceInOrder() throws Exception {
+        jdbcTemplate.update("UPDATE projects SET is_active = FALSE WHERE project_id = (SELECT MIN(project_id) FROM projects)");
+        List<Long> expected = jdbcTemplate.queryForList(
+            "SELECT project_id FROM projects WHERE is_active = TRUE ORDER BY updated_at DESC, project_id DESC", Long.class);
+
+        assertThat(walk("/projects/keyset", 4)).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void totalIsOnlyReturnedWhenRequested() throws Exception {
+        mockMvc.perform(get("/projects/pm/{pmId}/keyset", pmId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalElements").doesNotExist())
+            .andExpect(jsonPath("$.hasNext").value(true));
+
+        mockMvc.perform(get("/projects/pm/{pmId}/keyset", pmId).param("includeTotal", "true"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalElements").value(PROJECT_COUNT));
+    }
+
+    @Test
+    void rejectsMalformedCursorAndUnknownManager() throws Exception {
+        mockMvc.perform(get("/projects/keyset").param("cursor", "not-a-cursor"))
+            .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/projects/pm/{pmId}/keyset", pmId + 1000))
+            .andExpect(status().isNotFound());
+    }
+
+    private List<Long> walk(String path, int size) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            var request = get(path).param("size", String.valueOf(size));
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            String body = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+            JsonNode page = objectMapper.readTree(body);
+            page.get("content").forEach(project -> ids.add(project.get("id").asLong()));
+            cursor = page.path("nextCursor").isTextual() ? page.get("nextCursor").asText() : null;
+        } while (cursor != null);
+        return ids;
+    }
+}
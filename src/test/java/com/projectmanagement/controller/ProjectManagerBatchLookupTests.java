@@ -0,0 +1,187 @@
+package com.projectmanagement.controller;
+
+import com.projectmanagement.cache.ProjectCache;
+import com.projectmanagement.entity.Project;
+import com.projectmanagement.entity.ProjectManager;
+import com.projectmanagement.repository.ProjectManagerRepository;
+import com.projectmanagement.repository.ProjectRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.projectmanagement.TestData.deleteAll;
+import static com.projectmanagement.TestData.manager;
+import static com.projectmanagement.TestData.project;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Case-insensitive text columns, as with the MySQL collation
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:batch-lookups;IGNORECASE=TRUE",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProjectManagerBatchLookupTests {
+
+    private static final int MANAGER_COUNT = 20;
+    private static final int PROJECTS_PER_MANAGER = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectManagerRepository projectManagerRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ProjectCache projectCache;
+
+    private List<ProjectManager> managers;
+    private Project shared;
+
+    @BeforeEach
+    void seed() {
+        transactionTemplate.executeWithoutResult(tx -> {
+            managers = new ArrayList<>();
+            List<Project> projects = new ArrayList<>();
+            for (int m = 0; m < MANAGER_COUNT; m++) {
+                ProjectManager pm = projectManagerRepository.save(
+                    manager("Manager " + m, "pm" + m + "@company.com", "EMP" + m, "Engineering"));
+                managers.add(pm);
+                for (int p = 0; p < PROJECTS_PER_MANAGER; p++) {
+                    Project project = project("PM" + m + "P" + p);
+                    project.getProjectManagers().add(pm);
+                    projects.add(project);
+                }
+            }
+            shared = project("SHARED");
+            shared.getProjectManagers().add(managers.get(0));
+            shared.getProjectManagers().add(managers.get(1));
+            projects.add(shared);
+            projectRepository.saveAll(projects);
+        });
+    }
+
+    @AfterEach
+    void cleanUp() {
+        deleteAll(projectRepository, projectManagerRepository, projectCache);
+    }
+
+    @Test
+    void statementCountDoesNotGrowWithTheNumberOfManagers() throws Exception {
+        String few = "{\"pmIds\":[" + managers.get(0).getId() + "]}";
+        String all = "{\"pmIds\":[" + managers.stream().map(pm -> pm.getId().toString())
+            .collect(Collectors.joining(",")) + "]}";
+
+        assertThat(statements(few)).isEqualTo(2);
+        assertThat(statements(all)).isEqualTo(2);
+
+        batch(all)
+            .andExpect(jsonPath("$.projectManagers.length()").value(MANAGER_COUNT))
+            .andExpect(jsonPath("$.projects.length()").value(MANAGER_COUNT * PROJECTS_PER_MANAGER + 1));
+    }
+
+    @Test
+    void sharedProjectsAreReturnedOnceAndReferencedById() throws Exception {
+        String request = "{\"pmIds\":[" + managers.get(0).getId() + "],\"emails\":[\"pm1@company.com\"]}";
+
+        batch(request)
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.projectManagers.length()").value(2))
+            .andExpect(jsonPath("$.projectManagers[0].id").value(managers.get(0).getId()))
+            .andExpect(jsonPath("$.projectManagers[0].projectIds.length()").value(PROJECTS_PER_MANAGER + 1))
+            .andExpect(jsonPath("$.projectManagers[1].email").value("pm1@company.com"))
+            .andExpect(jsonPath("$.projectManagers[1].projectIds.length()").value(PROJECTS_PER_MANAGER + 1))
+            .andExpect(jsonPath("$.projects.length()").value(2 * PROJECTS_PER_MANAGER + 1))
+            .andExpect(jsonPath("$.projects['" + shared.getId() + "'].projectManagers.length()").value(2));
+    }
+
+    @Test
+    void managersMatchedBySeveralIdentifiersAppearOnce() throws Exception {
+        String request = "{\"pmIds\":[" + managers.get(2).getId() + "],\"emails\":[\"pm2@company.com\"]," +
+            "\"employeeIds\":[\"EMP2\",\"EMP3\"]}";
+
+        batch(request)
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.projectManagers.length()").value(2))
+            .andExpect(jsonPath("$.projectManagers[0].id").value(managers.get(2).getId()))
+            .andExpect(jsonPath("$.projectManagers[1].employeeId").value("EMP3"));
+    }
+
+    @Test
+    void unknownIdentifiersAreReportedRatherThanFailingTheBatch() throws Exception {
+        long unknownId = managers.get(MANAGER_COUNT - 1).getId() + 1000;
+        String request = "{\"pmIds\":[" + unknownId + "],\"emails\":[\"nobody@company.com\"]," +
+            "\"employeeIds\":[\"EMP0\"]}";
+
+        batch(request)
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.projectManagers.length()").value(1))
+            .andExpect(jsonPath("$.notFound.pmIds[0]").value(unknownId))
+            .andExpect(jsonPath("$.notFound.emails[0]").value("nobody@company.com"))
+            .andExpect(jsonPath("$.notFound.employeeIds.length()").value(0));
+
+        batch("{\"emails\":[\"nobody@company.com\"]}")
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.projectManagers.length()").value(0))
+            .andExpect(jsonPath("$.projects.length()").value(0));
+    }
+
+    @Test
+    void emailsAndEmployeeIdsMatchRegardlessOfCaseAndSurroundingSpaces() throws Exception {
+        String request = "{\"emails\":[\" PM4@Company.COM \",\"nobody@company.com\"],\"employeeIds\":[\"emp5\"]}";
+
+        batch(request)
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.projectManagers.length()").value(2))
+            .andExpect(jsonPath("$.projectManagers[0].id").value(managers.get(4).getId()))
+            .andExpect(jsonPath("$.projectManagers[1].id").value(managers.get(5).getId()))
+            .andExpect(jsonPath("$.projects.length()").value(2 * PROJECTS_PER_MANAGER))
+            .andExpect(jsonPath("$.notFound.emails.length()").value(1))
+            .andExpect(jsonPath("$.notFound.emails[0]").value("nobody@company.com"))
+            .andExpect(jsonPath("$.notFound.employeeIds.length()").value(0));
+    }
+
+    @Test
+    void emptyRequestIsRejected() throws Exception {
+        batch("{}").andExpect(status().isBadRequest());
+        batch("{\"pmIds\":[]}").andExpect(status().isBadRequest());
+    }
+
+    private long statements(String request) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        batch(request).andExpect(status().isOk());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private ResultActions batch(String request) throws Exception {
+        return mockMvc.perform(post("/projects/pm/batch").contentType(MediaType.APPLICATION_JSON).content(request));
+    }
+}
@@ -0,0 +1,183 @@
+package com.projectmanagement.controller;
+
+import com.projectmanagement.cache.ProjectCache;
+import com.projectmanagement.directory.ProjectManagerRegistry;
+import com.projectmanagement.entity.Project;
+import com.projectmanagement.entity.ProjectManager;
+import com.projectmanagement.repository.ProjectManagerRepository;
+import com.projectmanagement.repository.ProjectRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static com.projectmanagement.TestData.deleteAll;
+import static com.projectmanagement.TestData.manager;
+import static com.projectmanagement.TestData.project;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProjectManagerControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectManagerRepository projectManagerRepository;
+
+    @Autowired
+    private ProjectManagerRegistry projectManagerRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProjectCache projectCache;
+
+    private ProjectManager alice;
+    private ProjectManager bob;
+
+    @BeforeEach
+    void seed() {
+        transactionTemplate.executeWithoutResult(tx -> {
+            alice = projectManagerRepository.save(manager("Alice Smith", "alice@company.com", "EMP1", "Engineering"));
+            bob = projectManagerRepository.save(manager("Bob Johnson", "bob@company.com", "EMP2", "Sales"));
+            projectManagerRepository.save(manager("Alicia Keys", "alicia@company.com", "EMP3", "Engineering"));
+            ProjectManager retired = manager("Alan Retired", "alan@company.com", "EMP4", "Engineering");
+            retired.setIsActive(false);
+            projectManagerRepository.save(retired);
+
+            Project project = project("APOLLO");
+            project.getProjectManagers().add(alice);
+            projectRepository.save(project);
+        });
+    }
+
+    @AfterEach
+    void cleanUp() {
+        deleteAll(projectRepository, projectManagerRepository, projectCache);
+    }
+
+    @Test
+    void directoryLookupsDoNotQueryTheDatabase() throws Exception {
+        assertNoStatements(get("/project-managers"));
+        assertNoStatements(get("/project-managers/{pmId}", alice.getId()));
+        assertNoStatements(get("/project-managers/email/{email}", "ALICE@company.com"));
+        assertNoStatements(get("/project-managers/employee/{employeeId}", "EMP2"));
+        assertNoStatements(get("/project-managers").param("department", "engineering"));
+        assertNoStatements(get("/project-managers").param("name", "ali"));
+    }
+
+    @Test
+    void listsAreActiveManagersOrderedByName() throws Exception {
+        mockMvc.perform(get("/project-managers"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(3))
+            .andExpect(jsonPath("$[0].name").value("Alice Smith"))
+            .andExpect(jsonPath("$[1].name").value("Alicia Keys"))
+            .andExpect(jsonPath("$[2].name").value("Bob Johnson"));
+
+        mockMvc.perform(get("/project-managers").param("department", "Engineering"))
+            .andExpect(jsonPath("$.length()").value(2));
+        mockMvc.perform(get("/project-managers").param("name", "ali"))
+            .andExpect(jsonPath("$.length()").value(2));
+        mockMvc.perform(get("/project-managers").param("name", "ali smi"))
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$[0].email").value("alice@company.com"));
+        mockMvc.perform(get("/project-managers").param("name", "ali").param("department", "Sales"))
+            .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    void inactiveManagersAreOnlyFoundById() throws Exception {
+        mockMvc.perform(get("/project-managers/email/{email}", "alan@company.com"))
+            .andExpect(status().isNotFound());
+        mockMvc.perform(get("/project-managers/employee/{employeeId}", "EMP4"))
+            .andExpect(status().isNotFound());
+        mockMvc.perform(get("/project-managers/{pmId}", projectManagerRegistry.findIdByEmail("alan@company.com")))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.isActive").value(false));
+    }
+
+    @Test
+    void writesThroughJpaRefreshTheDirectory() throws Exception {
+        transactionTemplate.executeWithoutResult(tx -> {
+            ProjectManager pm = projectManagerRepository.findById(bob.getId()).orElseThrow();
+            pm.setEmail("robert@company.com");
+            pm.setDepartment("Engineering");
+        });
+
+        assertNoStatements(get("/project-managers/email/{email}", "robert@company.com"));
+        mockMvc.perform(get("/project-managers/email/{email}", "bob@company.com"))
+            .andExpect(status().isNotFound());
+        mockMvc.perform(get("/project-managers").param("department", "Engineering"))
+            .andExpect(jsonPath("$.length()").value(3));
+    }
+
+    @Test
+    void managersMissingFromTheDirectoryFallBackToTheDatabase() throws Exception {
+        jdbcTemplate.update("INSERT INTO project_managers (pm_id, name, email, employee_id, is_active, created_at) " +
+                            "VALUES (?, 'Carol White', 'carol@company.com', 'EMP5', true, CURRENT_TIMESTAMP)",
+                            alice.getId() + 500);
+
+        mockMvc.perform(get("/project-managers/email/{email}", "carol@company.com"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.name").value("Carol White"));
+        mockMvc.perform(get("/project-managers/{pmId}", alice.getId() + 1000))
+            .andExpect(status().isNotFound());
+
+        projectManagerRegistry.rebuild();
+        assertNoStatements(get("/project-managers/employee/{employeeId}", "EMP5"));
+    }
+
+    @Test
+    void projectsByEmailResolveTheManagerFromTheDirectory() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/projects/pm/email/{email}", "alice@company.com"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$[0].projectCode").value("APOLLO"));
+        mockMvc.perform(get("/projects/pm/employee/{employeeId}", "EMP2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(0));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private void assertNoStatements(RequestBuilder request) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(request).andExpect(status().isOk());
+
+        assertThat(statistics.getPrepareStatementCount())
+            .as("statements for %s", request)
+            .isZero();
+    }
+}
@@ -0,0 +1,145 @@
+package com.projectmanagement.controller;
+
+import com.projectmanagement.cache.ProjectCache;
+import com.projectmanagement.entity.Project;
+import com.projectmanagement.entity.ProjectManager;
+import com.projectmanagement.entity.ProjectStatus;
+import com.projectmanagement.repository.ProjectManagerRepository;
+import com.projectmanagement.repository.ProjectRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+import static com.projectmanagement.TestData.deleteAll;
+import static com.projectmanagement.TestData.manager;
+import static com.projectmanagement.TestData.project;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProjectSummaryFieldsTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectManagerRepository projectManagerRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ProjectCache projectCache;
+
+    private ProjectManager alice;
+
+    @BeforeEach
+    void seed() {
+        alice = transactionTemplate.execute(tx -> {
+            ProjectManager pm = projectManagerRepository.save(manager("Alice Smith", "alice@company.com", "EMP1", null));
+
+            for (int i = 0; i < 3; i++) {
+                Project project = project("SUM" + i);
+                project.setDescription("A long description that summaries leave out");
+                project.setClientName("Acme Corp");
+                project.setStatus(i == 0 ? ProjectStatus.COMPLETED : ProjectStatus.IN_PROGRESS);
+                project.setStartDate(LocalDate.of(2024, 1 + i, 1));
+                project.getProjectManagers().add(pm);
+                projectRepository.save(project);
+            }
+            return pm;
+        });
+    }
+
+    @AfterEach
+    void cleanUp() {
+        deleteAll(projectRepository, projectManagerRepository, projectCache);
+    }
+
+    @Test
+    void summaryReturnsOnlyTheSummaryFieldsWithoutLoadingEntities() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/projects/pm/{pmId}", alice.getId()).param("fields", "summary"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(3))
+            .andExpect(jsonPath("$[0].projectCode").exists())
+            .andExpect(jsonPath("$[0].completionPercentage").value(0))
+            .andExpect(jsonPath("$[0].version").exists())
+            .andExpect(jsonPath("$[0].description").doesNotExist())
+            .andExpect(jsonPath("$[0].projectManagers").doesNotExist());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void explicitFieldsNarrowTheSummary() throws Exception {
+        mockMvc.perform(get("/projects").param("fields", "id,name"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(3))
+            .andExpect(jsonPath("$[0].id").exists())
+            .andExpect(jsonPath("$[0].name").value("Project SUM2"))
+            .andExpect(jsonPath("$[0].projectCode").doesNotExist())
+            .andExpect(jsonPath("$[0].status").doesNotExist());
+    }
+
+    @Test
+    void everyListRouteAcceptsFields() throws Exception {
+        mockMvc.perform(get("/projects/pm/email/{email}", "alice@company.com").param("fields", "projectCode"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].projectCode", containsInAnyOrder("SUM0", "SUM1", "SUM2")));
+        mockMvc.perform(get("/projects/pm/employee/{employeeId}", "EMP1").param("fields", "projectCode"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(3));
+        mockMvc.perform(get("/projects/pm/{pmId}/status/{status}", alice.getId(), ProjectStatus.COMPLETED)
+                .param("fields", "projectCode,status"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$[0].projectCode").value("SUM0"))
+            .andExpect(jsonPath("$[0].status").value("COMPLETED"));
+        mockMvc.perform(get("/projects/pm/{pmId}/daterange", alice.getId())
+                .param("startDate", "2024-02-01").param("endDate", "2024-12-31").param("fields", "summary"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].projectCode", containsInAnyOrder("SUM1", "SUM2")));
+        mockMvc.perform(get("/projects/search").param("clientName", "acme").param("fields", "summary"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(3))
+            .andExpect(jsonPath("$[0].projectManagers").doesNotExist());
+    }
+
+    @Test
+    void unknownFieldIsRejected() throws Exception {
+        mockMvc.perform(get("/projects").param("fields", "id,description"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void unknownProjectManagerIsStillNotFound() throws Exception {
+        mockMvc.perform(get("/projects/pm/{pmId}", alice.getId() + 1000).param("fields", "summary"))
+            .andExpect(status().isNotFound());
+    }
+}
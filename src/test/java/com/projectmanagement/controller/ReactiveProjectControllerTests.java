@@ -0,0 +1,165 @@
+package com.projectmanagement.controller;
+
+import com.projectmanagement.assignment.ProjectAssignmentGraph;
+import com.projectmanagement.cache.ProjectCache;
+import com.projectmanagement.dto.ProjectDTO;
+import com.projectmanagement.entity.Project;
+import com.projectmanagement.entity.ProjectManager;
+import com.projectmanagement.repository.ProjectManagerRepository;
+import com.projectmanagement.repository.ProjectRepository;
+import com.projectmanagement.service.ReactiveProjectService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+
+import static com.projectmanagement.TestData.deleteAll;
+import static com.projectmanagement.TestData.manager;
+import static com.projectmanagement.TestData.project;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "project.reactive.page-size=2"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReactiveProjectControllerTests {
+
+    private static final int PROJECT_COUNT = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReactiveProjectService reactiveProjectService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectManagerRepository projectManagerRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ProjectCache projectCache;
+
+    @Autowired
+    private ProjectAssignmentGraph assignmentGraph;
+
+    private ProjectManager alice;
+    private Project firstProject;
+
+    @BeforeEach
+    void seed() {
+        transactionTemplate.executeWithoutResult(tx -> {
+            alice = projectManagerRepository.save(manager("Alice Smith", "alice@company.com"));
+            for (int i = 0; i < PROJECT_COUNT; i++) {
+                Project project = project("RX" + i);
+                project.setStartDate(project.getStartDate().plusDays(i));
+                project.setBudget(BigDecimal.valueOf(1000));
+                project.getProjectManagers().add(alice);
+                project = projectRepository.save(project);
+                if (firstProject == null) {
+                    firstProject = project;
+                }
+            }
+        });
+        assignmentGraph.rebuild();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        deleteAll(projectRepository, projectManagerRepository, projectCache);
+    }
+
+    @Test
+    void streamsManagerProjectsAsNewlineDelimitedJson() throws Exception {
+        String body = dispatch(get("/reactive/projects/pm/{pmId}", alice.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andReturn().getResponse().getContentAsString();
+
+        assertThat(body.lines().filter(line -> !line.isBlank())).hasSize(PROJECT_COUNT)
+            .allMatch(line -> line.contains("\"projectManagers\":[{"));
+    }
+
+    @Test
+    void writesAJsonArrayWhenAsked() throws Exception {
+        dispatch(get("/reactive/projects").accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(PROJECT_COUNT));
+        dispatch(get("/reactive/projects/pm/{pmId}/status/{status}", alice.getId(), "IN_PROGRESS")
+                .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(PROJECT_COUNT));
+    }
+
+    @Test
+    void singleReadsAndErrorsMatchTheBlockingEndpoints() throws Exception {
+        dispatch(get("/reactive/projects/{projectId}", firstProject.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.projectCode").value("RX0"));
+        dispatch(get("/reactive/projects/pm/{pmId}/count", alice.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$").value(PROJECT_COUNT));
+        dispatch(get("/reactive/projects/{projectId}", firstProject.getId() + 1000))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.error").value("Resource Not Found"));
+        dispatch(get("/reactive/projects/pm/{pmId}", alice.getId() + 1000))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void pagesAreOnlyQueriedAsTheSubscriberAsksForMore() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        Flux<ProjectDTO> projects = reactiveProjectService.getAllActiveProjects();
+        assertThat(statistics.getQueryExecutionCount()).isZero();
+
+        StepVerifier.create(projects, 1)
+            .expectNextCount(1)
+            .then(() -> assertThat(statistics.getQueryExecutionCount()).isEqualTo(1))
+            .thenRequest(2)
+            .expectNextCount(2)
+            .then(() -> assertThat(statistics.getQueryExecutionCount()).isEqualTo(2))
+            .thenRequest(Long.MAX_VALUE)
+            .expectNextCount(PROJECT_COUNT - 3)
+            .verifyComplete();
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(3);
+    }
+
+    private ResultActions dispatch(RequestBuilder request) throws Exception {
+        MvcResult started = mockMvc.perform(request)
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        return mockMvc.perform(asyncDispatch(started));
+    }
+}
@@ -0,0 +1,98 @@
+package com.projectmanagement.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IncrementalRefresherTests {
+
+    @Test
+    void projectsRefreshedDuringTheScanAreReloadedAfterTheSwap() {
+        IncrementalRefresher refresher = new IncrementalRefresher();
+        List<String> steps = new ArrayList<>();
+
+        String rebuilt = refresher.rebuild(() -> {
+            // The refresh lands between the scan reading project 7 and the swap
+            refresher.refresh(List.of(7L), ids -> steps.add("refresh " + ids));
+            return "view";
+        }, view -> steps.add("swap " + view), ids -> steps.add("reload " + ids));
+
+        assertThat(rebuilt).isEqualTo("view");
+        assertThat(steps).containsExactly("refresh [7]", "swap view", "reload [7]");
+    }
+
+    @Test
+    void rebuildWithoutRefreshesDoesNotReload() {
+        IncrementalRefresher refresher = new IncrementalRefresher();
+        List<Collection<Long>> reloaded = new ArrayList<>();
+
+        refresher.rebuild(() -> "view", view -> { }, reloaded::add);
+        refresher.refresh(List.of(3L), ids -> { });
+        refresher.rebuild(() -> "view", view -> { }, reloaded::add);
+
+        assertThat(reloaded).isEmpty();
+    }
+
+    @Test
+    void failedScanStopsTrackingRefreshes() {
+        IncrementalRefresher refresher = new IncrementalRefresher();
+        List<Collection<Long>> reloaded = new ArrayList<>();
+
+        assertThatThrownBy(() -> refresher.rebuild(() -> {
+            refresher.refresh(List.of(1L), ids -> { });
+            throw new IllegalStateException("scan failed");
+        }, view -> { }, reloaded::add)).hasMessage("scan failed");
+        refresher.refresh(List.of(2L), ids -> { });
+        refresher.rebuild(() -> "view", view -> { }, reloaded::add);
+
+        assertThat(reloaded).isEmpty();
+    }
+
+    @Test
+    void concurrentRebuildsRunOneAtATime() throws Exception {
+        IncrementalRefresher refresher = new IncrementalRefresher();
+        int rebuilds = 4;
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger scanning = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(rebuilds);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < rebuilds; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return refresher.rebuild(() -> {
+                        if (scanning.incrementAndGet() > 1) {
+                            overlaps.incrementAndGet();
+                        }
+                        // A refresh must not wait for the scan of another rebuild
+                        refresher.refresh(List.of(1L), ids -> { });
+                        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(20));
+                        scanning.decrementAndGet();
+                        return "view";
+                    }, view -> { }, ids -> { });
+                }));
+            }
+            start.countDown();
+            for (Future<String> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo("view");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(overlaps).hasValue(0);
+    }
+}
@@ -0,0 +1,88 @@
+package com.projectmanagement.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestMetricsInterceptorTests {
+
+    private static final String MANAGER_SQL = "select pm.* from project_managers pm where pm.pm_id=?";
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void flagsRepeatedStatementsOnSampledRequests() throws Exception {
+        RequestMetricsInterceptor interceptor = interceptor(1.0, Duration.ofSeconds(10));
+
+        handle(interceptor, 6, MANAGER_SQL);
+
+        assertThat(flagged("repeated_statement")).isEqualTo(1);
+        assertThat(flagged("statement_count")).isZero();
+        assertThat(flagged("slow")).isZero();
+        assertThat(meterRegistry.get(RequestMetricsInterceptor.STATEMENTS).summary().totalAmount()).isEqualTo(6);
+    }
+
+    @Test
+    void unsampledRequestsAreOnlyCheckedForStatementCountAndDuration() throws Exception {
+        RequestMetricsInterceptor interceptor = interceptor(0.0, Duration.ofSeconds(10));
+
+        handle(interceptor, 6, MANAGER_SQL);
+        handle(interceptor, 11, MANAGER_SQL);
+
+        assertThat(flagged("repeated_statement")).isZero();
+        assertThat(flagged("statement_count")).isEqualTo(1);
+    }
+
+    @Test
+    void flagsSlowRequests() throws Exception {
+        RequestMetricsInterceptor interceptor = interceptor(0.0, Duration.ofMillis(1));
+
+        MockHttpServletRequest request = request();
+        interceptor.preHandle(request, new MockHttpServletResponse(), null);
+        Thread.sleep(5);
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), null, null);
+
+        assertThat(flagged("slow")).isEqualTo(1);
+    }
+
+    @Test
+    void statementsOutsideRequestsAreIgnored() {
+        RequestMetrics.statementPrepared(MANAGER_SQL);
+
+        assertThat(meterRegistry.find(RequestMetricsInterceptor.STATEMENTS).summary()).isNull();
+    }
+
+    private RequestMetricsInterceptor interceptor(double sampleRate, Duration slowRequest) {
+        return new RequestMetricsInterceptor(meterRegistry,
+            new RequestDiagnosticsProperties(true, sampleRate, 10, 5, slowRequest));
+    }
+
+    private static void handle(RequestMetricsInterceptor interceptor, int statements, String sql) {
+        MockHttpServletRequest request = request();
+        interceptor.preHandle(request, new MockHttpServletResponse(), null);
+        for (int i = 0; i < statements; i++) {
+            RequestMetrics.statementPrepared(sql);
+        }
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), null, null);
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/projects/pm/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/projects/pm/{pmId}");
+        return request;
+    }
+
+    private double flagged(String reason) {
+        Counter counter = meterRegistry.find(RequestMetricsInterceptor.FLAGGED)
+            .tags("uri", "/projects/pm/{pmId}", "reason", reason).counter();
+        return counter != null ? counter.count() : 0;
+    }
+}
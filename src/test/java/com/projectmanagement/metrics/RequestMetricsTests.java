@@ -0,0 +1,111 @@
+package com.projectmanagement.metrics;
+
+import com.projectmanagement.cache.ProjectCache;
+import com.projectmanagement.entity.Project;
+import com.projectmanagement.entity.ProjectManager;
+import com.projectmanagement.repository.ProjectManagerRepository;
+import com.projectmanagement.repository.ProjectRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import static com.projectmanagement.TestData.deleteAll;
+import static com.projectmanagement.TestData.manager;
+import static com.projectmanagement.TestData.project;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class RequestMetricsTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectManagerRepository projectManagerRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ProjectCache projectCache;
+
+    private ProjectManager alice;
+
+    @BeforeEach
+    void seed() {
+        transactionTemplate.executeWithoutResult(tx -> {
+            alice = projectManagerRepository.save(manager("Alice Smith", "alice@company.com"));
+            for (int i = 0; i < 3; i++) {
+                Project project = project("MET" + i);
+                project.setBudget(BigDecimal.valueOf(1000));
+                project.getProjectManagers().add(alice);
+                projectRepository.save(project);
+            }
+        });
+    }
+
+    @AfterEach
+    void cleanUp() {
+        deleteAll(projectRepository, projectManagerRepository, projectCache);
+    }
+
+    @Test
+    void recordsStatementsAndMappingTimePerEndpoint() throws Exception {
+        String uri = "/projects/pm/{pmId}";
+        // Caches the manager's list version, so the measured request only runs the list query
+        mockMvc.perform(get(uri, alice.getId())).andExpect(status().isOk());
+        DistributionSummary statements = meterRegistry.find(RequestMetricsInterceptor.STATEMENTS)
+            .tags("method", "GET", "uri", uri).summary();
+        long before = statements != null ? statements.count() : 0;
+        double statementsBefore = statements != null ? statements.totalAmount() : 0;
+
+        mockMvc.perform(get("/projects/pm/{pmId}", alice.getId())).andExpect(status().isOk());
+
+        statements = meterRegistry.get(RequestMetricsInterceptor.STATEMENTS)
+            .tags("method", "GET", "uri", uri).summary();
+        assertThat(statements.count()).isEqualTo(before + 1);
+        assertThat(statements.totalAmount() - statementsBefore).isEqualTo(1);
+
+        Timer mapping = meterRegistry.get(RequestMetricsInterceptor.MAPPING).tags("method", "GET", "uri", uri).timer();
+        assertThat(mapping.totalTime(TimeUnit.NANOSECONDS)).isPositive();
+    }
+
+    @Test
+    void exposesPrometheusScrapeEndpoint() throws Exception {
+        mockMvc.perform(get("/projects/pm/{pmId}", alice.getId())).andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+            .andExpect(status().isOk())
+            .andExpect(content().string(containsString("http_server_requests_seconds_bucket")))
+            .andExpect(content().string(containsString("spring_data_repository_invocations_seconds_bucket")))
+            .andExpect(content().string(containsString("hikaricp_connections_acquire_seconds")))
+            .andExpect(content().string(containsString(
+                "project_request_statements_bucket{application=\"project-management-service\"")));
+    }
+}
@@ -0,0 +1,95 @@
+package com.projectmanagement.repository;
+
+import com.projectmanagement.cache.ProjectCache;
+import com.projectmanagement.entity.Project;
+import com.projectmanagement.entity.ProjectManager;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.projectmanagement.TestData.deleteAll;
+import static com.projectmanagement.TestData.manager;
+import static com.projectmanagement.TestData.project;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class ProjectIdGenerationTests {
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectManagerRepository projectManagerRepository;
+
+    @Autowired
+    private ProjectBulkRepository projectBulkRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ProjectCache projectCache;
+
+    @AfterEach
+    void cleanUp() {
+        deleteAll(projectRepository, projectManagerRepository, projectCache);
+    }
+
+    @Test
+    void persistedProjectsAreInsertedInBatches() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        transactionTemplate.executeWithoutResult(tx -> {
+            ProjectManager pm = manager("Alice Smith", "alice@company.com");
+            entityManager.persist(pm);
+            for (int i = 0; i < 120; i++) {
+                Project project = project("ID" + i);
+                project.getProjectManagers().add(pm);
+                entityManager.persist(project);
+            }
+        });
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(121);
+        // 1 manager and 3 batches of projects and of assignments, plus a read and an update per ID block
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(20);
+        assertThat(projectRepository.count()).isEqualTo(120);
+    }
+
+    @Test
+    void bulkInsertsShareTheEntityIdSequence() {
+        List<Long> ids = new ArrayList<>();
+        transactionTemplate.executeWithoutResult(tx -> {
+            ids.add(projectRepository.save(project("SEQ0")).getId());
+            List<Project> bulk = new ArrayList<>();
+            for (int i = 1; i <= 60; i++) {
+                bulk.add(project("SEQ" + i));
+            }
+            projectBulkRepository.insertAll(bulk);
+            bulk.forEach(project -> ids.add(project.getId()));
+            ids.add(projectRepository.save(project("SEQ61")).getId());
+        });
+
+        assertThat(ids).doesNotContainNull().doesNotHaveDuplicates().isSorted();
+        assertThat(projectRepository.count()).isEqualTo(62);
+        assertThat(projectRepository.findByProjectCodeAndIsActiveTrue("SEQ30")).get()
+            .extracting(Project::getId).isEqualTo(ids.get(30));
+    }
+}
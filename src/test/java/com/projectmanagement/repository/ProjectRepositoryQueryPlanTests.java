@@ -0,0 +1,180 @@
+package com.projectmanagement.repository;
+
+import com.projectmanagement.entity.ProjectStatus;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs every ProjectRepository query against H2 in MySQL mode with the schema built from the
+ * Flyway migrations, and fails if the plan of any statement it issues scans a whole table.
+ * The queries are captured as Hibernate renders them and explained with their parameters unbound.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:query-plans;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+    "spring.jpa.hibernate.ddl-auto=none",
+    "spring.sql.init.mode=always",
+    "spring.sql.init.schema-locations=" +
+        "classpath:db/migration/V1__initial_schema.sql," +
+        "classpath:db/migration/V2__cache_invalidation_outbox.sql," +
+        "classpath:db/migration/V3__project_query_indexes.sql," +
+        "classpath:db/migration/V4__project_version.sql," +
+        "classpath:db/migration/V5__pooled_ids.sql," +
+        "classpath:db/migration/V6__project_manager_list_version.sql",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "com.projectmanagement.repository.ProjectRepositoryQueryPlanTests$CapturingStatementInspector"
+})
+@ActiveProfiles("test")
+class ProjectRepositoryQueryPlanTests {
+
+    private static final List<String> capturedSql = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectExportRepository projectExportRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void noRepositoryQueryScansAWholeTable() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate start = LocalDate.of(2024, 1, 1);
+
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("findByProjectManagerId", () -> projectRepository.findByProjectManagerId(1L));
+        queries.put("findByProjectManagerIdIn", () -> projectRepository.findByProjectManagerIdIn(List.of(1L, 2L)));
+        queries.put("findByProjectManagerId(Pageable)", () -> projectRepository.findByProjectManagerId(
+            1L, PageRequest.of(0, 10, Sort.by("updatedAt").descending())));
+        queries.put("findFirstPageByProjectManagerId", () ->
+            projectRepository.findFirstPageByProjectManagerId(1L, Limit.of(10)));
+        queries.put("findPageByProjectManagerIdAfter", () ->
+            projectRepository.findPageByProjectManagerIdAfter(1L, now, 5L, Limit.of(10)));
+        queries.put("findByProjectManagerEmail", () ->
+            projectRepository.findByProjectManagerEmail("alice.smith@company.com"));
+        queries.put("findByProjectManagerEmployeeId", () ->
+            projectRepository.findByProjectManagerEmployeeId("EMP1001"));
+        queries.put("findByProjectManagerIdAndStatus", () ->
+            projectRepository.findByProjectManagerIdAndStatus(1L, ProjectStatus.PLANNING));
+        queries.put("findByProjectManagerIdAndDateRange", () ->
+            projectRepository.findByProjectManagerIdAndDateRange(1L, start, start.plusYears(1)));
+        queries.put("findSummariesByProjectManagerId", () -> projectRepository.findSummariesByProjectManagerId(1L));
+        queries.put("findSummariesByProjectManagerEmail", () ->
+            projectRepository.findSummariesByProjectManagerEmail("alice.smith@company.com"));
+        queries.put("findSummariesByProjectManagerEmployeeId", () ->
+            projectRepository.findSummariesByProjectManagerEmployeeId("EMP1001"));
+        queries.put("findSummariesByProjectManagerIdAndStatus", () ->
+            projectRepository.findSummariesByProjectManagerIdAndStatus(1L, ProjectStatus.PLANNING));
+        queries.put("findSummariesByProjectManagerIdAndDateRange", () ->
+            projectRepository.findSummariesByProjectManagerIdAndDateRange(1L, start, start.plusYears(1)));
+        queries.put("countProjectsByProjectManagerId", () -> projectRepository.countProjectsByProjectManagerId(1L));
+        queries.put("countActiveProjectsOfExistingProjectManager", () ->
+            projectRepository.countActiveProjectsOfExistingProjectManager(1L));
+        queries.put("findWithProjectManagersById", () -> projectRepository.findWithProjectManagersById(1L));
+        queries.put("findByProjectCodeAndIsActiveTrue", () -> projectRepository.findByProjectCodeAndIsActiveTrue("PRJ1001"));
+        queries.put("findWithProjectManagersByIdIn", () -> projectRepository.findWithProjectManagersByIdIn(List.of(1L, 2L)));
+        queries.put("streamSearchableFields", () -> transactionTemplate.executeWithoutResult(tx ->
+            consume(projectRepository.streamSearchableFields())));
+        queries.put("findSearchableFieldsByIds", () -> projectRepository.findSearchableFieldsByIds(List.of(1L, 2L)));
+        queries.put("streamStatsFields", () -> transactionTemplate.executeWithoutResult(tx ->
+            consume(projectRepository.streamStatsFields())));
+        queries.put("findStatsFieldsWithManagersByIds", () ->
+            projectRepository.findStatsFieldsWithManagersByIds(List.of(1L, 2L)));
+        queries.put("streamActiveProjectManagerDepartments", () -> transactionTemplate.executeWithoutResult(tx ->
+            consume(projectRepository.streamActiveProjectManagerDepartments())));
+        queries.put("streamActiveAssignments", () -> transactionTemplate.executeWithoutResult(tx ->
+            consume(projectRepository.streamActiveAssignments())));
+        queries.put("findActiveAssignmentsByProjectIds", () ->
+            projectRepository.findActiveAssignmentsByProjectIds(List.of(1L, 2L)));
+        queries.put("findSharedByProjectManagerIds", () -> projectRepository.findSharedByProjectManagerIds(1L, 2L));
+        queries.put("findProjectManagerIdsByProjectIds", () ->
+            projectRepository.findProjectManagerIdsByProjectIds(List.of(1L, 2L)));
+        queries.put("findVersionById", () -> projectRepository.findVersionById(1L));
+        queries.put("findVersionByProjectCode", () -> projectRepository.findVersionByProjectCode("PRJ1001"));
+        queries.put("findProjectCodesByIds", () -> projectRepository.findProjectCodesByIds(List.of(1L, 2L)));
+        queries.put("findExistingProjectCodes", () -> projectRepository.findExistingProjectCodes(List.of("PRJ1001")));
+        queries.put("findByProjectCodeInAndIsActiveTrue", () ->
+            projectRepository.findByProjectCodeInAndIsActiveTrue(List.of("PRJ1001", "PRJ1002")));
+        queries.put("findByIsActiveTrueOrderByUpdatedAtDesc", () -> projectRepository.findByIsActiveTrueOrderByUpdatedAtDesc());
+        queries.put("findActiveSummaries", () -> projectRepository.findActiveSummaries());
+        queries.put("findFirstPageOfActiveProjects", () -> projectRepository.findFirstPageOfActiveProjects(Limit.of(20)));
+        queries.put("findPageOfActiveProjectsAfter", () ->
+            projectRepository.findPageOfActiveProjectsAfter(now, 5L, Limit.of(20)));
+        queries.put("countByIsActiveTrue", () -> projectRepository.countByIsActiveTrue());
+        queries.put("ProjectExportRepository.forEachActiveProject", () ->
+            projectExportRepository.forEachActiveProject((project, managers) -> { }));
+        queries.put("findProjectsWithFilters(all)", () -> projectRepository.findProjectsWithFilters(null, null, null));
+        queries.put("findProjectsWithFilters(status)", () ->
+            projectRepository.findProjectsWithFilters(null, ProjectStatus.IN_PROGRESS, null));
+        queries.put("findProjectsWithFilters(pm, status, client)", () ->
+            projectRepository.findProjectsWithFilters(1L, ProjectStatus.IN_PROGRESS, "acme"));
+        queries.put("findSummariesWithFilters(all)", () -> projectRepository.findSummariesWithFilters(null, null, null));
+        queries.put("findSummariesWithFilters(pm, status, client)", () ->
+            projectRepository.findSummariesWithFilters(1L, ProjectStatus.IN_PROGRESS, "acme"));
+
+        List<String> fullScans = new ArrayList<>();
+        queries.forEach((name, query) -> {
+            capturedSql.clear();
+            query.run();
+            assertThat(capturedSql).as("statements issued by %s", name).isNotEmpty();
+            for (String sql : capturedSql) {
+                String plan = explain(sql);
+                if (plan.toLowerCase(Locale.ROOT).contains("tablescan")) {
+                    fullScans.add(name + ":\n" + plan);
+                }
+            }
+        });
+
+        assertThat(fullScans).as("queries planned with a full table scan").isEmpty();
+    }
+
+    // Streams only issue their query once consumed
+    private static void consume(Stream<?> rows) {
+        try (rows) {
+            rows.findFirst();
+        }
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.query("EXPLAIN " + sql, statement -> { }, resultSet -> {
+            StringBuilder plan = new StringBuilder();
+            while (resultSet.next()) {
+                plan.append(resultSet.getString(1));
+            }
+            return plan.toString();
+        });
+    }
+
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        @Override
+        public String inspect(String sql) {
+            capturedSql.add(sql);
+            return sql;
+        }
+    }
+}
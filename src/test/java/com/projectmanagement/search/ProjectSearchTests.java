@@ -0,0 +1,166 @@
+package com.projectmanagement.search;
+
+import com.projectmanagement.TestData;
+import com.projectmanagement.cache.ProjectCache;
+import com.projectmanagement.entity.Project;
+import com.projectmanagement.repository.ProjectManagerRepository;
+import com.projectmanagement.repository.ProjectRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static com.projectmanagement.TestData.deleteAll;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProjectSearchTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectManagerRepository projectManagerRepository;
+
+    @Autowired
+    private ProjectCache projectCache;
+
+    @Autowired
+    private ProjectSearchIndex projectSearchIndex;
+
+    private Project portal;
+    private Project billing;
+    private Project archive;
+
+    @BeforeEach
+    void seed() {
+        portal = project("SRC1", "Customer Portal", "Acme Corp", "Java, Spring Boot", "Self-service portal");
+        billing = project("SRC2", "Billing Engine", "Globex", "Go, PostgreSQL", "Invoices for Acme portal users");
+        archive = project("SRC3", "Document Archive", "Initech", "Python", "Long-term storage");
+        archive.setIsActive(false);
+        projectRepository.saveAll(List.of(portal, billing, archive));
+        projectSearchIndex.rebuild();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        deleteAll(projectRepository, projectManagerRepository, projectCache);
+        projectSearchIndex.rebuild();
+    }
+
+    @Test
+    void matchesSubstringsAcrossFieldsRankedByField() throws Exception {
+        // "portal" is in the first project's name and only in the second one's description
+        mockMvc.perform(get("/projects/search").param("q", "PORTAL"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalElements").value(2))
+            .andExpect(jsonPath("$.content[0].projectCode").value("SRC1"))
+            .andExpect(jsonPath("$.content[1].projectCode").value("SRC2"))
+            .andExpect(jsonPath("$.content[0].projectManagers").isArray());
+
+        mockMvc.perform(get("/projects/search").param("q", "acm"))
+            .andExpect(jsonPath("$.totalElements").value(2))
+            .andExpect(jsonPath("$.content[0].projectCode").value("SRC1"));
+
+        mockMvc.perform(get("/projects/search").param("q", "ngine"))
+            .andExpect(jsonPath("$.content[0].projectCode").value("SRC2"));
+    }
+
+    @Test
+    void everyTermMustMatchAndShortTermsMatchWholeWords() throws Exception {
+        mockMvc.perform(get("/projects/search").param("q", "acme invoices"))
+            .andExpect(jsonPath("$.totalElements").value(1))
+            .andExpect(jsonPath("$.content[0].projectCode").value("SRC2"));
+
+        mockMvc.perform(get("/projects/search").param("q", "go"))
+            .andExpect(jsonPath("$.totalElements").value(1))
+            .andExpect(jsonPath("$.content[0].projectCode").value("SRC2"));
+
+        mockMvc.perform(get("/projects/search").param("q", "storage"))
+            .andExpect(jsonPath("$.totalElements").value(0));
+    }
+
+    @Test
+    void resultsArePaged() throws Exception {
+        mockMvc.perform(get("/projects/search").param("q", "portal").param("page", "1").param("size", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalElements").value(2))
+            .andExpect(jsonPath("$.content.length()").value(1))
+            .andExpect(jsonPath("$.content[0].projectCode").value("SRC2"));
+
+        mockMvc.perform(get("/projects/search").param("q", " "))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/projects/search").param("q", "portal").param("page", "-1"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/projects/search").param("q", "portal").param("size", "0"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void indexRanksOnlyUpToTheLimitButCountsEveryMatch() {
+        ProjectSearchIndex.SearchResult result = projectSearchIndex.search("portal", 1);
+        assertThat(result.ids()).containsExactly(portal.getId());
+        assertThat(result.total()).isEqualTo(2);
+
+        assertThat(projectSearchIndex.search("portal", 10).ids()).containsExactly(portal.getId(), billing.getId());
+        assertThat(projectSearchIndex.search("portal", 0).ids()).isEmpty();
+    }
+
+    @Test
+    void longTermsMatchAsAWholeNotTrigramByTrigram() {
+        assertThat(projectSearchIndex.search("lf-serv", 10).ids()).containsExactly(portal.getId());
+        // Every trigram of the term occurs in the description, but not the term itself
+        assertThat(projectSearchIndex.search("lf-self", 10).total()).isZero();
+    }
+
+    @Test
+    void writesKeepTheIndexCurrent() throws Exception {
+        mockMvc.perform(post("/projects").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Warehouse Robots\",\"projectCode\":\"SRC4\",\"status\":\"PLANNING\"," +
+                         "\"startDate\":\"2024-01-01\",\"clientName\":\"Umbrella\"}"))
+            .andExpect(status().isCreated());
+        mockMvc.perform(get("/projects/search").param("q", "robot"))
+            .andExpect(jsonPath("$.content[0].projectCode").value("SRC4"));
+
+        mockMvc.perform(put("/projects/{projectId}", portal.getId()).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Partner Gateway\",\"status\":\"IN_PROGRESS\"}"))
+            .andExpect(status().isOk());
+        mockMvc.perform(get("/projects/search").param("q", "gateway"))
+            .andExpect(jsonPath("$.content[0].projectCode").value("SRC1"));
+        mockMvc.perform(get("/projects/search").param("q", "customer"))
+            .andExpect(jsonPath("$.totalElements").value(0));
+
+        mockMvc.perform(delete("/projects/{projectId}", billing.getId())).andExpect(status().isNoContent());
+        mockMvc.perform(get("/projects/search").param("q", "billing"))
+            .andExpect(jsonPath("$.totalElements").value(0));
+
+        assertThat(projectSearchIndex.size()).isEqualTo(2);
+    }
+
+    private static Project project(String code, String name, String client, String stack, String description) {
+        Project project = TestData.project(code);
+        project.setName(name);
+        project.setClientName(client);
+        project.setTechnologyStack(stack);
+        project.setDescription(description);
+        return project;
+    }
+}
@@ -0,0 +1,156 @@
+package com.projectmanagement.service;
+
+import com.projectmanagement.cache.ProjectCache;
+import com.projectmanagement.dto.ProjectDTO;
+import com.projectmanagement.entity.ProjectManager;
+import com.projectmanagement.entity.ProjectStatus;
+import com.projectmanagement.exception.ResourceNotFoundException;
+import com.projectmanagement.repository.ProjectManagerRepository;
+import com.projectmanagement.repository.ProjectRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static com.projectmanagement.TestData.deleteAll;
+import static com.projectmanagement.TestData.manager;
+import static org.assertj.core.api.Assertions.assertThat;
+import static com.projectmanagement.TestData.deleteAll;
+import static com.projectmanagement.TestData.manager;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+    // Case-insensitive text columns, as with the MySQL collation
+    "spring.datasource.url=jdbc:h2:mem:project-cache;IGNORECASE=TRUE",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+class ProjectCacheTests {
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectManagerRepository projectManagerRepository;
+
+    @Autowired
+    private ProjectCache projectCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private ProjectDTO project;
+    private ProjectManager pm;
+
+    @BeforeEach
+    void seed() {
+        pm = projectManagerRepository.save(manager("Alice Smith", "alice@company.com"));
+
+        ProjectDTO dto = new ProjectDTO();
+        dto.setName("Cached Project");
+        dto.setProjectCode("CACHE1");
+        dto.setStatus(ProjectStatus.PLANNING);
+        dto.setStartDate(LocalDate.of(2024, 1, 1));
+        project = projectService.createProject(dto);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        deleteAll(projectRepository, projectManagerRepository, projectCache);
+    }
+
+    @Test
+    void repeatedReadsAreServedFromCache() {
+        Statistics statistics = statistics();
+
+        projectService.getProjectById(project.getId());
+        projectService.getProjectByCode("CACHE1");
+        long afterFirstReads = statistics.getPrepareStatementCount();
+
+        projectService.getProjectById(project.getId());
+        projectService.getProjectByCode("CACHE1");
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(afterFirstReads);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "projects.byId").tag("result", "hit")
+            .functionCounter().count()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    void updateEvictsBothKeys() {
+        projectService.getProjectById(project.getId());
+        projectService.getProjectByCode("CACHE1");
+
+        ProjectDTO changes = projectService.getProjectById(project.getId());
+        ProjectDTO update = new ProjectDTO();
+        update.setName("Renamed Project");
+        update.setStatus(changes.getStatus());
+        update.setCompletionPercentage(50);
+        projectService.updateProject(project.getId(), update);
+
+        assertThat(projectService.getProjectById(project.getId()).getName()).isEqualTo("Renamed Project");
+        assertThat(projectService.getProjectByCode("CACHE1").getCompletionPercentage()).isEqualTo(50);
+    }
+
+    @Test
+    void managerAssignmentsEvictCachedProject() {
+        projectService.getProjectByCode("CACHE1");
+
+        projectService.assignProjectManagerToProject(project.getId(), pm.getId());
+        assertThat(projectService.getProjectByCode("CACHE1").getProjectManagers()).hasSize(1);
+        assertThat(projectService.getProjectById(project.getId()).getProjectManagers()).hasSize(1);
+
+        projectService.removeProjectManagerFromProject(project.getId(), pm.getId());
+        assertThat(projectService.getProjectByCode("CACHE1").getProjectManagers()).isEmpty();
+        assertThat(projectService.getProjectById(project.getId()).getProjectManagers()).isEmpty();
+    }
+
+    @Test
+    void softDeletedProjectIsNoLongerServedByCode() {
+        projectService.getProjectByCode("CACHE1");
+
+        projectService.deleteProject(project.getId());
+
+        assertThatThrownBy(() -> projectService.getProjectByCode("CACHE1"))
+            .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void codeLookedUpInAnotherCaseIsEvictedWithTheProject() {
+        assertThat(projectService.getProjectByCode("cache1").getProjectCode()).isEqualTo("CACHE1");
+        Long version = projectService.getProjectVersionByCode("Cache1");
+
+        ProjectDTO update = new ProjectDTO();
+        update.setName("Renamed Project");
+        update.setStatus(ProjectStatus.IN_PROGRESS);
+        update.setCompletionPercentage(50);
+        projectService.updateProject(project.getId(), update);
+
+        assertThat(projectService.getProjectVersionByCode("Cache1")).isGreaterThan(version);
+        assertThat(projectService.getProjectByCode("cache1").getCompletionPercentage()).isEqualTo(50);
+
+        projectService.deleteProject(project.getId());
+
+        assertThatThrownBy(() -> projectService.getProjectByCode("cache1"))
+            .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
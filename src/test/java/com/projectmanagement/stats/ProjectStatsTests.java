@@ -0,0 +1,224 @@
+package com.projectmanagement.stats;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanagement.TestData;
+import com.projectmanagement.cache.ProjectCache;
+import com.projectmanagement.entity.Project;
+import com.projectmanagement.entity.ProjectManager;
+import com.projectmanagement.entity.ProjectStatus;
+import com.projectmanagement.repository.ProjectManagerRepository;
+import com.projectmanagement.repository.ProjectRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.projectmanagement.TestData.deleteAll;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProjectStatsTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectManagerRepository projectManagerRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ProjectStatsRollups projectStatsRollups;
+
+    @Autowired
+    private ProjectCache projectCache;
+
+    private ProjectManager alice;
+    private ProjectManager bob;
+    private Project portal;
+    private Project billing;
+
+    @BeforeEach
+    void seed() {
+        transactionTemplate.executeWithoutResult(tx -> {
+            alice = projectManagerRepository.save(manager("Alice Smith", "alice@company.com", "Engineering"));
+            bob = projectManagerRepository.save(manager("Bob Johnson", "bob@company.com", "Product"));
+
+            portal = project("STAT1", "Acme Corp", ProjectStatus.IN_PROGRESS, "1000.00", "400.00", 40);
+            portal.getProjectManagers().add(alice);
+            portal.getProjectManagers().add(bob);
+            billing = project("STAT2", "Acme Corp", ProjectStatus.PLANNING, "500.00", null, 0);
+            billing.getProjectManagers().add(alice);
+            Project archived = project("STAT3", "Globex", ProjectStatus.COMPLETED, "9999.00", "9999.00", 100);
+            archived.setIsActive(false);
+            projectRepository.saveAll(List.of(portal, billing, archived));
+        });
+        projectStatsRollups.rebuild();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        deleteAll(projectRepository, projectManagerRepository, projectCache);
+        projectStatsRollups.rebuild();
+    }
+
+    @Test
+    void rollsUpActiveProjectsByEveryDimension() throws Exception {
+        mockMvc.perform(get("/projects/stats"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total.projectCount").value(2))
+            .andExpect(jsonPath("$.total.totalBudget").value(1500.00))
+            .andExpect(jsonPath("$.total.totalActualCost").value(400.00))
+            .andExpect(jsonPath("$.total.averageCompletionPercentage").value(20.0))
+            .andExpect(jsonPath("$.byStatus.IN_PROGRESS.projectCount").value(1))
+            .andExpect(jsonPath("$.byStatus.COMPLETED").doesNotExist())
+            .andExpect(jsonPath("$.byClient['Acme Corp'].projectCount").value(2))
+            .andExpect(jsonPath("$.byDepartment.Engineering.projectCount").value(2))
+            .andExpect(jsonPath("$.byDepartment.Product.totalBudget").value(1000.00))
+            .andExpect(jsonPath("$.byProjectManager['" + alice.getId() + "'].projectCount").value(2));
+
+        mockMvc.perform(get("/projects/pm/{pmId}/stats", bob.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.projectCount").value(1))
+            .andExpect(jsonPath("$.averageCompletionPercentage").value(40.0));
+    }
+
+    @Test
+    void writesUpdateTheRollupsIncrementally() throws Exception {
+        mockMvc.perform(post("/projects").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Gateway\",\"projectCode\":\"STAT4\",\"status\":\"PLANNING\"," +
+                         "\"startDate\":\"2024-01-01\",\"clientName\":\"Globex\",\"budget\":250}"))
+            .andExpect(status().isCreated());
+        mockMvc.perform(put("/projects/{projectId}", billing.getId()).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Billing Engine\",\"status\":\"IN_PROGRESS\",\"budget\":800," +
+                         "\"actualCost\":100,\"completionPercentage\":50}"))
+            .andExpect(status().isOk());
+        mockMvc.perform(post("/projects/{projectId}/pm/{pmId}", billing.getId(), bob.getId()))
+            .andExpect(status().isOk());
+        mockMvc.perform(delete("/projects/{projectId}", portal.getId()))
+            .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/projects/stats"))
+            .andExpect(jsonPath("$.total.projectCount").value(2))
+            .andExpect(jsonPath("$.total.totalBudget").value(1050.00))
+            .andExpect(jsonPath("$.byStatus.IN_PROGRESS.totalActualCost").value(100.00))
+            .andExpect(jsonPath("$.byClient.Globex.projectCount").value(1))
+            .andExpect(jsonPath("$.byDepartment.Product.projectCount").value(1))
+            .andExpect(jsonPath("$.byProjectManager['" + bob.getId() + "'].totalBudget").value(800.00));
+
+        String incremental = mockMvc.perform(get("/projects/stats")).andReturn().getResponse().getContentAsString();
+        String rebuilt = mockMvc.perform(post("/projects/stats/rebuild"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        assertThat(objectMapper.readTree(incremental)).isEqualTo(objectMapper.readTree(rebuilt));
+    }
+
+    @Test
+    void concurrentRebuildsKeepChangesMadeWhileTheyRun() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> rebuilds = new ArrayList<>();
+            for (int i = 0; i < 12; i++) {
+                rebuilds.add(executor.submit(projectStatsRollups::rebuild));
+            }
+            mockMvc.perform(put("/projects/{projectId}", billing.getId()).contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"name\":\"Billing Engine\",\"status\":\"IN_PROGRESS\",\"budget\":800}"))
+                .andExpect(status().isOk());
+            for (Future<?> rebuild : rebuilds) {
+                rebuild.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        mockMvc.perform(get("/projects/stats"))
+            .andExpect(jsonPath("$.total.totalBudget").value(1800.00))
+            .andExpect(jsonPath("$.byStatus.IN_PROGRESS.projectCount").value(2));
+    }
+
+    @Test
+    void departmentChangeMovesTheManagersProjects() throws Exception {
+        transactionTemplate.executeWithoutResult(tx -> {
+            ProjectManager pm = projectManagerRepository.findById(bob.getId()).orElseThrow();
+            pm.setDepartment("Design");
+        });
+
+        mockMvc.perform(get("/projects/stats"))
+            .andExpect(jsonPath("$.byDepartment.Design.projectCount").value(1))
+            .andExpect(jsonPath("$.byDepartment.Design.totalBudget").value(1000.00))
+            .andExpect(jsonPath("$.byDepartment.Product").doesNotExist())
+            .andExpect(jsonPath("$.byDepartment.Engineering.projectCount").value(2));
+    }
+
+    @Test
+    void managerWithoutADepartmentCountsOnlyTowardsTheirOwnStats() throws Exception {
+        ProjectManager unassigned = projectManagerRepository.save(manager("Carol White", "carol@company.com", null));
+        mockMvc.perform(post("/projects/{projectId}/pm/{pmId}", billing.getId(), unassigned.getId()))
+            .andExpect(status().isOk());
+
+        String incremental = mockMvc.perform(get("/projects/stats"))
+            .andExpect(jsonPath("$.byProjectManager['" + unassigned.getId() + "'].projectCount").value(1))
+            .andExpect(jsonPath("$.byDepartment.length()").value(2))
+            .andExpect(jsonPath("$.byDepartment.Engineering.projectCount").value(2))
+            .andReturn().getResponse().getContentAsString();
+        String rebuilt = mockMvc.perform(post("/projects/stats/rebuild"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        assertThat(objectMapper.readTree(rebuilt)).isEqualTo(objectMapper.readTree(incremental));
+    }
+
+    @Test
+    void managerStatsDistinguishIdleFromUnknownManagers() throws Exception {
+        ProjectManager idle = projectManagerRepository.save(manager("Idle Manager", "idle@company.com", "QA"));
+
+        mockMvc.perform(get("/projects/pm/{pmId}/stats", idle.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.projectCount").value(0));
+        mockMvc.perform(get("/projects/pm/{pmId}/stats", idle.getId() + 1000))
+            .andExpect(status().isNotFound());
+    }
+
+    private static Project project(String code, String client, ProjectStatus status,
+                                   String budget, String actualCost, int completion) {
+        Project project = TestData.project(code);
+        project.setClientName(client);
+        project.setStatus(status);
+        project.setBudget(new BigDecimal(budget));
+        project.setActualCost(actualCost != null ? new BigDecimal(actualCost) : null);
+        project.setCompletionPercentage(completion);
+        return project;
+    }
+
+    private static ProjectManager manager(String name, String email, String department) {
+        return TestData.manager(name, email, email, department);
+    }
+}